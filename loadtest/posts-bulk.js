@@ -0,0 +1,55 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Trend } from "k6/metrics";
+
+// 게시글 일괄 등록 처리량 측정. 한 반복이 BULK_SIZE개를 한 요청으로 등록한다.
+//
+// 사용 예)
+//   k6 run -e BULK_SIZE=1000 loadtest/posts-bulk.js
+//   k6 run -e BULK_SIZE=10000 -e ITERATIONS=3 loadtest/posts-bulk.js
+// 서버의 JDBC URL에 rewriteBatchedStatements=true가 있어야 multi-row INSERT로 전송된다(application-local.yml 참고).
+// 서버 측 수치는 post.bulk.duration, post.bulk.created 메트릭으로도 확인할 수 있다.
+//
+// 비교 기준은 같은 건수를 POST /api/v1/posts로 하나씩 등록했을 때의 게시글/초다.
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+const BULK_SIZE = Number(__ENV.BULK_SIZE || "1000");
+// 쉼표로 구분한 태그 id. 비워두면 태그 없이 등록한다.
+const TAG_IDS = (__ENV.TAG_IDS || "").split(",").filter((id) => id).map(Number);
+const CATEGORIES = ["FOOD", "TECH", "TRAVEL"];
+
+const postsPerSecond = new Trend("bulk_posts_per_second");
+
+export const options = {
+    vus: 1,
+    iterations: Number(__ENV.ITERATIONS || "5"),
+    thresholds: {
+        http_req_failed: ["rate<0.01"],
+    },
+};
+
+export default function () {
+    const posts = [];
+    for (let i = 0; i < BULK_SIZE; i++) {
+        posts.push({
+            title: `bulk ${__ITER}-${i}`,
+            content: `bulk content ${__ITER}-${i}`,
+            category: CATEGORIES[i % CATEGORIES.length],
+            tagIds: TAG_IDS.length ? [TAG_IDS[i % TAG_IDS.length]] : [],
+            hashtags: [`bulk${i % 50}`, `load${i % 7}`],
+        });
+    }
+
+    const res = http.post(`${BASE_URL}/api/v1/posts/bulk`, JSON.stringify({ posts }), {
+        headers: { "Content-Type": "application/json" },
+        tags: { name: `bulk_${BULK_SIZE}` },
+        timeout: "120s",
+    });
+
+    const ok = check(res, {
+        "status is 200": (r) => r.status === 200,
+        "all created": (r) => r.status === 200 && r.json("created") === BULK_SIZE,
+    });
+    if (ok) {
+        postsPerSecond.add(BULK_SIZE / (res.timings.duration / 1000));
+    }
+}
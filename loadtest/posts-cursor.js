@@ -0,0 +1,27 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+const LIMIT = Number(__ENV.LIMIT || "20");
+// 시작 커서: 비워두면 첫 페이지부터, 깊은 페이지를 재현하려면 해당 위치의 id를 넘긴다.
+const START_CURSOR = __ENV.CURSOR || "";
+
+export const options = {
+    vus: Number(__ENV.VUS || "1"),
+    duration: __ENV.DURATION || "20s",
+    thresholds: {
+        http_req_failed: ["rate<0.01"],
+    },
+};
+
+export default function () {
+    const cursorParam = START_CURSOR ? `&cursor=${START_CURSOR}` : "";
+    const url = `${BASE_URL}/api/v1/posts?size=${LIMIT}${cursorParam}`;
+    const res = http.get(url, { tags: { name: START_CURSOR ? "cursor_deep" : "cursor_first" } });
+
+    check(res, {
+        "status is 200": (r) => r.status === 200,
+    });
+
+    sleep(0.2);
+}
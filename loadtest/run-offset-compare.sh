@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# OFFSET 깊이별로 posts-list.js를 반복 실행해 plot_compare_json.py 입력 형식으로 결과를 남긴다.
+#
+# 사용 예)
+#   # 1) 서버를 app.post.offset-paging-strategy=NAIVE 로 띄운 뒤
+#   ./loadtest/run-offset-compare.sh naive
+#   # 2) 서버를 DEFERRED_JOIN(기본값)으로 다시 띄운 뒤
+#   ./loadtest/run-offset-compare.sh deferred_join
+#   # 3) 비교 그래프 생성
+#   python loadtest/plot_compare_json.py \
+#       --series naive=out/raw/naive \
+#       --series deferred_join=out/raw/deferred_join \
+#       --tag deferred_join
+set -euo pipefail
+
+LABEL="${1:?label required (e.g. naive, deferred_join)}"
+OFFSETS="${OFFSETS:-0 10000 100000 1000000}"
+RUNS="${RUNS:-3}"
+LIMIT="${LIMIT:-20}"
+DURATION="${DURATION:-20s}"
+VUS="${VUS:-1}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+OUT_DIR="out/raw/${LABEL}"
+mkdir -p "${OUT_DIR}"
+
+for offset in ${OFFSETS}; do
+  for run in $(seq 1 "${RUNS}"); do
+    echo "[${LABEL}] offset=${offset} run=${run}"
+    k6 run \
+      -e BASE_URL="${BASE_URL}" \
+      -e OFFSET="${offset}" \
+      -e LIMIT="${LIMIT}" \
+      -e DURATION="${DURATION}" \
+      -e VUS="${VUS}" \
+      --summary-export "${OUT_DIR}/offset_${offset}_run${run}.json" \
+      "${SCRIPT_DIR}/posts-list.js"
+  done
+done
@@ -0,0 +1,82 @@
+package com.sungho.trendboard.application.hashtag;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zipf 분포 해시태그 입력에서 스케치(Count-Min + Space-Saving)와 정확한 HashMap 집계의 처리량을 비교한다.
+ *
+ * <pre>./gradlew jmh -PjmhArgs='HashtagSketchBenchmark'</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashtagSketchBenchmark {
+
+    private static final int STREAM_LENGTH = 1 << 16;
+
+    @Param({"10000", "1000000"})
+    private int distinct;
+
+    private String[] stream;
+    private int cursor;
+    private HashtagFrequencySketch sketch;
+    private Map<String, Long> exact;
+
+    @Setup(Level.Trial)
+    public void setUpStream() {
+        double[] cdf = new double[distinct];
+        double sum = 0;
+        for (int k = 1; k <= distinct; k++) {
+            sum += 1 / Math.pow(k, 1.1);
+            cdf[k - 1] = sum;
+        }
+        Random random = new Random(42);
+        stream = new String[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            stream[i] = "tag-" + Math.min(index >= 0 ? index : -index - 1, distinct - 1);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        sketch = new HashtagFrequencySketch(0.005, 0.01, 200);
+        exact = new HashMap<>();
+    }
+
+    @Benchmark
+    public void sketchAdd() {
+        sketch.add(next());
+    }
+
+    @Benchmark
+    public Long exactAdd() {
+        return exact.merge(next(), 1L, Long::sum);
+    }
+
+    private String next() {
+        String item = stream[cursor];
+        cursor = (cursor + 1) & (STREAM_LENGTH - 1);
+        return item;
+    }
+}
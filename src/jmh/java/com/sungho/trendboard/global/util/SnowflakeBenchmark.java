@@ -0,0 +1,93 @@
+package com.sungho.trendboard.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 한 노드의 id 발급 처리량을 스레드 수별로 비교한다: 이전 synchronized 구현, CAS 구현, CAS + 스레드별 시퀀스 구간 대여.
+ *
+ * <p>비트 배치상 노드당 상한은 밀리초당 4096개(4.096 ops/us)이고, 실제 시계로 재면 세 구현 모두 이 상한에 붙어 차이가 보이지 않는다.
+ * 그래서 시계를 1000배 빠르게 돌려(실제 1us = 1ms) 상한을 4096 ops/us로 올리고, 시퀀스 소진 대기 없이 발급 경로 자체의 비용과 경합만 잰다.
+ * 시계는 System.nanoTime()에서 읽기만 하므로 스레드 사이에 공유 쓰기를 더하지 않는다.</p>
+ *
+ * <p>스레드 수는 하위 클래스의 {@link Threads}로 1/8/64를 함께 돈다. 한 스레드 수만 보려면 하위 클래스 이름으로 고른다.</p>
+ *
+ * <pre>./gradlew jmh -PjmhArgs="SnowflakeBenchmark"
+ * ./gradlew jmh -PjmhArgs="SnowflakeBenchmark.Threads8"</pre>
+ *
+ * <p>기록 (1 vCPU 컨테이너, OpenJDK 17.0.9, 단위 ops/us, 5회 측정 평균 ± 99.9% 오차). 상한(4096 ops/us)보다 훨씬 낮아 소진 대기는 없다.
+ * 코어가 하나라 스레드가 동시에 돌지 않으므로 CAS 재시도나 캐시 라인 경합은 거의 드러나지 않고, 잠금 비용과 호출당 비용 차이만 보인다.
+ * 64스레드 경합 비교는 코어가 여러 개인 장비에서 다시 재야 한다.</p>
+ * <pre>
+ * threads  synchronized      cas               leased
+ * 1        12.086 ± 0.297    14.686 ± 1.001    13.974 ± 1.625
+ * 8        14.154 ± 2.861    15.061 ± 2.294    16.223 ± 2.723
+ * 64       11.824 ± 2.595    14.349 ± 2.822    16.114 ± 3.972
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class SnowflakeBenchmark {
+
+    private static final long CLOCK_SPEEDUP = 1_000L;
+
+    private final LongSupplier clock = fastClock();
+    private final SynchronizedSnowflake synchronizedSnowflake = new SynchronizedSnowflake(1L, clock);
+    private final Snowflake casSnowflake = snowflake(1);
+    private final Snowflake leasingSnowflake = snowflake(64);
+
+    @Benchmark
+    public long synchronizedNextId() {
+        return synchronizedSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long casNextId() {
+        return casSnowflake.nextId();
+    }
+
+    @Benchmark
+    public long leasedNextId() {
+        return leasingSnowflake.nextId();
+    }
+
+    private Snowflake snowflake(int leaseSize) {
+        return new Snowflake(1L, leaseSize, Snowflake.RollbackPolicy.WAIT, Snowflake.DEFAULT_MAX_ROLLBACK_WAIT,
+                clock, new SimpleMeterRegistry());
+    }
+
+    // 실제 시각에서 출발해 1000배 빠르게 흐르는 단조 시계 (epoch 밀리초)
+    private static LongSupplier fastClock() {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        return () -> startMillis + (System.nanoTime() - startNanos) * CLOCK_SPEEDUP / 1_000_000L;
+    }
+
+    @Threads(1)
+    public static class Threads1 extends SnowflakeBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends SnowflakeBenchmark {
+    }
+
+    @Threads(64)
+    public static class Threads64 extends SnowflakeBenchmark {
+    }
+}
@@ -0,0 +1,57 @@
+package com.sungho.trendboard.global.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 잠금 없는 {@link Snowflake}와 비교하기 위해 남겨 둔 이전 구현 (synchronized + busy-spin).
+ */
+final class SynchronizedSnowflake {
+
+    // 2025-01-01 00:00:00 UTC
+    private static final long CUSTOM_EPOCH = 1735689600000L;
+
+    private static final long MACHINE_ID_BITS = 10L;
+    private static final long SEQUENCE_BITS = 12L;
+
+    private static final long MAX_MACHINE_ID = (1L << MACHINE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long machineId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    SynchronizedSnowflake(long machineId, LongSupplier clock) {
+        if (machineId < 0 || machineId > MAX_MACHINE_ID) {
+            throw new IllegalArgumentException("machineId는 0~" + MAX_MACHINE_ID + " 범위여야 합니다.");
+        }
+        this.machineId = machineId;
+        this.clock = clock;
+    }
+
+    synchronized long nextId() {
+        long currentTimestamp = clock.getAsLong() - CUSTOM_EPOCH;
+
+        if (currentTimestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                currentTimestamp = waitNextMillis(currentTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = currentTimestamp;
+
+        return (currentTimestamp << (MACHINE_ID_BITS + SEQUENCE_BITS))
+                | (machineId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long currentTimestamp) {
+        while (currentTimestamp <= lastTimestamp) {
+            currentTimestamp = clock.getAsLong() - CUSTOM_EPOCH;
+        }
+        return currentTimestamp;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.hashtag.HashtagTrendService;
+import com.sungho.trendboard.application.hashtag.dto.HashtagTrendResponse;
+import com.sungho.trendboard.application.hashtag.dto.TrendingHashtagsRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/hashtags")
+public class HashtagController {
+
+    private final HashtagTrendService hashtagTrendService;
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<HashtagTrendResponse>> getTrending(@ModelAttribute @Valid TrendingHashtagsRequest request) {
+        return ResponseEntity.ok(hashtagTrendService.getTrending(request));
+    }
+}
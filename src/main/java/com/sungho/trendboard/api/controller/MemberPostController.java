@@ -0,0 +1,35 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.post.PostQueryService;
+import com.sungho.trendboard.application.post.dto.MemberPostsRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/members/{memberId}/posts")
+public class MemberPostController {
+
+    private final PostQueryService postQueryService;
+
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<PostCardResponse>> getMemberPosts(@PathVariable Long memberId,
+                                                                               @ModelAttribute @Valid MemberPostsRequest request,
+                                                                               WebRequest webRequest) {
+        CursorPageResponse<PostCardResponse> page = postQueryService.getMemberPosts(memberId, request);
+        String etag = PostETags.ofFeed(page);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+}
@@ -1,22 +1,36 @@
 package com.sungho.trendboard.api.controller;
 
+import com.sungho.trendboard.application.post.BulkPostService;
+import com.sungho.trendboard.application.post.PostQueryService;
 import com.sungho.trendboard.application.post.PostService;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostRequest;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostResponse;
 import com.sungho.trendboard.application.post.dto.CreatePostRequest;
 import com.sungho.trendboard.application.post.dto.CreatePostResponse;
+import com.sungho.trendboard.application.post.dto.FrontPageRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.post.dto.PostFeedRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostResponse;
+import com.sungho.trendboard.application.view.PostViewService;
 import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.response.CursorPageResponse;
 import com.sungho.trendboard.global.web.LoginUser;
+import com.sungho.trendboard.infra.repository.dto.PostVersionRow;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/posts")
@@ -24,6 +38,45 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostService postService;
+    private final PostQueryService postQueryService;
+    private final PostViewService postViewService;
+    private final BulkPostService bulkPostService;
+
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<PostCardResponse>> getPosts(@ModelAttribute @Valid PostFeedRequest request,
+                                                                         WebRequest webRequest) {
+        CursorPageResponse<PostCardResponse> page = postQueryService.getFeed(request);
+        // 피드는 조회 자체는 필요하지만, 변경이 없으면 직렬화/전송을 생략한다.
+        String etag = PostETags.ofFeed(page);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    @GetMapping("/front-page")
+    public ResponseEntity<CursorPageResponse<PostCardResponse>> getFrontPage(@ModelAttribute @Valid FrontPageRequest request) {
+        return ResponseEntity.ok(postQueryService.getFrontPage(request));
+    }
+
+    @GetMapping("/{postId}")
+    public ResponseEntity<PostDetailResponse> getPost(@PathVariable Long postId,
+                                                      @LoginUser(required = false) CurrentUser currentUser,
+                                                      WebRequest webRequest) {
+        // 버전(캐시 또는 PK 조회)만으로 먼저 검증해 변경이 없으면 상세를 읽지 않고 304로 응답한다.
+        // 조회 수는 근사치로 보고 ETag에 넣지 않는다(weak ETag). 조회가 늘어도 304는 유지되고, 304 응답도 조회로 센다.
+        // Last-Modified는 초 단위라 같은 초 안의 수정이나 updated_at을 건드리지 않는 좋아요 변경을 놓치므로 보내지도, 비교하지도 않는다.
+        PostVersionRow version = postQueryService.getPostVersion(postId);
+        postViewService.recordView(postId, currentUser);
+        if (webRequest.checkNotModified(PostETags.ofPost(version.id(), version.updatedAt(), version.likeCount()))) {
+            return null;
+        }
+
+        PostDetailResponse detail = postQueryService.getPost(postId);
+        return ResponseEntity.ok()
+                .eTag(PostETags.ofPost(detail.id(), detail.updatedAt(), detail.likeCount()))
+                .body(detail);
+    }
 
     @PostMapping
     public ResponseEntity<CreatePostResponse> createPost(@LoginUser CurrentUser currentUser,
@@ -32,6 +85,15 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 항목별 성공/실패를 담아 200으로 응답한다. 요청 형식 자체가 잘못된 경우에만 400이다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreatePostResponse> createPosts(@LoginUser CurrentUser currentUser,
+                                                              @RequestBody @Valid BulkCreatePostRequest request) {
+        return ResponseEntity.ok(bulkPostService.createPosts(currentUser, request));
+    }
+
     @PutMapping("/{postId}")
     public ResponseEntity<UpdatePostResponse> updatePost(@PathVariable Long postId,
                                                          @LoginUser CurrentUser currentUser,
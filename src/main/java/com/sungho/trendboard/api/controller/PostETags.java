@@ -0,0 +1,72 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+
+/**
+ * 본문을 직렬화하지 않고 버전 정보만으로 ETag를 만든다.
+ *
+ * <p>strong ETag는 본문이 한 바이트라도 바뀌면 달라져야 한다. 피드 페이지는 본문의 버전 정보를 모두 담으므로 strong으로 만든다.
+ * 상세는 updatedAt 기반 strong ETag를 쓰지 않는다. 본문의 조회 수가 updatedAt과 무관하게 계속 바뀌기 때문이다.
+ * 그래서 "의미상 같은 게시글 버전"을 뜻하는 weak ETag로 만든다.
+ * If-None-Match는 weak 비교를 하므로 304 판정은 strong일 때와 같다.</p>
+ */
+final class PostETags {
+
+    private static final int FEED_DIGEST_BYTES = 16;
+
+    private PostETags() {
+    }
+
+    /**
+     * 상세: id + updated_at(마이크로초) + like_count. like_count는 updated_at을 갱신하지 않는 경로로도 바뀐다.
+     * 본문의 viewCount/uniqueViewers는 근사치라 넣지 않으므로, 같은 게시글 버전이면 조회 수가 달라도 같은 weak ETag다.
+     */
+    static String ofPost(Long postId, LocalDateTime updatedAt, int likeCount) {
+        return "W/\"p" + postId + "-" + epochMicros(updatedAt) + "-" + likeCount + "\"";
+    }
+
+    /**
+     * 피드 페이지: 첫 항목(최대) id와 각 항목의 (id, updated_at, like_count), 다음 커서를 묶은 다이제스트.
+     */
+    static String ofFeed(CursorPageResponse<PostCardResponse> page) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3);
+        for (PostCardResponse item : page.items()) {
+            buffer.clear();
+            buffer.putLong(item.id())
+                    .putLong(epochMicros(item.updatedAt()))
+                    .putLong(item.likeCount());
+            digest.update(buffer.array());
+        }
+        buffer.clear();
+        buffer.putLong(page.nextCursorId() == null ? 0L : page.nextCursorId())
+                .putLong(page.hasNext() ? 1L : 0L)
+                .putLong(page.size());
+        digest.update(buffer.array());
+
+        long maxId = page.items().isEmpty() ? 0L : page.items().get(0).id();
+        String hash = HexFormat.of().formatHex(digest.digest(), 0, FEED_DIGEST_BYTES);
+        return "\"f" + maxId + "-" + hash + "\"";
+    }
+
+    // 값 비교용이므로 시간대와 무관하게 UTC 기준 마이크로초로 고정한다 (DATETIME(6) 정밀도).
+    private static long epochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.like.PostLikeService;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.web.LoginUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/posts/{postId}/likes")
+public class PostLikeController {
+
+    private final PostLikeService postLikeService;
+
+    @PostMapping
+    public ResponseEntity<Void> like(@LoginUser CurrentUser currentUser, @PathVariable Long postId) {
+        postLikeService.like(currentUser, postId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> unlike(@LoginUser CurrentUser currentUser, @PathVariable Long postId) {
+        postLikeService.unlike(currentUser, postId);
+        return ResponseEntity.noContent().build();
+    }
+}
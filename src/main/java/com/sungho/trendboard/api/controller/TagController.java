@@ -0,0 +1,27 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.tag.TagPopularityService;
+import com.sungho.trendboard.application.tag.dto.PopularTagResponse;
+import com.sungho.trendboard.application.tag.dto.PopularTagsRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tags")
+public class TagController {
+
+    private final TagPopularityService tagPopularityService;
+
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularTagResponse>> getPopular(@ModelAttribute @Valid PopularTagsRequest request) {
+        return ResponseEntity.ok(tagPopularityService.getPopular(request));
+    }
+}
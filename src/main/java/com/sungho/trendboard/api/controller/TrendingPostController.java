@@ -0,0 +1,41 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.trending.TrendingService;
+import com.sungho.trendboard.application.trending.TrendingStreamService;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.domain.PostCategory;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/posts/trending")
+public class TrendingPostController {
+
+    private final TrendingService trendingService;
+    private final TrendingStreamService trendingStreamService;
+
+    @GetMapping
+    public ResponseEntity<List<TrendingPostResponse>> getTrending(@ModelAttribute @Valid TrendingPostsRequest request) {
+        return ResponseEntity.ok(trendingService.getTrending(request));
+    }
+
+    /**
+     * 첫 이벤트(snapshot)로 현재 순위를 보내고, 이후에는 바뀐 순위만(delta) 보낸다.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestParam(required = false) PostCategory category) {
+        return ResponseEntity.ok(trendingStreamService.subscribe(category));
+    }
+}
@@ -0,0 +1,119 @@
+package com.sungho.trendboard.application.hashtag;
+
+/**
+ * 고정 메모리 빈도 추정기 (Count-Min Sketch).
+ *
+ * <p>폭 w = ⌈e/ε⌉, 깊이 d = ⌈ln(1/δ)⌉일 때 추정값은 실제 횟수 이상이고,
+ * 확률 1-δ 이상으로 실제 횟수 + ε·N(전체 입력 수) 이하다.
+ * 최솟값 행만 올리는 conservative update를 써서 같은 메모리에서 과대 추정을 줄인다.</p>
+ *
+ * <p>스레드 안전하지 않다. 호출 측에서 동기화한다.</p>
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[] table;
+    private long total;
+
+    CountMinSketch(double epsilon, double delta) {
+        if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("epsilon, delta는 0과 1 사이여야 합니다.");
+        }
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.table = new int[width * depth];
+    }
+
+    private CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.table = new int[width * depth];
+    }
+
+    /**
+     * 같은 크기의 빈 스케치. 여러 스케치를 {@link #merge}로 합칠 때 사용한다.
+     */
+    CountMinSketch emptyCopy() {
+        return new CountMinSketch(width, depth);
+    }
+
+    /**
+     * count만큼 더하고 더한 뒤의 추정값을 반환한다.
+     */
+    long add(String item, int count) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[index(row, h1, h2)]);
+        }
+        int updated = min + count;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, h1, h2);
+            if (table[index] < updated) {
+                table[index] = updated;
+            }
+        }
+        total += count;
+        return updated;
+    }
+
+    long estimate(String item) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[index(row, h1, h2)]);
+        }
+        return min;
+    }
+
+    /**
+     * 같은 크기로 만든 스케치의 카운터를 더한다. 합친 결과도 두 입력 합에 대한 같은 오차 보장을 가진다.
+     */
+    void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+        total += other.total;
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * 현재 입력 수 기준 과대 추정 상한(ε·N).
+     */
+    long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    int memoryBytes() {
+        return table.length * Integer.BYTES;
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+
+    // String.hashCode는 32비트라 행마다 독립적인 인덱스를 만들기에 부족하므로 64비트 FNV-1a 뒤 splitmix64로 섞는다.
+    private static long hash(String item) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            h ^= item.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sungho.trendboard.application.hashtag;
+
+import com.sungho.trendboard.application.hashtag.HashtagTrendWindow.HashtagCount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 해시태그 빈도를 고정 메모리로 추정한다.
+ * Count-Min Sketch가 임의 해시태그의 횟수를 추정하고, Space-Saving 목록이 상위 후보를 붙잡아 둔다.
+ *
+ * <p>두 구조 모두 과대 추정만 하므로 추정값은 둘 중 작은 값을 쓴다.</p>
+ */
+final class HashtagFrequencySketch {
+
+    static final Comparator<HashtagCount> ORDER = Comparator.comparingLong(HashtagCount::count).reversed()
+            .thenComparing(HashtagCount::name);
+
+    private final CountMinSketch countMin;
+    private final SpaceSaving heavyHitters;
+
+    HashtagFrequencySketch(double epsilon, double delta, int heavyHitterCapacity) {
+        this.countMin = new CountMinSketch(epsilon, delta);
+        this.heavyHitters = new SpaceSaving(heavyHitterCapacity);
+    }
+
+    synchronized void add(String hashtag) {
+        countMin.add(hashtag, 1);
+        heavyHitters.offer(hashtag, 1);
+    }
+
+    synchronized long estimate(String hashtag) {
+        Long tracked = heavyHitters.count(hashtag);
+        long upperBound = tracked != null ? tracked : heavyHitters.untrackedUpperBound();
+        return Math.min(countMin.estimate(hashtag), upperBound);
+    }
+
+    synchronized List<HashtagCount> top(int limit) {
+        List<HashtagCount> result = new ArrayList<>();
+        for (String item : heavyHitters.items()) {
+            result.add(new HashtagCount(item, Math.min(countMin.estimate(item), heavyHitters.count(item))));
+        }
+        result.sort(ORDER);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * 이 스케치의 Count-Min 카운터를 target에 더하고 상위 후보를 candidates에 모은다.
+     */
+    synchronized void mergeInto(CountMinSketch target, Set<String> candidates) {
+        target.merge(countMin);
+        candidates.addAll(heavyHitters.items());
+    }
+
+    synchronized CountMinSketch emptyCountMin() {
+        return countMin.emptyCopy();
+    }
+
+    synchronized long total() {
+        return countMin.total();
+    }
+
+    synchronized long errorBound() {
+        return countMin.errorBound();
+    }
+}
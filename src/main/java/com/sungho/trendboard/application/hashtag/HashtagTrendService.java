@@ -0,0 +1,81 @@
+package com.sungho.trendboard.application.hashtag;
+
+import com.sungho.trendboard.application.hashtag.dto.HashtagTrendResponse;
+import com.sungho.trendboard.application.hashtag.dto.TrendingHashtagsRequest;
+import com.sungho.trendboard.application.post.HashtagsAddedEvent;
+import com.sungho.trendboard.infra.repository.PostHashtagRepository;
+import com.sungho.trendboard.infra.repository.dto.HashtagOccurrenceRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 게시글 작성/수정 시 새로 붙은 해시태그를 분 단위로 세어 최근 구간의 인기 해시태그를 제공한다.
+ * 재시작 후에는 post_hashtag.created_at으로 최대 구간만큼 다시 채운다.
+ *
+ * <p>버킷당 메모리는 해시태그 종류와 무관하게 고정이다(기본값 기준 Count-Min 약 11KB + 후보 200개).
+ * 횟수는 추정값이며 실제보다 작지 않고, 확률 1-delta로 실제 + epsilon x 구간 전체 해시태그 수 이하다.</p>
+ */
+@Slf4j
+@Service
+public class HashtagTrendService {
+
+    private final HashtagTrendWindow window;
+    private final PostHashtagRepository postHashtagRepository;
+    private final Clock clock;
+
+    @Autowired
+    public HashtagTrendService(PostHashtagRepository postHashtagRepository,
+                               @Value("${app.hashtag.trend.sketch.epsilon:0.005}") double epsilon,
+                               @Value("${app.hashtag.trend.sketch.delta:0.01}") double delta,
+                               @Value("${app.hashtag.trend.sketch.heavy-hitters:200}") int heavyHitters) {
+        this(postHashtagRepository, new HashtagTrendWindow(
+                (int) TrendingHashtagsRequest.MAX_WINDOW.toMinutes(), epsilon, delta, heavyHitters), Clock.systemDefaultZone());
+    }
+
+    HashtagTrendService(PostHashtagRepository postHashtagRepository, HashtagTrendWindow window, Clock clock) {
+        this.postHashtagRepository = postHashtagRepository;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public List<HashtagTrendResponse> getTrending(TrendingHashtagsRequest request) {
+        return window.top((int) request.window().toMinutes(), request.limit(), nowMinute()).stream()
+                .map(count -> new HashtagTrendResponse(count.name(), count.count()))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHashtagsAdded(HashtagsAddedEvent event) {
+        long now = nowMinute();
+        event.hashtags().forEach(hashtag -> window.record(hashtag, now, now));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long now = nowMinute();
+        LocalDateTime since = LocalDateTime.now(clock).minus(TrendingHashtagsRequest.MAX_WINDOW);
+        List<HashtagOccurrenceRow> rows = postHashtagRepository.findOccurrencesSince(since);
+        rows.forEach(row -> window.record(row.name(), toEpochMinute(row.createdAt()), now));
+        log.info("해시태그 트렌드 초기 적재: occurrences={}", rows.size());
+    }
+
+    private long nowMinute() {
+        return Math.floorDiv(clock.millis(), 60_000L);
+    }
+
+    // created_at은 애플리케이션 기본 시간대의 LocalDateTime으로 저장된다(JPA auditing).
+    private long toEpochMinute(LocalDateTime createdAt) {
+        return Math.floorDiv(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 60_000L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.sungho.trendboard.application.hashtag;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 분 단위 버킷 링 버퍼로 최근 N분간 해시태그 출현 횟수를 추정한다.
+ *
+ * <p>슬롯은 (epoch 분 % 버킷 수)로 정하고, 버킷마다 자기 분을 기록해 둔다.
+ * 슬롯의 분이 다르면 만료된 버킷이므로 새 버킷 객체로 교체만 하면 되어(O(1)) 오래된 버킷을 따로 지우지 않는다.
+ * 조회 시에도 분이 맞지 않는 슬롯은 건너뛴다.</p>
+ *
+ * <p>해시태그는 자유 입력이라 종류가 무한히 늘 수 있으므로, 버킷은 정확한 카운터 대신 고정 크기
+ * {@link HashtagFrequencySketch}를 가진다. 구간 조회는 버킷들의 Count-Min을 합쳐(합쳐도 오차 보장이 유지된다)
+ * 버킷별 heavy hitter 후보의 횟수를 추정한다. 구간 전체 N에 대해 N/후보수를 넘는 해시태그는 어느 버킷에서든 후보로 남는다.</p>
+ */
+class HashtagTrendWindow {
+
+    private final AtomicReferenceArray<MinuteBucket> buckets;
+    private final int bucketCount;
+    private final double epsilon;
+    private final double delta;
+    private final int heavyHitterCapacity;
+
+    HashtagTrendWindow(int bucketCount, double epsilon, double delta, int heavyHitterCapacity) {
+        this.bucketCount = bucketCount;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.heavyHitterCapacity = heavyHitterCapacity;
+    }
+
+    /**
+     * epochMinute 버킷에 해시태그 출현을 기록한다. 링 버퍼 범위를 벗어난 과거 분은 무시한다.
+     */
+    void record(String hashtag, long epochMinute, long nowMinute) {
+        if (epochMinute <= nowMinute - bucketCount || epochMinute > nowMinute) {
+            return;
+        }
+        bucketOf(epochMinute).sketch.add(hashtag);
+    }
+
+    /**
+     * nowMinute를 포함한 최근 windowMinutes분 동안 많이 나온 해시태그를 추정 횟수 내림차순(같으면 이름순)으로 반환한다.
+     */
+    List<HashtagCount> top(int windowMinutes, int limit, long nowMinute) {
+        int minutes = Math.min(windowMinutes, bucketCount);
+        CountMinSketch merged = null;
+        Set<String> candidates = new HashSet<>();
+        for (long minute = nowMinute - minutes + 1; minute <= nowMinute; minute++) {
+            MinuteBucket bucket = buckets.get(slot(minute));
+            if (bucket == null || bucket.minute != minute) {
+                continue;
+            }
+            if (merged == null) {
+                merged = bucket.sketch.emptyCountMin();
+            }
+            bucket.sketch.mergeInto(merged, candidates);
+        }
+        if (merged == null) {
+            return List.of();
+        }
+
+        PriorityQueue<HashtagCount> heap = new PriorityQueue<>(limit + 1, HashtagFrequencySketch.ORDER.reversed());
+        for (String candidate : candidates) {
+            heap.add(new HashtagCount(candidate, merged.estimate(candidate)));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<HashtagCount> result = new ArrayList<>(heap);
+        result.sort(HashtagFrequencySketch.ORDER);
+        return result;
+    }
+
+    private MinuteBucket bucketOf(long epochMinute) {
+        int slot = slot(epochMinute);
+        while (true) {
+            MinuteBucket current = buckets.get(slot);
+            if (current != null && current.minute == epochMinute) {
+                return current;
+            }
+            if (current != null && current.minute > epochMinute) {
+                // 늦게 도착한 과거 분이 이미 재사용된 슬롯을 가리키면 버린다.
+                return newBucket(epochMinute);
+            }
+            MinuteBucket fresh = newBucket(epochMinute);
+            if (buckets.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private MinuteBucket newBucket(long epochMinute) {
+        return new MinuteBucket(epochMinute, new HashtagFrequencySketch(epsilon, delta, heavyHitterCapacity));
+    }
+
+    private int slot(long epochMinute) {
+        return (int) Math.floorMod(epochMinute, (long) bucketCount);
+    }
+
+    record HashtagCount(String name, long count) {
+    }
+
+    private record MinuteBucket(long minute, HashtagFrequencySketch sketch) {
+    }
+}
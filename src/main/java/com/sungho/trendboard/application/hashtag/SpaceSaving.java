@@ -0,0 +1,84 @@
+package com.sungho.trendboard.application.hashtag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 최대 capacity개 항목만 추적하는 heavy hitter 목록 (Space-Saving).
+ *
+ * <p>목록이 가득 찼을 때 새 항목은 가장 작은 카운터를 물려받는다(횟수 = 최솟값 + 1).
+ * 전체 입력 N에 대해 실제 횟수가 N/capacity를 넘는 항목은 반드시 목록에 남는다.</p>
+ *
+ * <p>스레드 안전하지 않다. 호출 측에서 동기화한다.</p>
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeSet<Counter> byCount = new TreeSet<>(
+            Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.order));
+    private long nextOrder;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void offer(String item, long count) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count += count;
+            byCount.add(counter);
+            return;
+        }
+
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.item);
+            inherited = evicted.count;
+        }
+        Counter added = new Counter(item, inherited + count, nextOrder++);
+        counters.put(item, added);
+        byCount.add(added);
+    }
+
+    /**
+     * 추적하지 않는 항목이 가질 수 있는 최대 횟수. 목록이 차기 전에는 0이다.
+     */
+    long untrackedUpperBound() {
+        return counters.size() < capacity ? 0 : byCount.first().count;
+    }
+
+    /**
+     * 추적 중이면 과대 추정 횟수, 아니면 null.
+     */
+    Long count(String item) {
+        Counter counter = counters.get(item);
+        return counter == null ? null : counter.count;
+    }
+
+    List<String> items() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    private static final class Counter {
+        private final String item;
+        private final long order;
+        private long count;
+
+        private Counter(String item, long count, long order) {
+            this.item = item;
+            this.count = count;
+            this.order = order;
+        }
+    }
+}
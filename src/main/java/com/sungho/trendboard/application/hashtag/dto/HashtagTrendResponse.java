@@ -0,0 +1,7 @@
+package com.sungho.trendboard.application.hashtag.dto;
+
+public record HashtagTrendResponse(
+        String name,
+        long count
+) {
+}
@@ -0,0 +1,35 @@
+package com.sungho.trendboard.application.hashtag.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DurationFormat;
+
+import java.time.Duration;
+
+public record TrendingHashtagsRequest(
+        @DurationFormat(style = DurationFormat.Style.SIMPLE)
+        Duration window,
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "조회 개수는 100 이하여야 합니다.")
+        Integer limit
+) {
+    public static final Duration MAX_WINDOW = Duration.ofHours(24);
+    private static final Duration DEFAULT_WINDOW = Duration.ofHours(1);
+    private static final int DEFAULT_LIMIT = 20;
+
+    public TrendingHashtagsRequest {
+        if (window == null) {
+            window = DEFAULT_WINDOW;
+        }
+        if (limit == null) {
+            limit = DEFAULT_LIMIT;
+        }
+    }
+
+    @AssertTrue(message = "조회 구간은 1분 이상 24시간 이하여야 합니다.")
+    public boolean isWindowInRange() {
+        return window.compareTo(Duration.ofMinutes(1)) >= 0 && window.compareTo(MAX_WINDOW) <= 0;
+    }
+}
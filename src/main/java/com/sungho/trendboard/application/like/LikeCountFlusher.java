@@ -0,0 +1,129 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.application.post.PostDetailCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link LikeCountBuffer}의 증감을 주기적으로 post.like_count에 반영한다 (write-behind).
+ *
+ * <p>id 오름차순으로 정렬한 뒤 청크 단위 트랜잭션에서 배치 UPDATE 하므로 행 잠금 획득 순서가 일정해 교착이 생기지 않는다.
+ * 청크 반영에 실패하면(DB 오류뿐 아니라 트랜잭션 시작/커밋 실패 등 어떤 런타임 예외든) 해당 청크부터의 증감과
+ * 미반영 시작 시각을 버퍼에 되돌려 다음 주기에 다시 시도한다. 지연 지표는 모두 반영했을 때만 기록한다.</p>
+ *
+ * <p>반영할 때마다 like_count_updated_at도 갱신해, 다른 노드의 {@link LikeCountReconciler}가 대조 도중 바뀐 행을 알아보게 한다.</p>
+ */
+@Slf4j
+@Component
+public class LikeCountFlusher {
+
+    private static final String UPDATE_SQL =
+            "UPDATE post SET like_count = GREATEST(like_count + ?, 0), like_count_updated_at = NOW(6) WHERE id = ?";
+
+    private final LikeCountBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final int chunkSize;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Timer flushDuration;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LikeCountFlusher(LikeCountBuffer buffer,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            PostDetailCache postDetailCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.like.flush-chunk-size:500}") int chunkSize) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postDetailCache = postDetailCache;
+        this.chunkSize = chunkSize;
+        this.flushSize = DistributionSummary.builder("like.flush.size")
+                .description("flush 한 번에 반영한 게시글 수")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("like.flush.lag")
+                .description("가장 오래된 미반영 좋아요가 DB에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder("like.flush.duration")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.like.flush-interval:1s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        long pendingSince = buffer.takePendingSinceNanos();
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int applied = 0;
+        try {
+            for (int from = 0; from < entries.size(); from += chunkSize) {
+                List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, toArgs(chunk)));
+                // 커밋된 청크는 캐시 무효화가 실패해도 다시 반영하지 않도록 먼저 센다.
+                applied += chunk.size();
+                chunk.forEach(entry -> postDetailCache.invalidate(entry.getKey()));
+            }
+        } catch (RuntimeException e) {
+            List<Map.Entry<Long, Long>> unapplied = entries.subList(applied, entries.size());
+            log.warn("좋아요 수 반영 실패, 다음 주기에 재시도: appliedPosts={}, pendingPosts={}", applied, unapplied.size(), e);
+            unapplied.forEach(entry -> buffer.add(entry.getKey(), entry.getValue()));
+            if (!unapplied.isEmpty()) {
+                buffer.restorePendingSince(pendingSince);
+            }
+            flushSize.record(applied);
+            flushDuration.record(Duration.ofNanos(System.nanoTime() - startedAt));
+            return;
+        }
+
+        flushSize.record(applied);
+        flushDuration.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        if (pendingSince != 0L) {
+            flushLag.record(Duration.ofNanos(System.nanoTime() - pendingSince));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static List<Object[]> toArgs(List<Map.Entry<Long, Long>> chunk) {
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (Map.Entry<Long, Long> entry : chunk) {
+            args.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        return args;
+    }
+}
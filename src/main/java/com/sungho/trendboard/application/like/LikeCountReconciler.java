@@ -0,0 +1,251 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.application.post.PostDetailCache;
+import com.sungho.trendboard.global.config.SchedulingConfig;
+import com.sungho.trendboard.global.util.ClusterLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * post.like_count를 원본(post_like 행 수)과 대조해 어긋난 행만 고치는 백그라운드 작업.
+ *
+ * <p>write-behind 카운터는 비정상 종료, 일부만 반영된 flush, 수동 DB 수정 등으로 어긋날 수 있다.
+ * post를 Snowflake id 오름차순 청크로 훑으며 청크마다 쿼리 한 번으로 저장된 값과 실제 좋아요 수를 함께 읽고
+ * (post_like의 (post_id, member_id) 유니크 키로 인덱스만 읽는다), 다른 행만 모아 둔다.</p>
+ *
+ * <p>어느 노드든 좋아요 행은 커밋했지만 like_count에는 아직 반영하지 않은 증감을 가질 수 있으므로, 읽은 직후에 고치지 않는다.
+ * 읽은 시점부터 대기 시간(settle-delay, flush 주기보다 길게)이 지난 뒤 like_count와 like_count_updated_at이 읽은 값 그대로일 때만
+ * 고친다. 그 사이 어느 노드든 flush 했다면 like_count_updated_at이 바뀌어 건너뛰고, 대기 후에 생긴 증감은 고친 값 위에 더해진다.
+ * flush가 대기 시간보다 오래 실패하면 잘못 고칠 수 있지만 다음 실행에서 다시 맞춰진다.</p>
+ *
+ * <p>여러 노드 중 {@link ClusterLock}을 잡은 한 곳에서만 실행하고, 부하 예산만큼 쉬며 오래 돌므로 전용 스케줄러 스레드에서 실행한다.
+ * DB 부하 예산(load-budget)은 작업 시간 중 DB 쿼리에 쓰는 비율의 상한이다. 청크마다 쿼리에 걸린 시간에 비례해 쉰다.</p>
+ */
+@Slf4j
+@Component
+public class LikeCountReconciler {
+
+    private static final String LOCK_NAME = "trendboard.like-count-reconcile";
+
+    private static final String SCAN_SQL = """
+            SELECT p.id, p.like_count, p.like_count_updated_at,
+                   (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id) AS actual_count
+            FROM post p
+            WHERE p.id > ?
+            ORDER BY p.id
+            LIMIT ?
+            """;
+
+    private static final String FIX_SQL = """
+            UPDATE post SET like_count = ?, like_count_updated_at = NOW(6)
+            WHERE id = ? AND like_count = ? AND like_count_updated_at <=> ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final PostDetailCache postDetailCache;
+    private final int chunkSize;
+    private final double loadBudget;
+    private final long settleDelayNanos;
+    private final Sleeper sleeper;
+
+    private final Counter scannedPosts;
+    private final Counter driftedPosts;
+    private final DistributionSummary driftSize;
+    private final Timer runDuration;
+
+    @Autowired
+    public LikeCountReconciler(JdbcTemplate jdbcTemplate,
+                               ClusterLock clusterLock,
+                               PostDetailCache postDetailCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.like.reconcile.chunk-size:1000}") int chunkSize,
+                               @Value("${app.like.reconcile.load-budget:0.2}") double loadBudget,
+                               @Value("${app.like.reconcile.settle-delay:10s}") Duration settleDelay) {
+        this(jdbcTemplate, clusterLock, postDetailCache, meterRegistry, chunkSize, loadBudget, settleDelay,
+                TimeUnit.NANOSECONDS::sleep);
+    }
+
+    LikeCountReconciler(JdbcTemplate jdbcTemplate,
+                        ClusterLock clusterLock,
+                        PostDetailCache postDetailCache,
+                        MeterRegistry meterRegistry,
+                        int chunkSize,
+                        double loadBudget,
+                        Duration settleDelay,
+                        Sleeper sleeper) {
+        if (loadBudget <= 0 || loadBudget > 1) {
+            throw new IllegalArgumentException("load-budget은 0 초과 1 이하여야 합니다: " + loadBudget);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLock = clusterLock;
+        this.postDetailCache = postDetailCache;
+        this.chunkSize = chunkSize;
+        this.loadBudget = loadBudget;
+        this.settleDelayNanos = settleDelay.toNanos();
+        this.sleeper = sleeper;
+        this.scannedPosts = Counter.builder("like.reconcile.scanned")
+                .description("대조한 게시글 수")
+                .register(meterRegistry);
+        this.driftedPosts = Counter.builder("like.reconcile.drifted")
+                .description("like_count가 실제 좋아요 수와 달랐던 게시글 수")
+                .register(meterRegistry);
+        this.driftSize = DistributionSummary.builder("like.reconcile.drift")
+                .description("어긋난 게시글별 like_count 오차 절댓값")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("like.reconcile.duration")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드가 대조 중이면 이번 주기는 건너뛰고 비어 있는 값을 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${app.like.reconcile.interval:6h}",
+            initialDelayString = "${app.like.reconcile.initial-delay:10m}",
+            scheduler = SchedulingConfig.LIKE_RECONCILE_SCHEDULER)
+    public Optional<LikeDriftReport> reconcile() {
+        Optional<LikeDriftReport> report = clusterLock.tryRun(LOCK_NAME, this::reconcileAll);
+        if (report.isEmpty()) {
+            log.info("다른 노드에서 좋아요 수 대조 중이라 이번 주기는 건너뜀");
+        }
+        return report;
+    }
+
+    private LikeDriftReport reconcileAll() {
+        long startedAt = System.nanoTime();
+        List<CountRow> drifted = new ArrayList<>();
+        long scanned = 0L;
+        long fixed = 0L;
+        long lastId = 0L;
+        try {
+            while (true) {
+                long chunkStartedAt = System.nanoTime();
+                List<CountRow> rows = scan(lastId);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                collectDrifted(rows, drifted);
+                scanned += rows.size();
+                lastId = rows.get(rows.size() - 1).postId();
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                throttle(System.nanoTime() - chunkStartedAt);
+            }
+            for (int from = 0; from < drifted.size(); from += chunkSize) {
+                List<CountRow> chunk = drifted.subList(from, Math.min(from + chunkSize, drifted.size()));
+                awaitSettled(chunk.get(chunk.size() - 1));
+                fixed += fix(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("좋아요 수 대조 중단: lastId={}", lastId);
+        }
+
+        LikeDriftReport result = report(scanned, drifted, fixed, Duration.ofNanos(System.nanoTime() - startedAt));
+        runDuration.record(result.duration());
+        log.info("좋아요 수 대조 완료: scanned={}, drifted={}, fixed={}, netDrift={}, totalDrift={}, maxDrift={}, duration={}",
+                result.scannedPosts(), result.driftedPosts(), result.fixedPosts(),
+                result.netDrift(), result.totalAbsoluteDrift(), result.maxAbsoluteDrift(), result.duration());
+        return result;
+    }
+
+    private List<CountRow> scan(long afterId) {
+        return jdbcTemplate.query(SCAN_SQL,
+                (rs, rowNum) -> new CountRow(rs.getLong("id"), rs.getLong("like_count"),
+                        rs.getTimestamp("like_count_updated_at"), rs.getLong("actual_count"), System.nanoTime()),
+                afterId, chunkSize);
+    }
+
+    private void collectDrifted(List<CountRow> rows, List<CountRow> drifted) {
+        for (CountRow row : rows) {
+            if (row.storedCount() == row.actualCount()) {
+                continue;
+            }
+            long drift = row.storedCount() - row.actualCount();
+            driftedPosts.increment();
+            driftSize.record(Math.abs(drift));
+            drifted.add(row);
+        }
+        scannedPosts.increment(rows.size());
+    }
+
+    private void awaitSettled(CountRow latest) throws InterruptedException {
+        long remainingNanos = latest.scannedAtNanos() + settleDelayNanos - System.nanoTime();
+        if (remainingNanos > 0) {
+            sleeper.sleep(remainingNanos);
+        }
+    }
+
+    private int fix(List<CountRow> drifted) {
+        List<Object[]> args = new ArrayList<>(drifted.size());
+        for (CountRow row : drifted) {
+            args.add(new Object[]{row.actualCount(), row.postId(), row.storedCount(), row.updatedAt()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(FIX_SQL, args);
+
+        int fixedCount = 0;
+        for (int i = 0; i < drifted.size(); i++) {
+            CountRow row = drifted.get(i);
+            boolean fixed = updated[i] != 0;
+            if (fixed) {
+                fixedCount++;
+                postDetailCache.invalidate(row.postId());
+            }
+            log.debug("좋아요 수 불일치: postId={}, stored={}, actual={}, fixed={}",
+                    row.postId(), row.storedCount(), row.actualCount(), fixed);
+        }
+        return fixedCount;
+    }
+
+    private static LikeDriftReport report(long scanned, List<CountRow> drifted, long fixed, Duration duration) {
+        long netDrift = 0L;
+        long totalAbsoluteDrift = 0L;
+        long maxAbsoluteDrift = 0L;
+        for (CountRow row : drifted) {
+            long drift = row.storedCount() - row.actualCount();
+            netDrift += drift;
+            totalAbsoluteDrift += Math.abs(drift);
+            maxAbsoluteDrift = Math.max(maxAbsoluteDrift, Math.abs(drift));
+        }
+        return LikeDriftReport.builder()
+                .scannedPosts(scanned)
+                .driftedPosts(drifted.size())
+                .fixedPosts(fixed)
+                .netDrift(netDrift)
+                .totalAbsoluteDrift(totalAbsoluteDrift)
+                .maxAbsoluteDrift(maxAbsoluteDrift)
+                .duration(duration)
+                .build();
+    }
+
+    private void throttle(long busyNanos) throws InterruptedException {
+        long pauseNanos = (long) (busyNanos * (1 - loadBudget) / loadBudget);
+        if (pauseNanos > 0) {
+            sleeper.sleep(pauseNanos);
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private record CountRow(long postId, long storedCount, Timestamp updatedAt, long actualCount, long scannedAtNanos) {
+    }
+}
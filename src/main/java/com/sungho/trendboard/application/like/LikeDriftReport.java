@@ -0,0 +1,26 @@
+package com.sungho.trendboard.application.like;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * 좋아요 수 대조 한 번의 결과.
+ *
+ * @param driftedPosts       like_count가 실제 좋아요 수와 달랐던 게시글 수
+ * @param fixedPosts         그중 실제로 고친 게시글 수 (읽은 뒤 대기하는 동안 like_count가 바뀐 행은 고치지 않는다)
+ * @param netDrift           (저장된 값 - 실제 값)의 합. 양수면 전체적으로 부풀어 있었다는 뜻이다.
+ * @param totalAbsoluteDrift 오차 절댓값의 합
+ * @param maxAbsoluteDrift   게시글 하나의 가장 큰 오차 절댓값
+ */
+@Builder
+public record LikeDriftReport(
+        long scannedPosts,
+        long driftedPosts,
+        long fixedPosts,
+        long netDrift,
+        long totalAbsoluteDrift,
+        long maxAbsoluteDrift,
+        Duration duration
+) {
+}
@@ -0,0 +1,76 @@
+package com.sungho.trendboard.application.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sungho.trendboard.infra.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글별 "좋아요한 회원" Bloom filter를 메모리에 들고 있는 사전 판정기.
+ *
+ * <p>false("확실히 좋아요하지 않음")면 post_like를 조회하지 않고 바로 INSERT/무시할 수 있고,
+ * true("좋아요했을 수 있음")일 때만 DB와 유니크 키가 최종 판정한다.</p>
+ *
+ * <p>필터는 자주 접근되는 게시글만 크기 제한 캐시에 두고, 없으면(재시작/축출) post_like에서 지연 재구성한다.
+ * 재구성과 {@link #recordLike}는 같은 키에 대해 캐시 compute로 직렬화되므로, 재구성 조회 이후 커밋된 좋아요가 빠지지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class LikeMembershipCache {
+
+    static final int MIN_CAPACITY = 256;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final PostLikeRepository postLikeRepository;
+    private final Cache<Long, MemberBloomFilter> filters;
+    private final Counter definitelyNot;
+    private final Counter maybe;
+    private final Counter rebuilds;
+
+    public LikeMembershipCache(PostLikeRepository postLikeRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.like.membership.maximum-size:10000}") long maximumSize,
+                               @Value("${app.like.membership.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.postLikeRepository = postLikeRepository;
+        this.filters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.definitelyNot = Counter.builder("like.membership.checks").tag("result", "definitely_not").register(meterRegistry);
+        this.maybe = Counter.builder("like.membership.checks").tag("result", "maybe").register(meterRegistry);
+        this.rebuilds = Counter.builder("like.membership.rebuilds").register(meterRegistry);
+    }
+
+    public boolean mightHaveLiked(Long postId, Long memberId) {
+        boolean result = filters.get(postId, this::load).mightContain(memberId);
+        (result ? maybe : definitelyNot).increment();
+        return result;
+    }
+
+    /**
+     * 커밋된 좋아요를 필터에 반영한다. 필터가 없으면 다음 조회 때 테이블에서 재구성되므로 건너뛴다.
+     * 설계 용량을 넘긴 필터는 버려서 더 큰 크기로 재구성되게 한다.
+     */
+    public void recordLike(Long postId, Long memberId) {
+        filters.asMap().computeIfPresent(postId, (id, filter) -> {
+            filter.put(memberId);
+            return filter.isSaturated() ? null : filter;
+        });
+    }
+
+    private MemberBloomFilter load(Long postId) {
+        List<Long> memberIds = postLikeRepository.findMemberIdsByPostId(postId);
+        MemberBloomFilter filter = new MemberBloomFilter(Math.max(MIN_CAPACITY, memberIds.size() * 2), FALSE_POSITIVE_RATE);
+        memberIds.forEach(filter::put);
+        rebuilds.increment();
+        log.debug("좋아요 필터 재구성: postId={}, members={}, capacity={}", postId, memberIds.size(), filter.capacity());
+        return filter;
+    }
+}
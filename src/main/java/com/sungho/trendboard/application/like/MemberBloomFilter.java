@@ -0,0 +1,88 @@
+package com.sungho.trendboard.application.like;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 게시글에 좋아요한 회원 id 집합을 근사하는 Bloom filter.
+ *
+ * <p>{@link #mightContain}이 false면 확실히 없는 회원이고, true면 오탐일 수 있다.
+ * 비트는 AtomicLongArray에 CAS로 세우므로 락 없이 동시에 추가/조회할 수 있다.</p>
+ */
+final class MemberBloomFilter {
+
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    MemberBloomFilter(int capacity, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARED);
+        int wordCount = (int) Math.max(1, (bits + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+        this.capacity = capacity;
+    }
+
+    void put(long memberId) {
+        long hash = mix(memberId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(long memberId) {
+        long hash = mix(memberId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 설계 용량을 넘겨 오탐률이 목표보다 높아졌는지 여부.
+     */
+    boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bit) {
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    // Snowflake id는 하위 비트가 순차적이라 그대로 쓰면 비트가 몰리므로 splitmix64 finalizer로 섞는다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.util.Snowflake;
+import com.sungho.trendboard.global.util.SnowflakeIdGenerator;
+import com.sungho.trendboard.infra.repository.PostLikeRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좋아요/취소는 멱등하게 처리한다. 실제로 post_like 행이 생기거나 지워진 경우에만 좋아요 수 버퍼에 반영한다.
+ *
+ * <p>Bloom filter는 이 노드가 본 좋아요만 알기 때문에 "확실히 없음"을 조회 생략에만 쓰고, 결과를 바꾸는 판단은 DB에 맡긴다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_like (id, post_id, member_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ID_SQL = "SELECT id FROM post_like WHERE post_id = ? AND member_id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM post_like WHERE id = ?";
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeMembershipCache likeMembershipCache;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // INSERT 실패(유니크 키 위반)를 트랜잭션 밖에서 처리하기 위해 트랜잭션을 걸지 않는다.
+    // JdbcTemplate은 유니크 키 위반을 DuplicateKeyException으로 구분해 주므로 FK 위반 등은 그대로 전파된다.
+    public void like(CurrentUser currentUser, Long postId) {
+        PostCategory category = findActiveCategory(postId);
+        Long memberId = currentUser.memberId();
+
+        if (likeMembershipCache.mightHaveLiked(postId, memberId)
+                && postLikeRepository.existsByPostIdAndMemberId(postId, memberId)) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long likeId = SnowflakeIdGenerator.nextId();
+        try {
+            jdbcTemplate.update(INSERT_SQL, likeId, postId, memberId, now, now);
+        } catch (DuplicateKeyException e) {
+            log.debug("중복 좋아요 무시: postId={}, memberId={}", postId, memberId);
+            return;
+        }
+        likeMembershipCache.recordLike(postId, memberId);
+        likeCountBuffer.add(postId, 1);
+        eventPublisher.publishEvent(new PostLikedEvent(postId, category, 1, Snowflake.timestampOf(likeId)));
+    }
+
+    // like()와 같이 트랜잭션을 걸지 않는다. DELETE가 자동 커밋된 뒤에만 버퍼에 -1을 넣어야
+    // flush가 아직 커밋되지 않았거나 롤백될 취소를 like_count에 먼저 반영하지 않는다.
+    public void unlike(CurrentUser currentUser, Long postId) {
+        PostCategory category = findActiveCategory(postId);
+        Long memberId = currentUser.memberId();
+
+        // 다른 노드에서 한 좋아요나 재기동 전 좋아요는 이 노드의 Bloom filter에 없을 수 있으므로 항상 DB에서 찾는다.
+        // 트렌딩 점수에서 좋아요를 그 좋아요가 더해진 시각 기준으로 빼야 하므로, 지울 행의 id(Snowflake, 좋아요 시각 포함)를 먼저 읽는다.
+        List<Long> likeIds = jdbcTemplate.queryForList(SELECT_ID_SQL, Long.class, postId, memberId);
+        if (likeIds.isEmpty()) {
+            return;
+        }
+        long likeId = likeIds.get(0);
+        // 그 사이 다른 요청이 지웠으면 0행이므로 한 번만 반영된다.
+        if (jdbcTemplate.update(DELETE_SQL, likeId) > 0) {
+            likeCountBuffer.add(postId, -1);
+            eventPublisher.publishEvent(new PostLikedEvent(postId, category, -1, Snowflake.timestampOf(likeId)));
+        }
+    }
+
+    private PostCategory findActiveCategory(Long postId) {
+        return postRepository.findActiveCategoryById(postId)
+                .orElseThrow(() -> {
+                    log.info("게시글 없음: postId={}", postId);
+                    return new BusinessException(PostErrorCode.POST_NOT_FOUND);
+                });
+    }
+}
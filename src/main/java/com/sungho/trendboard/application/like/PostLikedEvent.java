@@ -0,0 +1,11 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+/**
+ * 좋아요(+1) 또는 좋아요 취소(-1)가 실제로 반영되었음을 알린다.
+ *
+ * @param likedAt 좋아요한 시각(epoch 밀리초). 취소일 때도 지워진 좋아요가 생긴 시각이다.
+ */
+public record PostLikedEvent(Long postId, PostCategory category, int delta, long likedAt) {
+}
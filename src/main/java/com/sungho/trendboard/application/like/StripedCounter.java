@@ -0,0 +1,67 @@
+package com.sungho.trendboard.application.like;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드별로 셀을 나눠 더하는 카운터 (LongAdder 방식).
+ *
+ * <p>LongAdder의 sumThenReset은 합산과 초기화 사이에 들어온 증가분을 잃을 수 있어서,
+ * 셀마다 getAndSet(0)으로 비우는 drain을 직접 제공한다. 셀 사이는 캐시 라인 단위로 띄워 false sharing을 피한다.</p>
+ */
+final class StripedCounter {
+
+    // long 8개 = 64바이트(캐시 라인) 간격
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+    private volatile boolean retired;
+
+    StripedCounter(int stripes) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes는 2의 거듭제곱이어야 합니다.");
+        }
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        this.mask = stripes - 1;
+    }
+
+    void add(long delta) {
+        cells.getAndAdd(cellIndex(), delta);
+    }
+
+    /**
+     * 현재까지 누적된 값을 가져가고 0으로 비운다. 동시에 들어온 증가분은 이번 또는 다음 drain에 정확히 한 번 포함된다.
+     */
+    long drain() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.getAndSet(i * PADDING, 0);
+        }
+        return sum;
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * 더 이상 이 카운터로 증감을 받지 않는다고 표시한다. 표시 이후의 drain보다 늦게 더한 스레드는 반드시 이 표시를 보게 된다.
+     */
+    void retire() {
+        retired = true;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    private int cellIndex() {
+        long threadId = Thread.currentThread().getId();
+        int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & mask) * PADDING;
+    }
+}
@@ -0,0 +1,236 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.BulkCreatePostRequest;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostResponse;
+import com.sungho.trendboard.application.post.dto.BulkPostItemResult;
+import com.sungho.trendboard.application.post.dto.CreatePostRequest;
+import com.sungho.trendboard.application.tag.TagCatalog;
+import com.sungho.trendboard.domain.MemberRole;
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.PostTagDiff;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.CommonErrorCode;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.util.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 여러 개를 JDBC 배치로 한 번에 등록한다.
+ *
+ * <p>{@link PostService#createPost}로 하나씩 저장하면 게시글마다 post 1건 + 태그/해시태그 수만큼 단건 INSERT가 나간다.
+ * Snowflake id는 INSERT 전에 정해지므로 id를 미리 받아 post, post_tag, post_hashtag를 테이블별 배치 INSERT로 쓴다
+ * (MySQL 드라이버의 rewriteBatchedStatements를 켜면 multi-row INSERT로 전송된다).</p>
+ *
+ * <p>항목 검증과 태그 존재 확인은 쓰기 전에 전체를 한 번에 한다. 잘못된 항목은 요청 전체를 거절하지 않고 항목 결과로 돌려준다.
+ * 쓰기는 청크 단위 트랜잭션이라 한 청크가 실패해도 이미 커밋된 청크는 유지되고, 실패한 청크의 항목만 FAILED가 된다.</p>
+ */
+@Slf4j
+@Service
+public class BulkPostService {
+
+    private static final String INSERT_POST_SQL = """
+            INSERT INTO post (id, member_id, title, content, category, like_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INSERT_POST_TAG_SQL = "INSERT INTO post_tag (id, post_id, tag_id) VALUES (?, ?, ?)";
+
+    private static final String INSERT_POST_HASHTAG_SQL = """
+            INSERT INTO post_hashtag (id, post_id, name, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TagCatalog tagCatalog;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    private final Counter createdPosts;
+    private final Counter failedPosts;
+    private final DistributionSummary requestSize;
+    private final Timer requestDuration;
+
+    public BulkPostService(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           TagCatalog tagCatalog,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.post.bulk.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tagCatalog = tagCatalog;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.createdPosts = Counter.builder("post.bulk.created")
+                .description("일괄 등록으로 생성한 게시글 수")
+                .register(meterRegistry);
+        this.failedPosts = Counter.builder("post.bulk.failed")
+                .description("일괄 등록에서 검증 또는 저장에 실패한 게시글 수")
+                .register(meterRegistry);
+        this.requestSize = DistributionSummary.builder("post.bulk.size")
+                .description("일괄 등록 요청 한 번의 게시글 수")
+                .register(meterRegistry);
+        this.requestDuration = Timer.builder("post.bulk.duration")
+                .register(meterRegistry);
+    }
+
+    public BulkCreatePostResponse createPosts(CurrentUser currentUser, BulkCreatePostRequest request) {
+        validateAdvertiserRole(currentUser);
+
+        long startedAt = System.nanoTime();
+        List<CreatePostRequest> items = request.posts();
+        BulkPostItemResult[] results = new BulkPostItemResult[items.size()];
+        List<PostRow> rows = prepare(currentUser.memberId(), items, results);
+
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<PostRow> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+                chunk.forEach(row -> results[row.index()] = BulkPostItemResult.created(row.index(), row.postId()));
+            } catch (DataAccessException e) {
+                log.warn("게시글 일괄 등록 청크 실패: memberId={}, firstIndex={}, size={}",
+                        currentUser.memberId(), chunk.get(0).index(), chunk.size(), e);
+                chunk.forEach(row -> results[row.index()] = BulkPostItemResult.failed(row.index(), CommonErrorCode.INTERNAL_ERROR));
+            }
+        }
+
+        BulkCreatePostResponse response = BulkCreatePostResponse.of(Arrays.asList(results));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        createdPosts.increment(response.created());
+        failedPosts.increment(response.failed());
+        requestSize.record(response.requested());
+        requestDuration.record(elapsed);
+        log.info("게시글 일괄 등록: memberId={}, requested={}, created={}, failed={}, elapsedMs={}",
+                currentUser.memberId(), response.requested(), response.created(), response.failed(), elapsed.toMillis());
+        return response;
+    }
+
+    /**
+     * 유효한 항목만 id를 붙여 반환하고, 잘못된 항목은 results에 바로 기록한다.
+     */
+    private List<PostRow> prepare(Long memberId, List<CreatePostRequest> items, BulkPostItemResult[] results) {
+        Set<Long> requestedTagIds = new LinkedHashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreatePostRequest item = items.get(i);
+            String violation = firstViolation(item);
+            if (violation != null) {
+                results[i] = BulkPostItemResult.invalid(i, CommonErrorCode.INVALID_INPUT, violation);
+            } else if (item.tagIds() != null) {
+                requestedTagIds.addAll(item.tagIds());
+            }
+        }
+        // 모든 항목의 태그를 한 번에 확인한다.
+        Set<Long> missingTagIds = requestedTagIds.isEmpty() ? Set.of() : tagCatalog.findMissing(requestedTagIds);
+
+        List<PostRow> rows = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreatePostRequest item = items.get(i);
+            List<Long> tagIds = item.tagIds() == null ? List.of() : item.tagIds().stream().distinct().toList();
+            if (tagIds.stream().anyMatch(missingTagIds::contains)) {
+                results[i] = BulkPostItemResult.invalid(i, PostErrorCode.TAG_NOT_FOUND, PostErrorCode.TAG_NOT_FOUND.getMessage());
+                continue;
+            }
+            // 해시태그 정규화/중복 제거 규칙은 엔티티와 같게 맞춘다.
+            Post post = Post.builder()
+                    .memberId(memberId)
+                    .title(item.title())
+                    .content(item.content())
+                    .category(item.category())
+                    .hashtags(item.hashtags())
+                    .build();
+            rows.add(new PostRow(i, SnowflakeIdGenerator.nextId(), memberId, post.getTitle(), post.getContent(),
+                    post.getCategory(), tagIds, post.getHashtags()));
+        }
+        return rows;
+    }
+
+    private String firstViolation(CreatePostRequest item) {
+        if (item == null) {
+            return "게시글 항목이 비어 있습니다.";
+        }
+        return validator.validate(item).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+
+    private void insertChunk(List<PostRow> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> postArgs = new ArrayList<>(chunk.size());
+        List<Object[]> tagArgs = new ArrayList<>();
+        List<Object[]> hashtagArgs = new ArrayList<>();
+        for (PostRow row : chunk) {
+            postArgs.add(new Object[]{row.postId(), row.memberId(), row.title(), row.content(), row.category().name(), now, now});
+            for (Long tagId : row.tagIds()) {
+                tagArgs.add(new Object[]{SnowflakeIdGenerator.nextId(), row.postId(), tagId});
+            }
+            for (String hashtag : row.hashtags()) {
+                hashtagArgs.add(new Object[]{SnowflakeIdGenerator.nextId(), row.postId(), hashtag, now, now});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_POST_SQL, postArgs);
+        if (!tagArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POST_TAG_SQL, tagArgs);
+        }
+        if (!hashtagArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POST_HASHTAG_SQL, hashtagArgs);
+        }
+
+        // 트랜잭션 안에서 발행하므로 수신 측은 이 청크가 커밋된 뒤에만 반영한다.
+        List<String> addedHashtags = new ArrayList<>();
+        for (PostRow row : chunk) {
+            eventPublisher.publishEvent(new PostCreatedEvent(row.postId(), row.category()));
+            if (!row.tagIds().isEmpty()) {
+                eventPublisher.publishEvent(new PostTagsChangedEvent(row.postId(), PostTagDiff.added(row.tagIds())));
+            }
+            addedHashtags.addAll(row.hashtags());
+        }
+        if (!addedHashtags.isEmpty()) {
+            eventPublisher.publishEvent(new HashtagsAddedEvent(addedHashtags));
+        }
+    }
+
+    private void validateAdvertiserRole(CurrentUser currentUser) {
+        if (currentUser.role() != MemberRole.ADVERTISER) {
+            log.info("게시글 관리 권한 없음: memberId={}, role={}", currentUser.memberId(), currentUser.role());
+            throw new BusinessException(CommonErrorCode.FORBIDDEN);
+        }
+    }
+
+    private record PostRow(int index, long postId, Long memberId, String title, String content,
+                           PostCategory category, List<Long> tagIds, List<String> hashtags) {
+    }
+}
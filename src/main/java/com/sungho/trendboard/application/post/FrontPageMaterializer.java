@@ -0,0 +1,179 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.trending.TrendingService;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 사용자에게 같은 첫 화면 피드를 주기적으로 미리 만들어 두고, 요청은 만들어 둔 배열을 잘라서만 응답한다.
+ *
+ * <p>순서는 전체 트렌딩 순위이고, 부족하면 최신 글로 채운다. 완성된 카드 배열은 AtomicReference로 한 번에 교체하며
+ * 교체 후에는 수정하지 않으므로 읽는 쪽은 락 없이 어느 한 시점의 목록 전체를 본다.</p>
+ *
+ * <p>순위는 갱신 때마다 바뀔 수 있어 커서는 위치가 아닌 마지막 게시글 ID다.
+ * 그 게시글이 새 목록에서 빠졌다면 이어 볼 위치를 알 수 없으므로 빈 페이지로 끝낸다.
+ * 처음부터 다시 주면 무한 스크롤이 이미 본 카드를 반복해 붙인다.</p>
+ */
+@Slf4j
+@Component
+public class FrontPageMaterializer {
+
+    private final TrendingService trendingService;
+    private final PostQueryRepository postQueryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LongSupplier clock;
+    private final int capacity;
+    private final AtomicReference<Snapshot> snapshot;
+
+    private final Timer refreshTimer;
+    private final Counter swaps;
+    private final Counter failures;
+
+    @Autowired
+    public FrontPageMaterializer(TrendingService trendingService,
+                                 PostQueryRepository postQueryRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.front-page.size:200}") int capacity) {
+        this(trendingService, postQueryRepository, transactionManager, meterRegistry, capacity, System::currentTimeMillis);
+    }
+
+    FrontPageMaterializer(TrendingService trendingService,
+                          PostQueryRepository postQueryRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          int capacity,
+                          LongSupplier clock) {
+        this.trendingService = trendingService;
+        this.postQueryRepository = postQueryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.capacity = capacity;
+        this.snapshot = new AtomicReference<>(Snapshot.empty());
+
+        this.refreshTimer = Timer.builder("front.page.refresh.duration")
+                .description("첫 화면 피드를 다시 만드는 데 걸린 시간")
+                .register(meterRegistry);
+        this.swaps = Counter.builder("front.page.swaps")
+                .description("첫 화면 피드 스냅샷 교체 횟수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("front.page.refresh.failures")
+                .register(meterRegistry);
+        TimeGauge.builder("front.page.staleness", this, TimeUnit.MILLISECONDS, FrontPageMaterializer::stalenessMillis)
+                .description("현재 제공 중인 스냅샷이 만들어진 뒤 지난 시간")
+                .register(meterRegistry);
+        Gauge.builder("front.page.size", this, materializer -> materializer.snapshot.get().cards.length)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.front-page.refresh-interval:10s}")
+    public void refresh() {
+        try {
+            PostCardResponse[] cards = refreshTimer.record(() -> readOnlyTransaction.execute(status -> build()));
+            snapshot.set(Snapshot.of(cards, clock.getAsLong()));
+            swaps.increment();
+        } catch (RuntimeException e) {
+            // 실패하면 이전 스냅샷을 계속 제공한다. 얼마나 오래됐는지는 staleness 지표로 드러난다.
+            failures.increment();
+            log.warn("첫 화면 피드 갱신 실패", e);
+        }
+    }
+
+    public CursorPageResponse<PostCardResponse> page(Long cursor, int size) {
+        Snapshot current = snapshot.get();
+        int from = 0;
+        if (cursor != null) {
+            Integer position = current.positions.get(cursor);
+            if (position == null) {
+                return new CursorPageResponse<>(List.of(), 0, false, null);
+            }
+            from = position + 1;
+        }
+        int to = Math.min(from + size, current.cards.length);
+        List<PostCardResponse> items = from >= to
+                ? List.of()
+                : List.of(Arrays.copyOfRange(current.cards, from, to));
+        Long lastId = items.isEmpty() ? null : items.get(items.size() - 1).id();
+        boolean hasNext = to < current.cards.length;
+        return new CursorPageResponse<>(items, items.size(), hasNext, hasNext ? lastId : null);
+    }
+
+    private PostCardResponse[] build() {
+        List<Long> rankedIds = trendingService.getTrending(new TrendingPostsRequest(null, TrendingPostsRequest.MAX_LIMIT))
+                .stream()
+                .map(TrendingPostResponse::postId)
+                .toList();
+
+        // 트렌딩 후보 중 삭제된 글은 findCardsByIds에서 빠지므로 순위 순서를 다시 맞춘다.
+        Map<Long, PostCardRow> rankedRows = postQueryRepository.findCardsByIds(rankedIds, null).stream()
+                .collect(Collectors.toMap(PostCardRow::id, row -> row));
+        Set<Long> included = new LinkedHashSet<>();
+        List<PostCardRow> rows = new ArrayList<>(capacity);
+        for (Long id : rankedIds) {
+            PostCardRow row = rankedRows.get(id);
+            if (row != null && rows.size() < capacity && included.add(id)) {
+                rows.add(row);
+            }
+        }
+        if (rows.size() < capacity) {
+            for (PostCardRow row : postQueryRepository.findLatestCards(null, null, capacity)) {
+                if (rows.size() >= capacity) {
+                    break;
+                }
+                if (included.add(row.id())) {
+                    rows.add(row);
+                }
+            }
+        }
+        return PostCardAssembler.toCards(postQueryRepository, rows).toArray(PostCardResponse[]::new);
+    }
+
+    private double stalenessMillis() {
+        long builtAt = snapshot.get().builtAtMillis;
+        return builtAt == 0 ? 0 : clock.getAsLong() - builtAt;
+    }
+
+    private record Snapshot(PostCardResponse[] cards, Map<Long, Integer> positions, long builtAtMillis) {
+
+        static Snapshot empty() {
+            return new Snapshot(new PostCardResponse[0], Map.of(), 0);
+        }
+
+        static Snapshot of(PostCardResponse[] cards, long builtAtMillis) {
+            Map<Long, Integer> positions = new HashMap<>(cards.length * 2);
+            for (int i = 0; i < cards.length; i++) {
+                positions.put(cards[i].id(), i);
+            }
+            return new Snapshot(cards, Map.copyOf(positions), builtAtMillis);
+        }
+    }
+}
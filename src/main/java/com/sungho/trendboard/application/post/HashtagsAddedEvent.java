@@ -0,0 +1,9 @@
+package com.sungho.trendboard.application.post;
+
+import java.util.List;
+
+/**
+ * 게시글에 해시태그가 새로 붙었음을 알린다. 수정 시에는 기존에 없던 해시태그만 담는다.
+ */
+public record HashtagsAddedEvent(List<String> hashtags) {
+}
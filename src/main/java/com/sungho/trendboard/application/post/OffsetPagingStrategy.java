@@ -0,0 +1,13 @@
+package com.sungho.trendboard.application.post;
+
+/**
+ * page/size 요청을 처리하는 방식
+ *
+ * - DEFERRED_JOIN: 커버링 인덱스로 해당 페이지의 id만 고른 뒤 post와 조인한다 (기본값)
+ * - NAIVE: SELECT * ... LIMIT/OFFSET (부하 테스트 비교용)
+ */
+public enum OffsetPagingStrategy {
+
+    DEFERRED_JOIN,
+    NAIVE
+}
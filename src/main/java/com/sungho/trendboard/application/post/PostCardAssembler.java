@@ -0,0 +1,34 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 행 목록에 태그/해시태그를 붙여 응답 카드로 만든다.
+ */
+final class PostCardAssembler {
+
+    private PostCardAssembler() {
+    }
+
+    static List<PostCardResponse> toCards(PostQueryRepository postQueryRepository, List<PostCardRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        // 페이지 전체의 태그/해시태그를 각각 IN 쿼리 한 번으로 읽어 카드에 붙인다.
+        List<Long> postIds = rows.stream().map(PostCardRow::id).toList();
+        Map<Long, List<Long>> tagIds = postQueryRepository.findTagIdsByPostIds(postIds);
+        Map<Long, List<String>> hashtags = postQueryRepository.findHashtagsByPostIds(postIds);
+        return rows.stream()
+                .map(row -> PostCardResponse.of(
+                        row,
+                        tagIds.getOrDefault(row.id(), List.of()),
+                        hashtags.getOrDefault(row.id(), List.of())
+                ))
+                .toList();
+    }
+}
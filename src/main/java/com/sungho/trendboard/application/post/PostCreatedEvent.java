@@ -0,0 +1,9 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+/**
+ * 게시글이 새로 작성되었음을 알린다. 수신 측은 커밋 이후에만 반영해야 한다.
+ */
+public record PostCreatedEvent(Long postId, PostCategory category) {
+}
@@ -0,0 +1,62 @@
+package com.sungho.trendboard.application.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 노드 로컬 게시글 상세 캐시 (크기 + TTL 제한).
+ *
+ * <p>무효화는 커밋 이후에만 수행한다. Caffeine은 같은 키의 로딩이 진행 중이면 invalidate가 로딩 완료를 기다린 뒤
+ * 제거하므로, 커밋 전 값을 읽던 로딩이 커밋 이후에 캐시에 남는 일이 없다.
+ * 무효화 이후 시작된 로딩은 새 트랜잭션에서 커밋된 값을 읽는다.</p>
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    public static final String CACHE_NAME = "post.detail";
+
+    private final Cache<Long, PostDetailResponse> cache;
+
+    public PostDetailCache(@Value("${app.post.detail-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${app.post.detail-cache.ttl:5m}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PostDetailResponse get(Long postId, Function<Long, PostDetailResponse> loader) {
+        // 로더 예외(POST_NOT_FOUND 등)는 그대로 전파되고 캐시에 남지 않는다.
+        return cache.get(postId, loader);
+    }
+
+    public Optional<PostDetailResponse> getIfPresent(Long postId) {
+        return Optional.ofNullable(cache.getIfPresent(postId));
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        log.debug("게시글 상세 캐시 무효화: postId={}", event.postId());
+        invalidate(event.postId());
+    }
+}
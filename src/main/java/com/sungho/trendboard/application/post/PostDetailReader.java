@@ -0,0 +1,45 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.view.PostViewStatCache;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.infra.repository.PostHashtagRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.PostTagRepository;
+import com.sungho.trendboard.infra.repository.dto.PostDetailRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 캐시 미스일 때만 호출되는 상세 조회. 세 쿼리를 하나의 읽기 트랜잭션으로 묶는다.
+ * 게시글 쿼리에서 조회 집계도 함께 읽어 조회 수 캐시를 채우므로, 조회 수를 붙일 때 쿼리가 더 나가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostDetailReader {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final PostHashtagRepository postHashtagRepository;
+    private final PostViewStatCache postViewStatCache;
+
+    public PostDetailResponse read(Long postId) {
+        // 연관 컬렉션을 엔티티로 초기화하지 않고 태그 수와 무관하게 3개의 쿼리(post, tag_id, hashtag)로 조회한다.
+        PostDetailRow row = postRepository.findActiveDetailById(postId)
+                .orElseThrow(() -> {
+                    log.info("게시글 없음: postId={}", postId);
+                    return new BusinessException(PostErrorCode.POST_NOT_FOUND);
+                });
+        postViewStatCache.prime(postId, row.viewStat());
+        List<Long> tagIds = postTagRepository.findTagIdsByPostId(postId);
+        List<String> hashtags = postHashtagRepository.findNamesByPostId(postId);
+        return PostDetailResponse.of(row.post(), tagIds, hashtags);
+    }
+}
@@ -0,0 +1,171 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.FrontPageRequest;
+import com.sungho.trendboard.application.post.dto.MemberPostsRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.post.dto.PostFeedRequest;
+import com.sungho.trendboard.application.view.PostViewService;
+import com.sungho.trendboard.application.view.PostViewService.ViewStats;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.PostTagRepository;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import com.sungho.trendboard.infra.repository.dto.PostVersionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostQueryService {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailReader postDetailReader;
+    private final FrontPageMaterializer frontPageMaterializer;
+    private final PostViewService postViewService;
+
+    @Value("${app.post.offset-paging-strategy:DEFERRED_JOIN}")
+    private OffsetPagingStrategy offsetPagingStrategy = OffsetPagingStrategy.DEFERRED_JOIN;
+
+    // 태그 피드 한 요청에서 확인하는 후보 id 수 상한. 카테고리 등으로 대부분 걸러져도 스캔 범위를 제한한다.
+    @Value("${app.post.tag-feed.max-scan:1000}")
+    private int tagFeedMaxScan = 1000;
+
+    // 캐시 히트는 트랜잭션/커넥션 없이 반환하고, 미스일 때만 PostDetailReader가 읽기 트랜잭션을 연다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostDetailResponse getPost(Long postId) {
+        PostDetailResponse detail = postDetailCache.get(postId, postDetailReader::read);
+        ViewStats views = postViewService.getStats(postId);
+        return detail.withViewStats(views.viewCount(), views.uniqueViewers());
+    }
+
+    /**
+     * 조건부 GET 검증용 버전. 캐시에 상세가 있으면 DB를 조회하지 않고, 없으면 본문 없이 PK로 버전만 읽는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostVersionRow getPostVersion(Long postId) {
+        return postDetailCache.getIfPresent(postId)
+                .map(detail -> new PostVersionRow(detail.id(), detail.updatedAt(), detail.likeCount()))
+                .orElseGet(() -> postRepository.findVersionById(postId)
+                        .orElseThrow(() -> {
+                            log.info("게시글 없음: postId={}", postId);
+                            return new BusinessException(PostErrorCode.POST_NOT_FOUND);
+                        }));
+    }
+
+    public CursorPageResponse<PostCardResponse> getFeed(PostFeedRequest request) {
+        if (request.isTagRequest()) {
+            return getTagFeed(request);
+        }
+
+        List<PostCardRow> rows;
+        if (request.isOffsetRequest()) {
+            rows = findOffsetPage(request);
+        } else {
+            rows = findCursorPage(request);
+        }
+
+        List<PostCardResponse> items = toCards(rows);
+        // offset 요청에도 nextCursorId를 내려 클라이언트가 커서 방식으로 넘어올 수 있게 한다.
+        return CursorPageResponse.of(items, request.size(), lastIdOf(items));
+    }
+
+    public CursorPageResponse<PostCardResponse> getMemberPosts(Long memberId, MemberPostsRequest request) {
+        List<PostCardRow> rows = postQueryRepository.findLatestCardsByMember(memberId, request.cursor(), request.size());
+        List<PostCardResponse> items = toCards(rows);
+        return CursorPageResponse.of(items, request.size(), lastIdOf(items));
+    }
+
+    /**
+     * 미리 만들어 둔 첫 화면 피드를 잘라서 반환한다. DB에 접근하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPageResponse<PostCardResponse> getFrontPage(FrontPageRequest request) {
+        return frontPageMaterializer.page(request.cursor(), request.size());
+    }
+
+    private List<PostCardRow> findCursorPage(PostFeedRequest request) {
+        // Snowflake ID는 시간순으로 증가하므로 id 내림차순이 곧 최신순이다.
+        // OFFSET 없이 마지막으로 본 id 이후만 seek 하므로 페이지 깊이와 무관하게 비용이 일정하다.
+        // 카테고리가 있으면 (category, deleted_at, id) 인덱스의 동등 조건 접두어 뒤 id 범위를 역순으로 읽는다.
+        return postQueryRepository.findLatestCards(request.category(), request.cursor(), request.size());
+    }
+
+    private CursorPageResponse<PostCardResponse> getTagFeed(PostFeedRequest request) {
+        PrimitiveIterator.OfLong postIds = PostingListMerger.merge(
+                request.tagIds(),
+                request.mode(),
+                request.cursor(),
+                request.size() + 1,
+                (tagId, beforeId, limit) -> postTagRepository.findPostIdsByTagIdBefore(tagId, beforeId, Limit.of(limit))
+        );
+
+        // posting list에는 삭제 여부/카테고리가 없으므로 후보 id를 페이지 크기만큼 끊어 확인하고,
+        // 걸러진 만큼만 추가로 병합한다.
+        List<PostCardRow> page = new ArrayList<>(request.size());
+        int scanned = 0;
+        Long lastScannedId = null;
+        while (page.size() < request.size() && postIds.hasNext()) {
+            if (scanned >= tagFeedMaxScan) {
+                // 상한까지 훑어도 페이지를 못 채우면 모은 만큼만 내려주고, 훑은 위치부터 이어서 읽게 한다.
+                log.debug("태그 피드 후보 스캔 상한 도달: tagIds={}, category={}, scanned={}",
+                        request.tagIds(), request.category(), scanned);
+                List<PostCardResponse> items = toCards(page);
+                return new CursorPageResponse<>(items, items.size(), true, lastScannedId);
+            }
+            List<Long> candidates = nextCandidates(postIds,
+                    Math.min(request.size() - page.size(), tagFeedMaxScan - scanned));
+            scanned += candidates.size();
+            lastScannedId = candidates.get(candidates.size() - 1);
+            page.addAll(postQueryRepository.findCardsByIds(candidates, request.category()));
+        }
+
+        List<PostCardResponse> items = toCards(page);
+        return CursorPageResponse.of(items, request.size(), lastIdOf(items));
+    }
+
+    private List<Long> nextCandidates(PrimitiveIterator.OfLong postIds, int count) {
+        List<Long> candidates = new ArrayList<>(count);
+        while (candidates.size() < count && postIds.hasNext()) {
+            candidates.add(postIds.nextLong());
+        }
+        return candidates;
+    }
+
+    private List<PostCardRow> findOffsetPage(PostFeedRequest request) {
+        if (offsetPagingStrategy == OffsetPagingStrategy.NAIVE) {
+            return postQueryRepository.findCardsByOffset(request.offset(), request.size());
+        }
+        // deferred join: OFFSET은 id만 담긴 커버링 인덱스에서 건너뛰고, 행은 해당 페이지 id로만 읽는다.
+        List<Long> pageIds = postQueryRepository.findPageIds(request.offset(), request.size());
+        return postQueryRepository.findCardsByIds(pageIds, null);
+    }
+
+    private List<PostCardResponse> toCards(List<PostCardRow> rows) {
+        return PostCardAssembler.toCards(postQueryRepository, rows);
+    }
+
+    private Long lastIdOf(List<PostCardResponse> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return items.get(items.size() - 1).id();
+    }
+}
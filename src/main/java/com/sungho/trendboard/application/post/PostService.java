@@ -4,8 +4,10 @@ import com.sungho.trendboard.application.post.dto.CreatePostRequest;
 import com.sungho.trendboard.application.post.dto.CreatePostResponse;
 import com.sungho.trendboard.application.post.dto.UpdatePostRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostResponse;
+import com.sungho.trendboard.application.tag.TagCatalog;
 import com.sungho.trendboard.domain.MemberRole;
 import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostTagDiff;
 import com.sungho.trendboard.domain.Tag;
 import com.sungho.trendboard.global.domain.CurrentUser;
 import com.sungho.trendboard.global.exception.BusinessException;
@@ -15,6 +17,9 @@ import com.sungho.trendboard.infra.repository.PostRepository;
 import com.sungho.trendboard.infra.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +30,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final String POST_TAG_TAG_FK = "fk_post_tag_tag";
+
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CreatePostResponse createPost(CurrentUser currentUser, CreatePostRequest request) {
@@ -40,9 +49,13 @@ public class PostService {
                 .hashtags(request.hashtags())
                 .build();
 
-        attachTags(post, request.tagIds());
+        List<Long> attachedTagIds = attachTags(post, request.tagIds());
 
         Post saved = postRepository.save(post);
+        flushTagLinks(saved.getId(), attachedTagIds);
+        eventPublisher.publishEvent(new PostCreatedEvent(saved.getId(), saved.getCategory()));
+        publishTagsChanged(saved.getId(), PostTagDiff.added(attachedTagIds));
+        publishHashtagsAdded(saved.getHashtags());
         return CreatePostResponse.from(saved);
     }
 
@@ -61,12 +74,53 @@ public class PostService {
         post.update(request.title(), request.content(), request.category());
         // update는 연관 컬렉션을 부분 변경이 아닌 "전체 교체"로 처리한다.
         // tagIds/hashtags가 null 또는 empty이면 기존 값은 모두 제거된다.
-        post.replacePostTags(findTagsByIds(request.tagIds()));
+        List<String> beforeHashtags = post.getHashtags();
+        PostTagDiff tagDiff = post.replacePostTags(findTagsByIds(request.tagIds()));
         post.replaceHashtags(request.hashtags());
-
+        flushTagLinks(post.getId(), tagDiff.addedTagIds());
+
+        // 상세 캐시 등 읽기 모델은 커밋 이후에 이 이벤트로 갱신된다.
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getCategory()));
+        publishTagsChanged(post.getId(), tagDiff);
+        publishHashtagsAdded(post.getHashtags().stream()
+                .filter(hashtag -> !beforeHashtags.contains(hashtag))
+                .toList());
         return UpdatePostResponse.from(post);
     }
 
+    /**
+     * 태그 존재 여부는 카탈로그 스냅샷으로 검증하므로, 검증 뒤 삭제된 태그는 커밋 시 FK 위반(500)으로 드러난다.
+     * 새로 연결한 태그가 있으면 트랜잭션 안에서 미리 flush해 그 위반을 TAG_NOT_FOUND로 바꾸고 스냅샷을 버린다.
+     */
+    private void flushTagLinks(Long postId, List<Long> addedTagIds) {
+        if (addedTagIds.isEmpty()) {
+            return;
+        }
+        try {
+            postRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (!(e.getCause() instanceof ConstraintViolationException violation)
+                    || !POST_TAG_TAG_FK.equalsIgnoreCase(violation.getConstraintName())) {
+                throw e;
+            }
+            log.info("검증 이후 삭제된 태그 포함: postId={}, addedTagIds={}", postId, addedTagIds);
+            tagCatalog.invalidate();
+            throw new BusinessException(PostErrorCode.TAG_NOT_FOUND);
+        }
+    }
+
+    private void publishTagsChanged(Long postId, PostTagDiff diff) {
+        if (!diff.isEmpty()) {
+            eventPublisher.publishEvent(new PostTagsChangedEvent(postId, diff));
+        }
+    }
+
+    private void publishHashtagsAdded(List<String> hashtags) {
+        if (!hashtags.isEmpty()) {
+            eventPublisher.publishEvent(new HashtagsAddedEvent(hashtags));
+        }
+    }
+
     private void validateAdvertiserRole(CurrentUser currentUser) {
         if (currentUser.role() != MemberRole.ADVERTISER) {
             log.info("게시글 관리 권한 없음: memberId={}, role={}", currentUser.memberId(), currentUser.role());
@@ -74,8 +128,11 @@ public class PostService {
         }
     }
 
-    private void attachTags(Post post, List<Long> tagIds) {
-        findTagsByIds(tagIds).forEach(post::addPostTag);
+    private List<Long> attachTags(Post post, List<Long> tagIds) {
+        return findTagsByIds(tagIds).stream()
+                .filter(post::addPostTag)
+                .map(Tag::getId)
+                .toList();
     }
 
     private void validatePostOwner(CurrentUser currentUser, Post post) {
@@ -98,14 +155,10 @@ public class PostService {
                 .distinct()
                 .toList();
 
-        List<Tag> tags = tagRepository.findAllById(distinctTagIds);
-        if (tags.size() != distinctTagIds.size()) {
-            log.info("존재하지 않는 태그 포함: requestedTagIds={}, distinctTagIds={}, foundCount={}",
-                    tagIds,
-                    distinctTagIds,
-                    tags.size());
-            throw new BusinessException(PostErrorCode.TAG_NOT_FOUND);
-        }
-        return tags;
+        // 존재 여부는 카탈로그 스냅샷으로 검증하고, PostTag에는 SELECT 없이 FK만 채우는 참조를 연결한다.
+        tagCatalog.validateExists(distinctTagIds);
+        return distinctTagIds.stream()
+                .map(tagRepository::getReferenceById)
+                .toList();
     }
 }
@@ -0,0 +1,12 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.domain.PostTagDiff;
+
+/**
+ * 게시글 작성/수정으로 태그가 추가되거나 제거되었을 때 발행된다.
+ */
+public record PostTagsChangedEvent(
+        Long postId,
+        PostTagDiff diff
+) {
+}
@@ -0,0 +1,67 @@
+package com.sungho.trendboard.application.post;
+
+import java.util.List;
+
+/**
+ * 한 태그의 post id 목록을 id 내림차순으로 chunk 단위로 읽어오는 커서
+ *
+ * 필요한 만큼만 인덱스에서 읽고, seek 시 현재 chunk를 모두 건너뛰어야 하면
+ * 남은 행을 훑지 않고 목표 id부터 다시 읽는다.
+ */
+class PostingList {
+
+    private final Long tagId;
+    private final PostingListMerger.ChunkLoader loader;
+    private final int chunkSize;
+
+    private List<Long> chunk = List.of();
+    private int position;
+    private long nextBeforeId;
+    private boolean lastChunk;
+
+    PostingList(Long tagId, long beforeId, int chunkSize, PostingListMerger.ChunkLoader loader) {
+        this.tagId = tagId;
+        this.nextBeforeId = beforeId;
+        this.chunkSize = chunkSize;
+        this.loader = loader;
+    }
+
+    boolean hasCurrent() {
+        while (position >= chunk.size()) {
+            if (lastChunk) {
+                return false;
+            }
+            chunk = loader.load(tagId, nextBeforeId, chunkSize);
+            position = 0;
+            lastChunk = chunk.size() < chunkSize;
+            if (!chunk.isEmpty()) {
+                nextBeforeId = chunk.get(chunk.size() - 1);
+            }
+        }
+        return true;
+    }
+
+    long current() {
+        return chunk.get(position);
+    }
+
+    void advance() {
+        position++;
+    }
+
+    /**
+     * 현재 위치를 maxInclusive 이하의 첫 id로 옮긴다.
+     */
+    void seek(long maxInclusive) {
+        while (hasCurrent() && current() > maxInclusive) {
+            boolean wholeChunkAbove = chunk.get(chunk.size() - 1) > maxInclusive;
+            if (wholeChunkAbove && !lastChunk) {
+                chunk = List.of();
+                position = 0;
+                nextBeforeId = maxInclusive + 1;
+                continue;
+            }
+            position++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.sungho.trendboard.application.post;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+
+/**
+ * 태그별 posting list(post id 내림차순)를 스트리밍으로 병합한다.
+ *
+ * - ANY: k-way merge(최대 힙)로 중복 없이 내림차순 합집합을 만든다.
+ * - ALL: 모든 목록의 head 중 최솟값을 목표로 나머지를 seek 하는 leapfrog 교집합을 만든다.
+ *
+ * 반환된 iterator는 호출자가 next()를 호출한 만큼만 인덱스를 읽으므로
+ * 페이지가 채워지면 그 즉시 읽기를 멈출 수 있다.
+ */
+public final class PostingListMerger {
+
+    @FunctionalInterface
+    public interface ChunkLoader {
+
+        /**
+         * tagId에 연결된 post id 중 beforeId 미만을 내림차순으로 최대 limit개 읽는다.
+         */
+        List<Long> load(Long tagId, long beforeId, int limit);
+    }
+
+    private PostingListMerger() {
+    }
+
+    public static PrimitiveIterator.OfLong merge(List<Long> tagIds,
+                                                 TagMatchMode mode,
+                                                 Long cursorId,
+                                                 int chunkSize,
+                                                 ChunkLoader loader) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            throw new IllegalArgumentException("tagIds는 필수입니다.");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다.");
+        }
+
+        long beforeId = cursorId == null ? Long.MAX_VALUE : cursorId;
+        List<PostingList> lists = tagIds.stream()
+                .distinct()
+                .map(tagId -> new PostingList(tagId, beforeId, chunkSize, loader))
+                .toList();
+
+        return mode == TagMatchMode.ALL
+                ? new IntersectionIterator(lists)
+                : new UnionIterator(lists);
+    }
+
+    private abstract static class MergeIterator implements PrimitiveIterator.OfLong {
+
+        private boolean computed;
+        private boolean exhausted;
+        private long next;
+
+        @Override
+        public boolean hasNext() {
+            if (!computed) {
+                exhausted = !computeNext();
+                computed = true;
+            }
+            return !exhausted;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            computed = false;
+            return next;
+        }
+
+        protected void setNext(long value) {
+            this.next = value;
+        }
+
+        protected abstract boolean computeNext();
+    }
+
+    private static final class UnionIterator extends MergeIterator {
+
+        private final PriorityQueue<PostingList> heap =
+                new PriorityQueue<>(Comparator.comparingLong(PostingList::current).reversed());
+        private final List<PostingList> pending;
+
+        private UnionIterator(List<PostingList> lists) {
+            // 첫 chunk는 실제로 필요할 때 읽도록 힙 구성을 첫 호출까지 미룬다.
+            this.pending = new ArrayList<>(lists);
+        }
+
+        @Override
+        protected boolean computeNext() {
+            if (!pending.isEmpty()) {
+                pending.stream()
+                        .filter(PostingList::hasCurrent)
+                        .forEach(heap::add);
+                pending.clear();
+            }
+            if (heap.isEmpty()) {
+                return false;
+            }
+
+            long value = heap.peek().current();
+            // 같은 id가 여러 태그에 있으면 한 번만 내보내고 해당 목록을 모두 전진시킨다.
+            while (!heap.isEmpty() && heap.peek().current() == value) {
+                PostingList list = heap.poll();
+                list.advance();
+                if (list.hasCurrent()) {
+                    heap.add(list);
+                }
+            }
+            setNext(value);
+            return true;
+        }
+    }
+
+    private static final class IntersectionIterator extends MergeIterator {
+
+        private final List<PostingList> lists;
+
+        private IntersectionIterator(List<PostingList> lists) {
+            this.lists = lists;
+        }
+
+        @Override
+        protected boolean computeNext() {
+            while (true) {
+                long target = Long.MAX_VALUE;
+                for (PostingList list : lists) {
+                    if (!list.hasCurrent()) {
+                        return false;
+                    }
+                    target = Math.min(target, list.current());
+                }
+
+                boolean allMatched = true;
+                for (PostingList list : lists) {
+                    list.seek(target);
+                    if (!list.hasCurrent()) {
+                        return false;
+                    }
+                    if (list.current() != target) {
+                        allMatched = false;
+                    }
+                }
+
+                if (allMatched) {
+                    lists.forEach(PostingList::advance);
+                    setNext(target);
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sungho.trendboard.application.post;
+
+/**
+ * 여러 태그로 피드를 조회할 때의 결합 방식
+ *
+ * - ANY: 태그 중 하나라도 붙은 게시글 (합집합)
+ * - ALL: 모든 태그가 붙은 게시글 (교집합)
+ */
+public enum TagMatchMode {
+
+    ANY,
+    ALL
+}
@@ -0,0 +1,16 @@
+package com.sungho.trendboard.application.post.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 항목별 검증은 요청 전체를 거절하지 않고 항목 결과로 돌려주기 위해 서비스에서 한다.
+ */
+public record BulkCreatePostRequest(
+        @NotEmpty(message = "게시글은 1개 이상이어야 합니다.")
+        @Size(max = 10000, message = "게시글은 한 번에 최대 10000개까지 등록할 수 있습니다.")
+        List<CreatePostRequest> posts
+) {
+}
@@ -0,0 +1,20 @@
+package com.sungho.trendboard.application.post.dto;
+
+import java.util.List;
+
+/**
+ * @param results 요청 순서와 같은 순서의 항목별 결과
+ */
+public record BulkCreatePostResponse(
+        int requested,
+        int created,
+        int failed,
+        List<BulkPostItemResult> results
+) {
+    public static BulkCreatePostResponse of(List<BulkPostItemResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> result.status() == BulkPostItemResult.Status.CREATED)
+                .count();
+        return new BulkCreatePostResponse(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sungho.trendboard.application.post.dto;
+
+import com.sungho.trendboard.global.exception.ErrorCode;
+
+/**
+ * @param index  요청 목록에서의 위치(0부터)
+ * @param postId 생성된 게시글 id. 실패하면 null
+ */
+public record BulkPostItemResult(
+        int index,
+        Status status,
+        Long postId,
+        String code,
+        String message
+) {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED
+    }
+
+    public static BulkPostItemResult created(int index, Long postId) {
+        return new BulkPostItemResult(index, Status.CREATED, postId, null, null);
+    }
+
+    public static BulkPostItemResult invalid(int index, ErrorCode errorCode, String message) {
+        return new BulkPostItemResult(index, Status.INVALID, null, errorCode.getCode(), message);
+    }
+
+    public static BulkPostItemResult failed(int index, ErrorCode errorCode) {
+        return new BulkPostItemResult(index, Status.FAILED, null, errorCode.getCode(), errorCode.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.sungho.trendboard.application.post.dto;
 import com.sungho.trendboard.domain.Post;
 import com.sungho.trendboard.domain.PostCategory;
 import com.sungho.trendboard.domain.PostHashtag;
+import com.sungho.trendboard.domain.PostTag;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,7 +28,7 @@ public record CreatePostResponse(
                 post.getContent(),
                 post.getCategory(),
                 post.getPostTags().stream()
-                        .map(postTag -> postTag.getTag().getId())
+                        .map(PostTag::getTagId)
                         .toList(),
                 post.getPostHashtags().stream()
                         .map(PostHashtag::getName)
@@ -0,0 +1,22 @@
+package com.sungho.trendboard.application.post.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+
+public record MemberPostsRequest(
+        @Positive(message = "커서 ID는 1 이상이어야 합니다.")
+        Long cursor,
+
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size
+) {
+    private static final int DEFAULT_SIZE = 20;
+
+    public MemberPostsRequest {
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+    }
+}
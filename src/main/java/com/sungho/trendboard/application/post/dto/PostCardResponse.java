@@ -0,0 +1,35 @@
+package com.sungho.trendboard.application.post.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostCardResponse(
+        Long id,
+        Long memberId,
+        String title,
+        String excerpt,
+        PostCategory category,
+        List<Long> tagIds,
+        List<String> hashtags,
+        int likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PostCardResponse of(PostCardRow row, List<Long> tagIds, List<String> hashtags) {
+        return new PostCardResponse(
+                row.id(),
+                row.memberId(),
+                row.title(),
+                row.excerpt(),
+                row.category(),
+                List.copyOf(tagIds),
+                List.copyOf(hashtags),
+                row.likeCount(),
+                row.createdAt(),
+                row.updatedAt()
+        );
+    }
+}
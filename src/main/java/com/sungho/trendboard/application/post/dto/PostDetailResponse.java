@@ -0,0 +1,47 @@
+package com.sungho.trendboard.application.post.dto;
+
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostDetailResponse(
+        Long id,
+        Long memberId,
+        String title,
+        String content,
+        PostCategory category,
+        List<Long> tagIds,
+        List<String> hashtags,
+        int likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long viewCount,
+        long uniqueViewers
+) {
+    public static PostDetailResponse of(Post post, List<Long> tagIds, List<String> hashtags) {
+        return new PostDetailResponse(
+                post.getId(),
+                post.getMemberId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory(),
+                List.copyOf(tagIds),
+                List.copyOf(hashtags),
+                post.getLikeCount(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                0L,
+                0L
+        );
+    }
+
+    /**
+     * 조회 수는 요청마다 바뀌므로 상세 캐시에는 0으로 두고 응답 직전에 채운다.
+     */
+    public PostDetailResponse withViewStats(long viewCount, long uniqueViewers) {
+        return new PostDetailResponse(id, memberId, title, content, category, tagIds, hashtags, likeCount,
+                createdAt, updatedAt, viewCount, uniqueViewers);
+    }
+}
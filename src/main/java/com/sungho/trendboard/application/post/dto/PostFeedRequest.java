@@ -0,0 +1,68 @@
+package com.sungho.trendboard.application.post.dto;
+
+import com.sungho.trendboard.application.post.TagMatchMode;
+import com.sungho.trendboard.domain.PostCategory;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PostFeedRequest(
+        @Positive(message = "커서 ID는 1 이상이어야 합니다.")
+        Long cursor,
+
+        // 커서 이전 버전 클라이언트 호환용 (1부터 시작)
+        @Min(value = 1, message = "페이지 번호는 1 이상이어야 합니다.")
+        Integer page,
+
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size,
+
+        PostCategory category,
+
+        @Size(max = 10, message = "태그는 최대 10개까지 선택할 수 있습니다.")
+        List<
+                @NotNull(message = "태그 ID는 필수입니다.")
+                @Positive(message = "태그 ID는 1 이상이어야 합니다.")
+                        Long> tagIds,
+
+        TagMatchMode mode
+) {
+    private static final int DEFAULT_SIZE = 20;
+
+    public PostFeedRequest {
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+        if (mode == null) {
+            mode = TagMatchMode.ANY;
+        }
+    }
+
+    public boolean isTagRequest() {
+        return tagIds != null && !tagIds.isEmpty();
+    }
+
+    public boolean isCategoryRequest() {
+        return category != null;
+    }
+
+    // 필터 피드는 커서 방식만 지원한다. page를 조용히 무시하면 클라이언트가 1페이지를 반복해 받으므로 요청을 거부한다.
+    @AssertTrue(message = "page는 category, tagIds와 함께 쓸 수 없습니다. 필터 피드는 cursor로 넘겨 주세요.")
+    public boolean isPageWithoutFilter() {
+        return page == null || (category == null && !isTagRequest());
+    }
+
+    public boolean isOffsetRequest() {
+        return cursor == null && page != null && category == null && !isTagRequest();
+    }
+
+    public long offset() {
+        return (long) (page - 1) * size;
+    }
+}
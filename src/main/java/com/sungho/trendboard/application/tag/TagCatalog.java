@@ -0,0 +1,205 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.infra.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * tag 테이블 전체를 담은 불변 스냅샷.
+ *
+ * <p>tag는 작고 거의 바뀌지 않으므로 요청마다 DB를 조회하지 않고 정렬된 long[] 이진 탐색으로 존재 여부를 검증한다.
+ * 스냅샷은 통째로 새로 만들어 AtomicReference로 교체하므로 읽는 쪽은 잠금 없이 항상 일관된 상태를 본다.</p>
+ *
+ * <p>다른 노드나 운영 작업으로 추가된 태그는 스냅샷에 없을 수 있다. 스냅샷에 없는 id가 들어오면 그 id만 DB로 확인하고,
+ * 실제로 존재하면 스냅샷을 다시 읽는다. 삭제는 주기적 갱신으로 반영되고, 그 사이 삭제된 태그로 연결하다 FK 위반이 나면
+ * 호출자가 {@link #invalidate()}로 스냅샷을 버린다.</p>
+ *
+ * <p>없는 id가 몰려 들어와도 요청마다 전체를 다시 읽지 않도록, 누락으로 인한 재적재는 miss-refresh-interval에 한 번으로 제한한다.
+ * 동시에 누락된 요청은 진행 중인 재적재 하나를 기다렸다가 새 스냅샷으로 답하고, 간격 안의 누락은 현재 스냅샷으로 답한다.
+ * 그래서 직전 재적재 이후 간격 안에 다른 노드에서 추가된 태그는 잠시 없는 것으로 보일 수 있다.</p>
+ */
+@Slf4j
+@Component
+public class TagCatalog {
+
+    private final TagRepository tagRepository;
+    private final long missRefreshIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    // 누락으로 인한 재적재를 하나로 묶는 잠금과 마지막 재적재 시각
+    private final Object reloadLock = new Object();
+    private long lastMissRefreshNanos;
+
+    @Autowired
+    public TagCatalog(TagRepository tagRepository,
+                      @Value("${app.tag.catalog.miss-refresh-interval:1s}") Duration missRefreshInterval) {
+        this(tagRepository, missRefreshInterval, System::nanoTime);
+    }
+
+    TagCatalog(TagRepository tagRepository, Duration missRefreshInterval, LongSupplier nanoClock) {
+        this.tagRepository = tagRepository;
+        this.missRefreshIntervalNanos = missRefreshInterval.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastMissRefreshNanos = nanoClock.getAsLong() - missRefreshIntervalNanos;
+    }
+
+    /**
+     * 모든 id가 존재하는 태그인지 검증한다. 하나라도 없으면 TAG_NOT_FOUND.
+     */
+    public void validateExists(List<Long> tagIds) {
+        Snapshot current = current();
+        List<Long> missing = tagIds.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        if (tagRepository.countByIdIn(missing) == missing.size()) {
+            log.info("태그 카탈로그에 없는 태그 발견, 스냅샷 갱신: missingTagIds={}", missing);
+            refreshOnMiss();
+            return;
+        }
+        log.info("존재하지 않는 태그 포함: requestedTagIds={}, missingTagIds={}", tagIds, missing);
+        throw new BusinessException(PostErrorCode.TAG_NOT_FOUND);
+    }
+
+    /**
+     * 존재하지 않는 태그 id만 골라낸다. 여러 요청의 태그를 한 번에 검증할 때 사용한다.
+     * 스냅샷에 없는 id가 있으면 (재적재 간격이 지났을 때) 스냅샷을 한 번 다시 읽어 확인한다.
+     */
+    public Set<Long> findMissing(Collection<Long> tagIds) {
+        Set<Long> missing = missingFrom(current(), tagIds);
+        if (missing.isEmpty()) {
+            return missing;
+        }
+        refreshOnMiss();
+        Set<Long> stillMissing = missingFrom(snapshot.get(), missing);
+        if (!stillMissing.isEmpty()) {
+            log.info("존재하지 않는 태그 포함: missingTagIds={}", stillMissing);
+        }
+        return stillMissing;
+    }
+
+    public boolean contains(long tagId) {
+        return current().contains(tagId);
+    }
+
+    public Optional<String> findName(long tagId) {
+        return Optional.ofNullable(current().nameOf(tagId));
+    }
+
+    public int size() {
+        return current().size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.tag.catalog.refresh-interval:5m}",
+            initialDelayString = "${app.tag.catalog.refresh-interval:5m}")
+    public void refresh() {
+        Snapshot refreshed = Snapshot.of(tagRepository.findAll());
+        Snapshot previous = snapshot.getAndSet(refreshed);
+        if (previous == null || previous.size() != refreshed.size()) {
+            log.info("태그 카탈로그 갱신: size={}", refreshed.size());
+        }
+    }
+
+    /**
+     * 스냅샷을 버려 다음 조회 때 다시 읽게 한다. 실패한 트랜잭션 안에서도 DB를 조회하지 않고 호출할 수 있다.
+     */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    private void refreshOnMiss() {
+        long requestedAt = nanoClock.getAsLong();
+        synchronized (reloadLock) {
+            // 기다리는 동안 다른 요청이 이미 다시 읽었거나 간격 안이면 현재 스냅샷으로 답한다.
+            if (requestedAt - lastMissRefreshNanos < missRefreshIntervalNanos) {
+                return;
+            }
+            lastMissRefreshNanos = nanoClock.getAsLong();
+            refresh();
+        }
+    }
+
+    private static Set<Long> missingFrom(Snapshot snapshot, Collection<Long> tagIds) {
+        Set<Long> missing = new HashSet<>();
+        for (Long tagId : tagIds) {
+            if (!snapshot.contains(tagId)) {
+                missing.add(tagId);
+            }
+        }
+        return missing;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (reloadLock) {
+            if (snapshot.get() == null) {
+                refresh();
+            }
+            return snapshot.get();
+        }
+    }
+
+    /**
+     * id 오름차순으로 정렬된 병렬 배열. 박싱된 키의 HashMap 대신 이진 탐색으로 조회한다.
+     */
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final String[] names;
+
+        private Snapshot(long[] ids, String[] names) {
+            this.ids = ids;
+            this.names = names;
+        }
+
+        static Snapshot of(List<Tag> tags) {
+            Tag[] sorted = tags.toArray(Tag[]::new);
+            Arrays.sort(sorted, Comparator.comparingLong(Tag::getId));
+            long[] ids = new long[sorted.length];
+            String[] names = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].getId();
+                names[i] = sorted[i].getName();
+            }
+            return new Snapshot(ids, names);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        String nameOf(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? names[index] : null;
+        }
+
+        int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sungho.trendboard.application.tag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+
+/**
+ * 태그별 사용 게시글 수를 많은 순으로 정렬해 유지한다.
+ *
+ * <p>변경은 태그 하나의 항목을 빼고 다시 넣는 O(log n)이고, 상위 조회는 앞에서부터 limit개만 읽는다.
+ * 0이 된 태그는 순위에서 뺀다.</p>
+ */
+final class TagLeaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::postCount).reversed()
+            .thenComparingLong(Entry::tagId);
+
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    synchronized void add(long tagId, long delta) {
+        Entry current = entries.remove(tagId);
+        long count = delta;
+        if (current != null) {
+            ranking.remove(current);
+            count += current.postCount();
+        }
+        put(tagId, count);
+    }
+
+    /**
+     * 저장된 집계로 전체를 다시 채운다.
+     */
+    synchronized void reset(Map<Long, Long> counts) {
+        ranking.clear();
+        entries.clear();
+        counts.forEach(this::put);
+    }
+
+    synchronized List<Entry> top(int limit, LongPredicate include) {
+        List<Entry> top = new ArrayList<>(limit);
+        for (Entry entry : ranking) {
+            if (top.size() == limit) {
+                break;
+            }
+            if (include.test(entry.tagId())) {
+                top.add(entry);
+            }
+        }
+        return top;
+    }
+
+    synchronized long count(long tagId) {
+        Entry entry = entries.get(tagId);
+        return entry == null ? 0L : entry.postCount();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void put(long tagId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Entry entry = new Entry(tagId, count);
+        ranking.add(entry);
+        entries.put(tagId, entry);
+    }
+
+    record Entry(long tagId, long postCount) {
+    }
+}
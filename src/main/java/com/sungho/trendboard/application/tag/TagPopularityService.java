@@ -0,0 +1,151 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.application.post.PostTagsChangedEvent;
+import com.sungho.trendboard.application.tag.dto.PopularTagResponse;
+import com.sungho.trendboard.application.tag.dto.PopularTagsRequest;
+import com.sungho.trendboard.domain.PostTagDiff;
+import com.sungho.trendboard.domain.TagStat;
+import com.sungho.trendboard.infra.repository.TagStatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 태그별 사용 게시글 수를 게시글 태그 변경분으로 증분 갱신해 메모리 순위로 제공하고, tag_stat에 주기적으로 반영한다.
+ *
+ * <p>조회는 메모리 순위에서 limit개만 읽으므로 post_tag를 집계하지 않는다.
+ * 반영 주기마다 tag_stat 전체(태그 수만큼의 작은 테이블)를 다시 읽고 아직 반영하지 않은 이 노드의 증분을 더해 순위를 다시 만든다.
+ * 그래서 다른 노드의 변경도 한 주기 안에 반영된다.</p>
+ *
+ * <p>기동할 때 tag_stat에 없는 태그는 post_tag를 한 번 집계해 채운다. V15 마이그레이션의 초기 집계는 Flyway를 끈 환경에서는 돌지 않고,
+ * 이미 행이 있는 태그는 증분으로 맞춰지고 있으므로 건드리지 않는다.</p>
+ *
+ * <p>배치 upsert는 한 트랜잭션으로 실행한다. 일부 태그만 반영된 채 실패하면 증분을 되돌려 다시 반영할 때 두 번 더해지므로,
+ * 실패하면 전부 롤백하고 증분 전체를 다음 주기로 넘긴다.</p>
+ */
+@Slf4j
+@Service
+public class TagPopularityService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tag_stat (tag_id, post_count, updated_at)
+            VALUES (?, GREATEST(?, 0), ?)
+            ON DUPLICATE KEY UPDATE post_count = GREATEST(post_count + ?, 0),
+                                    updated_at = VALUES(updated_at)
+            """;
+
+    private static final String SEED_SQL = """
+            INSERT INTO tag_stat (tag_id, post_count, updated_at)
+            SELECT pt.tag_id, COUNT(*), ?
+            FROM post_tag pt
+            WHERE NOT EXISTS (SELECT 1 FROM tag_stat ts WHERE ts.tag_id = pt.tag_id)
+            GROUP BY pt.tag_id
+            ON DUPLICATE KEY UPDATE tag_stat.post_count = tag_stat.post_count
+            """;
+
+    private final TagStatRepository tagStatRepository;
+    private final TagCatalog tagCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TagLeaderboard leaderboard = new TagLeaderboard();
+
+    // 아직 tag_stat에 반영하지 않은 증분. 순위 변경과 같은 잠금으로 묶어 다시 읽을 때 빠지거나 두 번 더해지지 않게 한다.
+    private final Map<Long, Long> pending = new HashMap<>();
+
+    public TagPopularityService(TagStatRepository tagStatRepository,
+                                TagCatalog tagCatalog,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.tagStatRepository = tagStatRepository;
+        this.tagCatalog = tagCatalog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<PopularTagResponse> getPopular(PopularTagsRequest request) {
+        // 카탈로그에서 사라진(삭제된) 태그는 건너뛰고 다음 순위로 채운다.
+        return leaderboard.top(request.limit(), tagCatalog::contains).stream()
+                .map(entry -> new PopularTagResponse(entry.tagId(), tagCatalog.findName(entry.tagId()).orElse(null), entry.postCount()))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostTagsChanged(PostTagsChangedEvent event) {
+        PostTagDiff diff = event.diff();
+        synchronized (pending) {
+            diff.addedTagIds().forEach(tagId -> apply(tagId, 1));
+            diff.removedTagIds().forEach(tagId -> apply(tagId, -1));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // 여러 노드가 함께 기동해도 먼저 넣은 행을 그대로 두도록 중복 키는 무시한다.
+        Integer seeded = transactionTemplate.execute(status ->
+                jdbcTemplate.update(SEED_SQL, Timestamp.valueOf(LocalDateTime.now())));
+        reload();
+        log.info("태그 사용 수 초기 적재: tags={}, seeded={}", leaderboard.size(), seeded);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tag.stat.flush-interval:10s}",
+            initialDelayString = "${app.tag.stat.flush-interval:10s}")
+    public void flush() {
+        Map<Long, Long> deltas;
+        synchronized (pending) {
+            deltas = new TreeMap<>(pending);
+            pending.clear();
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, toArgs(deltas)));
+            } catch (RuntimeException e) {
+                log.warn("태그 사용 수 반영 실패, 다음 주기에 재시도: tags={}", deltas.size(), e);
+                synchronized (pending) {
+                    deltas.forEach((tagId, delta) -> pending.merge(tagId, delta, Long::sum));
+                }
+                return;
+            }
+        }
+        reload();
+    }
+
+    private void reload() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (TagStat stat : tagStatRepository.findAll()) {
+            counts.put(stat.getTagId(), stat.getPostCount());
+        }
+        synchronized (pending) {
+            pending.forEach((tagId, delta) -> counts.merge(tagId, delta, Long::sum));
+            leaderboard.reset(counts);
+        }
+    }
+
+    private void apply(long tagId, long delta) {
+        pending.merge(tagId, delta, Long::sum);
+        leaderboard.add(tagId, delta);
+    }
+
+    private static List<Object[]> toArgs(Map<Long, Long> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((tagId, delta) -> args.add(new Object[]{tagId, delta, now, delta}));
+        return args;
+    }
+}
@@ -0,0 +1,8 @@
+package com.sungho.trendboard.application.tag.dto;
+
+public record PopularTagResponse(
+        Long tagId,
+        String name,
+        long postCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.sungho.trendboard.application.tag.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record PopularTagsRequest(
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "조회 개수는 100 이하여야 합니다.")
+        Integer limit
+) {
+    private static final int DEFAULT_LIMIT = 20;
+
+    public PopularTagsRequest {
+        if (limit == null) {
+            limit = DEFAULT_LIMIT;
+        }
+    }
+}
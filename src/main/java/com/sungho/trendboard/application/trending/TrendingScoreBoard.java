@@ -0,0 +1,297 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 시간 감쇠 점수와 카테고리별/전체 Top-K를 메모리에서 유지한다.
+ *
+ * <p>점수는 forward decay로 관리한다. 시각 t의 이벤트는 weight * 2^((t - landmark) / halfLife)를 더하고,
+ * 조회 시각 now의 실제 점수는 여기에 2^(-(now - landmark) / halfLife)를 곱한 값이다.
+ * 곱하는 값이 모든 게시글에 같으므로 시간이 흘러도 순위는 바뀌지 않고, 이벤트가 온 게시글만 다시 줄 세우면 된다.
+ * 저장 값이 지수적으로 커지므로 landmark가 오래되면 {@link #rescale}로 기준을 옮긴다.</p>
+ *
+ * <p>변경은 이 객체의 락 안에서만 일어나고, 조회는 변경 때마다 발행하는 불변 스냅샷을 락 없이 읽는다.</p>
+ */
+class TrendingScoreBoard {
+
+    // 저장 점수가 2^32배를 넘기 전에 landmark를 옮긴다.
+    private static final int RESCALE_AFTER_HALF_LIVES = 32;
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::postId).reversed());
+
+    private final double halfLifeMillis;
+    private final int topK;
+    private final Map<Long, Tracked> tracked = new HashMap<>();
+    private final TopK[] boards;
+    private final AtomicReferenceArray<Snapshot> snapshots;
+    private long landmark;
+
+    TrendingScoreBoard(long halfLifeMillis, int topK, long landmark) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.topK = topK;
+        this.landmark = landmark;
+        int boardCount = PostCategory.values().length + 1;
+        this.boards = new TopK[boardCount];
+        this.snapshots = new AtomicReferenceArray<>(boardCount);
+        for (int i = 0; i < boardCount; i++) {
+            boards[i] = new TopK();
+            snapshots.set(i, new Snapshot(List.of(), landmark));
+        }
+    }
+
+    /**
+     * 게시글에 시각 eventMillis의 가중치를 더한다. 추적하지 않던 게시글의 음수 가중치는 무시한다.
+     */
+    synchronized void add(long postId, PostCategory category, double weight, long eventMillis) {
+        Tracked entry = track(postId, category, weight);
+        if (entry == null) {
+            return;
+        }
+        entry.score = Math.max(0, entry.score + weight * growth(eventMillis));
+        rerank(entry);
+    }
+
+    /**
+     * 좋아요 가중치를 더한다. 취소(음수)는 취소된 좋아요의 시각을 eventMillis로 받아 그 좋아요가 더한 만큼 뺀다.
+     * 좋아요 몫은 따로 두고 그 안에서만 빼므로, 시각을 모르는 좋아요(재시작 후 적재분)를 빼도 작성 가중치는 남는다.
+     */
+    synchronized void addLike(long postId, PostCategory category, double weight, long eventMillis) {
+        Tracked entry = track(postId, category, weight);
+        if (entry == null) {
+            return;
+        }
+        double delta = Math.max(weight * growth(eventMillis), -entry.likeScore);
+        entry.likeScore += delta;
+        entry.score = Math.max(0, entry.score + delta);
+        rerank(entry);
+    }
+
+    synchronized void changeCategory(long postId, PostCategory category) {
+        Tracked entry = tracked.get(postId);
+        if (entry != null && entry.category != category) {
+            moveCategory(entry, category);
+            offer(category.ordinal(), entry);
+            offer(globalIndex(), entry);
+        }
+    }
+
+    /**
+     * 현재 점수가 minScore보다 낮고 어느 Top-K에도 없는 게시글을 추적 대상에서 뺀다.
+     */
+    synchronized int prune(double minScore, long nowMillis) {
+        double threshold = minScore * growth(nowMillis);
+        int removed = 0;
+        Iterator<Tracked> iterator = tracked.values().iterator();
+        while (iterator.hasNext()) {
+            Tracked entry = iterator.next();
+            if (entry.score < threshold
+                    && !boards[entry.category.ordinal()].contains(entry.postId)
+                    && !boards[globalIndex()].contains(entry.postId)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * landmark가 오래되었으면 nowMillis로 옮기고 저장 점수를 같은 비율로 줄인다. 순위는 그대로다.
+     */
+    synchronized boolean rescale(long nowMillis) {
+        if (nowMillis - landmark < RESCALE_AFTER_HALF_LIVES * halfLifeMillis) {
+            return false;
+        }
+        double factor = 1 / growth(nowMillis);
+        landmark = nowMillis;
+        tracked.values().forEach(entry -> {
+            entry.score *= factor;
+            entry.likeScore *= factor;
+        });
+        for (int i = 0; i < boards.length; i++) {
+            boards[i].rescale(factor);
+            publish(i);
+        }
+        return true;
+    }
+
+    /**
+     * category가 null이면 전체 순위를 반환한다. 점수는 nowMillis 시점으로 감쇠한 값이다.
+     */
+    List<TrendingEntry> top(PostCategory category, int limit, long nowMillis) {
+        Snapshot snapshot = snapshots.get(category == null ? globalIndex() : category.ordinal());
+        double decay = Math.pow(2, -(nowMillis - snapshot.landmark) / halfLifeMillis);
+        int size = Math.min(limit, snapshot.ranking.size());
+        List<TrendingEntry> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Ranked ranked = snapshot.ranking.get(i);
+            result.add(new TrendingEntry(ranked.postId, ranked.category, ranked.score * decay));
+        }
+        return result;
+    }
+
+    synchronized int trackedCount() {
+        return tracked.size();
+    }
+
+    private Tracked track(long postId, PostCategory category, double weight) {
+        Tracked entry = tracked.get(postId);
+        if (entry == null) {
+            if (weight <= 0) {
+                return null;
+            }
+            entry = new Tracked(postId, category);
+            tracked.put(postId, entry);
+        }
+        if (entry.category != category) {
+            moveCategory(entry, category);
+        }
+        return entry;
+    }
+
+    private void rerank(Tracked entry) {
+        offer(entry.category.ordinal(), entry);
+        offer(globalIndex(), entry);
+    }
+
+    private void moveCategory(Tracked entry, PostCategory category) {
+        int oldIndex = entry.category.ordinal();
+        entry.category = category;
+        if (boards[oldIndex].remove(entry.postId) != null) {
+            refill(oldIndex);
+            publish(oldIndex);
+        }
+    }
+
+    private void offer(int index, Tracked entry) {
+        TopK board = boards[index];
+        Ranked previous = board.remove(entry.postId);
+        Ranked candidate = new Ranked(entry.postId, entry.category, entry.score);
+
+        if (board.size() < topK) {
+            board.add(candidate);
+        } else if (ORDER.compare(candidate, board.last()) < 0) {
+            board.removeLast();
+            board.add(candidate);
+        } else if (previous == null) {
+            return;
+        }
+
+        // Top-K 안의 게시글 점수가 내려갔으면 밖에 있던 게시글이 더 높을 수 있으므로 다시 채운다.
+        if (previous != null && candidate.score < previous.score) {
+            refill(index);
+        }
+        publish(index);
+    }
+
+    private void refill(int index) {
+        boolean global = index == globalIndex();
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(topK + 1, ORDER.reversed());
+        for (Tracked entry : tracked.values()) {
+            if (!global && entry.category.ordinal() != index) {
+                continue;
+            }
+            heap.add(new Ranked(entry.postId, entry.category, entry.score));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        boards[index].replaceAll(heap);
+    }
+
+    private void publish(int index) {
+        snapshots.set(index, new Snapshot(boards[index].toList(), landmark));
+    }
+
+    private double growth(long eventMillis) {
+        return Math.pow(2, (eventMillis - landmark) / halfLifeMillis);
+    }
+
+    private int globalIndex() {
+        return boards.length - 1;
+    }
+
+    record TrendingEntry(long postId, PostCategory category, double score) {
+    }
+
+    private record Ranked(long postId, PostCategory category, double score) {
+    }
+
+    private record Snapshot(List<Ranked> ranking, long landmark) {
+    }
+
+    private static final class Tracked {
+        private final long postId;
+        private PostCategory category;
+        private double score;
+        // score 중 좋아요로 더해진 몫. 좋아요 취소는 이 안에서만 뺀다.
+        private double likeScore;
+
+        private Tracked(long postId, PostCategory category) {
+            this.postId = postId;
+            this.category = category;
+        }
+    }
+
+    private static final class TopK {
+        private final TreeSet<Ranked> ranking = new TreeSet<>(ORDER);
+        private final Map<Long, Ranked> members = new HashMap<>();
+
+        int size() {
+            return ranking.size();
+        }
+
+        boolean contains(long postId) {
+            return members.containsKey(postId);
+        }
+
+        void add(Ranked ranked) {
+            ranking.add(ranked);
+            members.put(ranked.postId, ranked);
+        }
+
+        Ranked remove(long postId) {
+            Ranked removed = members.remove(postId);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+            return removed;
+        }
+
+        Ranked last() {
+            return ranking.last();
+        }
+
+        void removeLast() {
+            members.remove(ranking.pollLast().postId);
+        }
+
+        void replaceAll(Iterable<Ranked> rankeds) {
+            ranking.clear();
+            members.clear();
+            rankeds.forEach(this::add);
+        }
+
+        void rescale(double factor) {
+            List<Ranked> rescaled = new ArrayList<>(ranking.size());
+            for (Ranked ranked : ranking) {
+                rescaled.add(new Ranked(ranked.postId, ranked.category, ranked.score * factor));
+            }
+            replaceAll(rescaled);
+        }
+
+        List<Ranked> toList() {
+            return List.copyOf(ranking);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.application.like.PostLikedEvent;
+import com.sungho.trendboard.application.post.PostChangedEvent;
+import com.sungho.trendboard.application.post.PostCreatedEvent;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.global.util.Snowflake;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.dto.PostScoreSeedRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글 작성/좋아요 이벤트로 트렌딩 점수를 증분 갱신하고, 메모리의 Top-K를 그대로 제공한다.
+ *
+ * <p>점수 = 작성 가중치(작성 시각 기준 감쇠) + 좋아요 수 x 좋아요 가중치(각 좋아요 시각 기준 감쇠).
+ * 좋아요 취소는 지워진 좋아요가 생긴 시각 기준으로 빼므로 그 좋아요가 더했던 만큼만 빠진다.
+ * 재시작 후에는 최근 게시글의 like_count로 다시 채우며, 이때 좋아요 시각을 알 수 없으므로 작성 시각으로 간주한다.</p>
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private final TrendingScoreBoard board;
+    private final PostQueryRepository postQueryRepository;
+    private final double postWeight;
+    private final double likeWeight;
+    private final double pruneBelow;
+    private final Duration seedWindow;
+    private final int seedLimit;
+
+    public TrendingService(PostQueryRepository postQueryRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.trending.half-life:6h}") Duration halfLife,
+                           @Value("${app.trending.top-k:100}") int topK,
+                           @Value("${app.trending.post-weight:3}") double postWeight,
+                           @Value("${app.trending.like-weight:1}") double likeWeight,
+                           @Value("${app.trending.prune-below:0.01}") double pruneBelow,
+                           @Value("${app.trending.seed-window:3d}") Duration seedWindow,
+                           @Value("${app.trending.seed-limit:50000}") int seedLimit) {
+        this.board = new TrendingScoreBoard(halfLife.toMillis(), topK, System.currentTimeMillis());
+        this.postQueryRepository = postQueryRepository;
+        this.postWeight = postWeight;
+        this.likeWeight = likeWeight;
+        this.pruneBelow = pruneBelow;
+        this.seedWindow = seedWindow;
+        this.seedLimit = seedLimit;
+        Gauge.builder("trending.tracked.posts", board, TrendingScoreBoard::trackedCount)
+                .description("트렌딩 점수를 추적 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public List<TrendingPostResponse> getTrending(TrendingPostsRequest request) {
+        return board.top(request.category(), request.limit(), System.currentTimeMillis()).stream()
+                .map(entry -> new TrendingPostResponse(entry.postId(), entry.category(), entry.score()))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        board.add(event.postId(), event.category(), postWeight, Snowflake.timestampOf(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        board.changeCategory(event.postId(), event.category());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        board.addLike(event.postId(), event.category(), likeWeight * event.delta(), event.likedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long now = System.currentTimeMillis();
+        List<PostScoreSeedRow> rows = postQueryRepository.findScoreSeeds(Snowflake.minIdAt(now - seedWindow.toMillis()), seedLimit);
+        for (PostScoreSeedRow row : rows) {
+            long createdAt = Snowflake.timestampOf(row.id());
+            board.add(row.id(), row.category(), postWeight, createdAt);
+            board.addLike(row.id(), row.category(), likeWeight * row.likeCount(), createdAt);
+        }
+        log.info("트렌딩 점수 초기 적재: posts={}", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.prune-interval:1m}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        if (board.rescale(now)) {
+            log.info("트렌딩 점수 기준 시각 이동");
+        }
+        int removed = board.prune(pruneBelow, now);
+        if (removed > 0) {
+            log.debug("트렌딩 추적 대상 정리: removed={}", removed);
+        }
+    }
+}
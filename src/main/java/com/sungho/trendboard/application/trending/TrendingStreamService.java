@@ -0,0 +1,240 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.application.trending.dto.TrendingDeltaResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.application.trending.dto.TrendingRankResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingSnapshotResponse;
+import com.sungho.trendboard.domain.PostCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리별 트렌딩 순위 변경분을 SSE로 보낸다.
+ *
+ * <p>점수가 바뀔 때마다 보내지 않고 tick마다 구독자가 있는 카테고리의 순위를 한 번 읽어 직전 상태와 비교한다.
+ * 그래서 한 tick 안에 같은 게시글 점수가 몇 번 바뀌었든 변경분에는 한 번만 들어간다.
+ * 감쇠는 모든 점수에 같은 비율로 적용되므로, 직전 점수를 현재 시각까지 감쇠시킨 값과 같으면 바뀌지 않은 것으로 본다.</p>
+ *
+ * <p>느린 구독자 처리는 {@link TrendingStreamSubscriber} 참고. sender 스레드의 대기열에는 구독자당 작업이 최대 하나라
+ * 대기열 길이도 구독자 수를 넘지 않는다.</p>
+ */
+@Service
+public class TrendingStreamService {
+
+    private static final double SCORE_TOLERANCE = 1e-6;
+
+    private final TrendingService trendingService;
+    private final int size;
+    private final double halfLifeMillis;
+    private final Executor sender;
+    private final Supplier<SseEmitter> emitterFactory;
+    private final LongSupplier clock;
+
+    private final Map<StreamKey, Set<TrendingStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<StreamKey, TrendingSnapshotResponse> latest = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Counter sentDeltas;
+    private final Counter sentSnapshots;
+    private final Counter dropped;
+
+    @Autowired
+    public TrendingStreamService(TrendingService trendingService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.trending.stream.size:20}") int size,
+                                 @Value("${app.trending.half-life:6h}") Duration halfLife,
+                                 @Value("${app.trending.stream.timeout:30m}") Duration timeout,
+                                 @Value("${app.trending.stream.sender-threads:4}") int senderThreads) {
+        this(trendingService, meterRegistry, size, halfLife, Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "trending-stream-sender");
+            thread.setDaemon(true);
+            return thread;
+        }), () -> new SseEmitter(timeout.toMillis()), System::currentTimeMillis);
+    }
+
+    TrendingStreamService(TrendingService trendingService,
+                          MeterRegistry meterRegistry,
+                          int size,
+                          Duration halfLife,
+                          Executor sender,
+                          Supplier<SseEmitter> emitterFactory,
+                          LongSupplier clock) {
+        if (size < 1 || size > TrendingPostsRequest.MAX_LIMIT) {
+            throw new IllegalArgumentException("스트림 순위 개수는 1 이상 " + TrendingPostsRequest.MAX_LIMIT + " 이하여야 합니다: " + size);
+        }
+        this.trendingService = trendingService;
+        this.size = size;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.sender = sender;
+        this.emitterFactory = emitterFactory;
+        this.clock = clock;
+        Gauge.builder("trending.stream.connections", connections, AtomicInteger::get)
+                .description("트렌딩 스트림 구독 연결 수")
+                .register(meterRegistry);
+        this.sentDeltas = Counter.builder("trending.stream.events")
+                .tag("type", "delta")
+                .register(meterRegistry);
+        this.sentSnapshots = Counter.builder("trending.stream.events")
+                .tag("type", "snapshot")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("trending.stream.dropped")
+                .description("느린 구독자에게 보내지 못하고 전체 순위 재전송으로 대체한 변경분 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param category null이면 전체 순위
+     */
+    public SseEmitter subscribe(PostCategory category) {
+        StreamKey key = new StreamKey(category);
+        SseEmitter emitter = emitterFactory.get();
+        TrendingStreamSubscriber subscriber = new TrendingStreamSubscriber(
+                emitter, sender, () -> latest.computeIfAbsent(key, this::capture), sentDeltas, sentSnapshots, dropped);
+
+        subscribers.compute(key, (k, current) -> {
+            Set<TrendingStreamSubscriber> set = current == null ? ConcurrentHashMap.newKeySet() : current;
+            set.add(subscriber);
+            return set;
+        });
+        connections.incrementAndGet();
+        emitter.onCompletion(() -> unsubscribe(key, subscriber));
+        emitter.onTimeout(() -> unsubscribe(key, subscriber));
+        emitter.onError(e -> unsubscribe(key, subscriber));
+
+        // 첫 메시지는 현재 전체 순위다. 이후에는 변경분만 보낸다.
+        subscriber.requestSnapshot();
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.stream.tick:1s}")
+    public void tick() {
+        for (Map.Entry<StreamKey, Set<TrendingStreamSubscriber>> entry : subscribers.entrySet()) {
+            StreamKey key = entry.getKey();
+            List<TrendingStreamSubscriber> open = new ArrayList<>();
+            for (TrendingStreamSubscriber subscriber : entry.getValue()) {
+                if (subscriber.isClosed()) {
+                    unsubscribe(key, subscriber);
+                } else {
+                    open.add(subscriber);
+                }
+            }
+            if (open.isEmpty()) {
+                continue;
+            }
+
+            TrendingSnapshotResponse previous = latest.get(key);
+            TrendingSnapshotResponse current = capture(key);
+            if (previous == null) {
+                latest.putIfAbsent(key, current);
+                continue;
+            }
+            TrendingDeltaResponse delta = diff(previous, current, halfLifeMillis);
+            if (delta == null) {
+                continue;
+            }
+            latest.put(key, current);
+            open.forEach(subscriber -> subscriber.offer(delta));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        }));
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * previous 이후 바뀐 것이 없으면 null.
+     */
+    static TrendingDeltaResponse diff(TrendingSnapshotResponse previous, TrendingSnapshotResponse current, double halfLifeMillis) {
+        double decay = Math.pow(2, -(current.at() - previous.at()) / halfLifeMillis);
+        Map<Long, TrendingRankResponse> before = new HashMap<>();
+        previous.ranks().forEach(rank -> before.put(rank.postId(), rank));
+
+        List<TrendingRankResponse> changed = new ArrayList<>();
+        Set<Long> present = new HashSet<>();
+        for (TrendingRankResponse rank : current.ranks()) {
+            present.add(rank.postId());
+            TrendingRankResponse old = before.get(rank.postId());
+            if (old == null || old.rank() != rank.rank() || !sameScore(old.score() * decay, rank.score())) {
+                changed.add(rank);
+            }
+        }
+        List<Long> removed = previous.ranks().stream()
+                .map(TrendingRankResponse::postId)
+                .filter(postId -> !present.contains(postId))
+                .toList();
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new TrendingDeltaResponse(previous.sequence(), current.sequence(), current.category(), current.at(),
+                List.copyOf(changed), removed);
+    }
+
+    private static boolean sameScore(double expected, double actual) {
+        return Math.abs(expected - actual) <= SCORE_TOLERANCE * Math.max(Math.abs(expected), Math.abs(actual));
+    }
+
+    private TrendingSnapshotResponse capture(StreamKey key) {
+        long now = clock.getAsLong();
+        List<TrendingPostResponse> top = trendingService.getTrending(new TrendingPostsRequest(key.category(), size));
+        List<TrendingRankResponse> ranks = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            ranks.add(new TrendingRankResponse(top.get(i).postId(), i + 1, top.get(i).score()));
+        }
+        return new TrendingSnapshotResponse(sequence.incrementAndGet(), key.category(), now, List.copyOf(ranks));
+    }
+
+    private void unsubscribe(StreamKey key, TrendingStreamSubscriber subscriber) {
+        subscriber.close();
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(key, (k, set) -> {
+            removed[0] = set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+        if (!subscribers.containsKey(key)) {
+            latest.remove(key);
+        }
+    }
+
+    private record StreamKey(PostCategory category) {
+    }
+}
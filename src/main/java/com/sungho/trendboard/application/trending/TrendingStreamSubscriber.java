@@ -0,0 +1,134 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.application.trending.dto.TrendingDeltaResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingSnapshotResponse;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * SSE 구독자 한 명. 보낼 것은 한 칸(slot)에만 담는다.
+ *
+ * <p>전송 중이던 변경분 외에 아직 보내지 못한 변경분이 있는데 새 변경분이 오면, 둘 다 버리고 "전체 순위 다시 보내기"로 바꾼다.
+ * 그래서 느린 구독자도 구독자당 메모리는 한 칸으로 고정되고, producer(tick)는 칸을 바꾸기만 하므로 전송을 기다리지 않는다.</p>
+ *
+ * <p>전송은 공유 sender 스레드에서 하며, 구독자마다 동시에 하나의 전송 작업만 돈다.</p>
+ */
+@Slf4j
+final class TrendingStreamSubscriber {
+
+    private static final Object RESYNC = new Object();
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final Supplier<TrendingSnapshotResponse> snapshotSource;
+    private final Counter sentDeltas;
+    private final Counter sentSnapshots;
+    private final Counter dropped;
+
+    private final AtomicReference<Object> slot = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    TrendingStreamSubscriber(SseEmitter emitter,
+                             Executor sender,
+                             Supplier<TrendingSnapshotResponse> snapshotSource,
+                             Counter sentDeltas,
+                             Counter sentSnapshots,
+                             Counter dropped) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.snapshotSource = snapshotSource;
+        this.sentDeltas = sentDeltas;
+        this.sentSnapshots = sentSnapshots;
+        this.dropped = dropped;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void requestSnapshot() {
+        slot.set(RESYNC);
+        schedule();
+    }
+
+    void offer(TrendingDeltaResponse delta) {
+        Object previous = slot.getAndUpdate(current -> current == null ? delta : RESYNC);
+        if (previous != null) {
+            // 아직 보내지 못한 중간 상태(또는 이번 변경분)를 버린다.
+            dropped.increment();
+        }
+        schedule();
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void schedule() {
+        if (closed || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            fail(e);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                Object next = slot.getAndSet(null);
+                if (next == null) {
+                    draining.set(false);
+                    // 비운 직후 새로 들어온 것이 있으면 다른 전송 작업이 없을 때만 이어서 보낸다.
+                    if (slot.get() == null || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                send(next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            fail(e);
+        }
+    }
+
+    private void send(Object next) throws IOException {
+        if (next == RESYNC) {
+            TrendingSnapshotResponse snapshot = snapshotSource.get();
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .id(String.valueOf(snapshot.sequence()))
+                    .data(snapshot));
+            sentSnapshots.increment();
+            return;
+        }
+        TrendingDeltaResponse delta = (TrendingDeltaResponse) next;
+        emitter.send(SseEmitter.event()
+                .name("delta")
+                .id(String.valueOf(delta.toSequence()))
+                .data(delta));
+        sentDeltas.increment();
+    }
+
+    private void fail(Exception e) {
+        log.debug("트렌딩 스트림 전송 실패, 구독 종료: {}", e.getMessage());
+        closed = true;
+        emitter.completeWithError(e);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sungho.trendboard.application.trending.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+import java.util.List;
+
+/**
+ * fromSequence 상태에 적용하면 toSequence 상태가 되는 순위 변경분.
+ * changed는 새로 들어오거나 순위/점수가 바뀐 게시글, removed는 순위에서 빠진 게시글이다.
+ * 클라이언트는 toSequence가 가진 상태 이하인 변경분을 무시한다.
+ */
+public record TrendingDeltaResponse(
+        long fromSequence,
+        long toSequence,
+        PostCategory category,
+        long at,
+        List<TrendingRankResponse> changed,
+        List<Long> removed
+) {
+}
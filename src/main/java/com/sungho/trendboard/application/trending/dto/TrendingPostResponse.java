@@ -0,0 +1,13 @@
+package com.sungho.trendboard.application.trending.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+/**
+ * score는 조회 시점 기준으로 감쇠한 값이며, 좋아요 1개(방금 발생)를 1로 하는 상대 점수다.
+ */
+public record TrendingPostResponse(
+        Long postId,
+        PostCategory category,
+        double score
+) {
+}
@@ -0,0 +1,22 @@
+package com.sungho.trendboard.application.trending.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record TrendingPostsRequest(
+        PostCategory category,
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "조회 개수는 100 이하여야 합니다.")
+        Integer limit
+) {
+    public static final int MAX_LIMIT = 100;
+    private static final int DEFAULT_LIMIT = 20;
+
+    public TrendingPostsRequest {
+        if (limit == null) {
+            limit = DEFAULT_LIMIT;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.sungho.trendboard.application.trending.dto;
+
+/**
+ * rank는 1부터 시작한다. score는 스냅샷/변경분의 at 시각 기준으로 감쇠한 값이다.
+ */
+public record TrendingRankResponse(
+        Long postId,
+        int rank,
+        double score
+) {
+}
@@ -0,0 +1,16 @@
+package com.sungho.trendboard.application.trending.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+import java.util.List;
+
+/**
+ * 구독 직후, 또는 느린 구독자가 중간 변경분을 놓쳤을 때 보내는 전체 순위. category가 null이면 전체 순위다.
+ */
+public record TrendingSnapshotResponse(
+        long sequence,
+        PostCategory category,
+        long at,
+        List<TrendingRankResponse> ranks
+) {
+}
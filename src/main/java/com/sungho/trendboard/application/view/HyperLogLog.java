@@ -0,0 +1,150 @@
+package com.sungho.trendboard.application.view;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 게시글별 순 방문 회원 수를 고정 메모리(레지스터 4096개)로 추정하는 HyperLogLog (p=12, 표준 오차 약 1.6%).
+ *
+ * <p>같은 회원을 여러 번 더해도 결과가 바뀌지 않고, 두 스케치의 합집합은 레지스터별 최댓값으로 구한다.
+ * 그래서 flush가 실패해 같은 스케치를 다시 병합해도 순 방문자 추정치는 부풀지 않는다.</p>
+ *
+ * <p>스레드 안전하지 않다. 동시 접근은 호출하는 쪽에서 묶는다.</p>
+ */
+final class HyperLogLog {
+
+    static final int PRECISION = 12;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    // 직렬화 형식. 방문자가 적은 게시글은 0이 아닌 레지스터만 (index, rank) 쌍으로 저장한다.
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+
+    private final byte[] registers;
+
+    HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    void add(long memberId) {
+        long hash = mix(memberId);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 남은 비트가 모두 0이어도 rank가 64 - p + 1을 넘지 않도록 경계 비트를 둔다.
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    long estimate() {
+        return estimateUnion(this, null);
+    }
+
+    boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 두 스케치를 복사하지 않고 합집합의 순 방문자 수를 추정한다. {@code other}가 null이면 {@code sketch} 하나만 추정한다.
+     */
+    static long estimateUnion(HyperLogLog sketch, HyperLogLog other) {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int rank = sketch.registers[i];
+            if (other != null) {
+                rank = Math.max(rank, other.registers[i]);
+            }
+            sum += Math.scalb(1.0, -rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 작은 범위에서는 원래 추정이 크게 치우치므로 빈 레지스터 비율로 선형 계수(linear counting)한다.
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    byte[] toBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (nonZero * SPARSE_ENTRY_BYTES < REGISTER_COUNT) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + nonZero * SPARSE_ENTRY_BYTES).put(SPARSE);
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+
+        byte[] bytes = new byte[1 + REGISTER_COUNT];
+        bytes[0] = DENSE;
+        System.arraycopy(registers, 0, bytes, 1, REGISTER_COUNT);
+        return bytes;
+    }
+
+    static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new HyperLogLog();
+        }
+        if (bytes[0] == DENSE) {
+            if (bytes.length != 1 + REGISTER_COUNT) {
+                throw new IllegalArgumentException("HyperLogLog 직렬화 길이가 올바르지 않습니다: " + bytes.length);
+            }
+            return new HyperLogLog(Arrays.copyOfRange(bytes, 1, bytes.length));
+        }
+        if (bytes[0] != SPARSE || (bytes.length - 1) % SPARSE_ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("알 수 없는 HyperLogLog 직렬화 형식입니다.");
+        }
+
+        byte[] registers = new byte[REGISTER_COUNT];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        while (buffer.hasRemaining()) {
+            int index = buffer.getShort() & 0xFFFF;
+            if (index >= REGISTER_COUNT) {
+                throw new IllegalArgumentException("HyperLogLog 레지스터 범위를 벗어났습니다: " + index);
+            }
+            registers[index] = buffer.get();
+        }
+        return new HyperLogLog(registers);
+    }
+
+    // 회원 id는 하위 비트가 순차적이므로 splitmix64 finalizer로 섞어 상위 p비트(레지스터 선택)를 고르게 만든다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sungho.trendboard.application.view;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글별 조회 수와 조회 회원 HyperLogLog를 메모리에 모았다가 flush 때 한 번에 가져가게 하는 버퍼.
+ *
+ * <p>조회마다 행을 쓰지 않고 {@link PostViewFlusher}가 주기적으로 묶어서 post_view_stat에 반영한다.
+ * flush가 가져간 항목은 retire 표시 후 맵에서 빠지고, 그 사이 참조를 얻은 스레드는 retire 표시를 보고 새 항목에 다시 기록한다.</p>
+ */
+@Component
+public class PostViewBuffer {
+
+    private final ConcurrentHashMap<Long, PendingViews> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingSinceNanos = new AtomicLong();
+
+    /**
+     * @param memberId 비로그인 조회면 null. 조회 수에만 더하고 순 방문자 스케치에는 넣지 않는다.
+     */
+    public void record(long postId, Long memberId) {
+        while (!pending.computeIfAbsent(postId, id -> new PendingViews()).record(memberId)) {
+            // flush가 막 가져간 항목에 기록하려 했다면 새 항목을 만들어 다시 기록한다.
+        }
+        pendingSinceNanos.compareAndSet(0L, System.nanoTime());
+    }
+
+    /**
+     * flush 실패로 반영하지 못한 집계를 되돌린다. 스케치는 레지스터 최댓값으로 병합하므로 중복 반영돼도 부풀지 않는다.
+     */
+    void restore(long postId, ViewDelta delta) {
+        while (!pending.computeIfAbsent(postId, id -> new PendingViews()).absorb(delta)) {
+            // record와 같은 이유로 재시도한다.
+        }
+        pendingSinceNanos.compareAndSet(0L, System.nanoTime());
+    }
+
+    /**
+     * 누적된 집계를 게시글 id 오름차순으로 가져가고 비운다.
+     */
+    synchronized Map<Long, ViewDelta> drain() {
+        Map<Long, ViewDelta> deltas = new TreeMap<>();
+        for (Long postId : pending.keySet()) {
+            PendingViews views = pending.remove(postId);
+            if (views != null) {
+                deltas.put(postId, views.retire());
+            }
+        }
+        return deltas;
+    }
+
+    long takePendingSinceNanos() {
+        return pendingSinceNanos.getAndSet(0L);
+    }
+
+    /**
+     * 반영에 실패해 되돌린 집계의 시각을 복원한다. 그 사이 들어온 조회보다 오래됐으면 그 시각으로 되돌린다.
+     */
+    void restorePendingSince(long pendingSince) {
+        if (pendingSince == 0L) {
+            return;
+        }
+        pendingSinceNanos.accumulateAndGet(pendingSince,
+                (current, restored) -> current == 0L || restored - current < 0 ? restored : current);
+    }
+
+    long pendingViews(long postId) {
+        PendingViews views = pending.get(postId);
+        return views == null ? 0L : views.viewCount();
+    }
+
+    /**
+     * 아직 반영되지 않은 조회 회원과 {@code persisted} 스케치의 합집합 크기를 추정한다.
+     */
+    long estimateUniqueViewers(long postId, HyperLogLog persisted) {
+        PendingViews views = pending.get(postId);
+        return views == null ? persisted.estimate() : views.estimateUnion(persisted);
+    }
+
+    record ViewDelta(long viewCount, HyperLogLog viewers) {
+    }
+
+    private static final class PendingViews {
+
+        private final HyperLogLog viewers = new HyperLogLog();
+        private long viewCount;
+        private boolean retired;
+
+        synchronized boolean record(Long memberId) {
+            if (retired) {
+                return false;
+            }
+            viewCount++;
+            if (memberId != null) {
+                viewers.add(memberId);
+            }
+            return true;
+        }
+
+        synchronized boolean absorb(ViewDelta delta) {
+            if (retired) {
+                return false;
+            }
+            viewCount += delta.viewCount();
+            viewers.merge(delta.viewers());
+            return true;
+        }
+
+        // retire 이후에는 아무도 이 항목을 바꾸지 않으므로 스케치를 복사하지 않고 넘긴다.
+        synchronized ViewDelta retire() {
+            retired = true;
+            return new ViewDelta(viewCount, viewers);
+        }
+
+        synchronized long viewCount() {
+            return viewCount;
+        }
+
+        synchronized long estimateUnion(HyperLogLog persisted) {
+            return HyperLogLog.estimateUnion(viewers, persisted);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.sungho.trendboard.application.view;
+
+import com.sungho.trendboard.application.view.PostViewBuffer.ViewDelta;
+import com.sungho.trendboard.application.view.PostViewStatCache.PersistedViews;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PostViewBuffer}의 조회 집계를 주기적으로 post_view_stat에 반영한다 (write-behind).
+ *
+ * <p>HyperLogLog 병합은 SQL로 할 수 없으므로 청크 트랜잭션에서 기존 스케치를 FOR UPDATE로 읽어 메모리에서 병합한 뒤
+ * 조회 수 증분과 함께 배치 upsert 한다. 게시글 id 오름차순으로 잠가 노드 간 잠금 순서를 맞추지만,
+ * 아직 행이 없는 게시글의 INSERT는 갭 잠금끼리 부딪힐 수 있어 교착이 완전히 사라지지는 않는다.
+ * 교착이나 잠금 대기 시간 초과로 청크가 롤백되면 아무것도 반영되지 않았으므로 같은 청크를 몇 번 다시 실행한다.
+ * 청크 반영에 실패하면(DB 오류뿐 아니라 트랜잭션 시작/커밋 실패 등 어떤 런타임 예외든) 해당 청크부터의 집계와
+ * 미반영 시작 시각을 버퍼에 되돌려 다음 주기에 다시 시도한다. 지연 지표는 모두 반영했을 때만 기록한다.</p>
+ *
+ * <p>저장된 스케치를 읽을 수 없으면 그 행 때문에 모든 주기가 실패하지 않도록 빈 스케치에서 다시 시작한다.
+ * 조회 수는 그대로 이어지고 순 방문자 추정만 그 시점부터 다시 센다.</p>
+ */
+@Slf4j
+@Component
+public class PostViewFlusher {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO post_view_stat (post_id, view_count, unique_viewers, unique_sketch, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count),
+                                    unique_viewers = VALUES(unique_viewers),
+                                    unique_sketch = VALUES(unique_sketch),
+                                    updated_at = VALUES(updated_at)
+            """;
+
+    // 교착 등 잠금 실패로 롤백된 청크를 다시 실행하는 최대 횟수
+    private static final int MAX_LOCK_RETRIES = 3;
+
+    private final PostViewBuffer buffer;
+    private final PostViewStatCache statCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final DistributionSummary flushSize;
+    private final DistributionSummary flushViews;
+    private final Timer flushLag;
+    private final Timer flushDuration;
+
+    public PostViewFlusher(PostViewBuffer buffer,
+                           PostViewStatCache statCache,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.view.flush-chunk-size:200}") int chunkSize) {
+        this.buffer = buffer;
+        this.statCache = statCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.flushSize = DistributionSummary.builder("view.flush.size")
+                .description("flush 한 번에 반영한 게시글 수")
+                .register(meterRegistry);
+        this.flushViews = DistributionSummary.builder("view.flush.views")
+                .description("flush 한 번에 반영한 조회 수")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("view.flush.lag")
+                .description("가장 오래된 미반영 조회가 DB에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder("view.flush.duration")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.view.flush-interval:5s}")
+    public void flush() {
+        long pendingSince = buffer.takePendingSinceNanos();
+        Map<Long, ViewDelta> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Map.Entry<Long, ViewDelta>> entries = new ArrayList<>(deltas.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        int applied = 0;
+        long appliedViews = 0;
+        try {
+            for (int from = 0; from < entries.size(); from += chunkSize) {
+                List<Map.Entry<Long, ViewDelta>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+                Map<Long, PersistedViews> merged = applyWithRetry(chunk);
+                // 커밋된 청크는 캐시 갱신이 실패해도 다시 반영하지 않도록 먼저 센다.
+                applied += chunk.size();
+                appliedViews += chunk.stream().mapToLong(entry -> entry.getValue().viewCount()).sum();
+                merged.forEach(statCache::put);
+            }
+        } catch (RuntimeException e) {
+            List<Map.Entry<Long, ViewDelta>> unapplied = entries.subList(applied, entries.size());
+            log.warn("조회 집계 반영 실패, 다음 주기에 재시도: appliedPosts={}, pendingPosts={}", applied, unapplied.size(), e);
+            unapplied.forEach(entry -> buffer.restore(entry.getKey(), entry.getValue()));
+            if (!unapplied.isEmpty()) {
+                buffer.restorePendingSince(pendingSince);
+            }
+            recordFlush(applied, appliedViews, startedAt);
+            return;
+        }
+
+        recordFlush(applied, appliedViews, startedAt);
+        if (pendingSince != 0L) {
+            flushLag.record(Duration.ofNanos(System.nanoTime() - pendingSince));
+        }
+    }
+
+    private void recordFlush(int applied, long appliedViews, long startedAt) {
+        flushSize.record(applied);
+        flushViews.record(appliedViews);
+        flushDuration.record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, PersistedViews> applyWithRetry(List<Map.Entry<Long, ViewDelta>> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyChunk(chunk));
+            } catch (PessimisticLockingFailureException e) {
+                // 청크 트랜잭션이 통째로 롤백됐으므로 다시 실행해도 두 번 더해지지 않는다. 횟수를 넘기면 버퍼로 되돌린다.
+                if (attempt > MAX_LOCK_RETRIES) {
+                    throw e;
+                }
+                log.info("조회 집계 청크 잠금 실패, 다시 시도: attempt={}, posts={}", attempt, chunk.size());
+            }
+        }
+    }
+
+    private Map<Long, PersistedViews> applyChunk(List<Map.Entry<Long, ViewDelta>> chunk) {
+        Map<Long, PersistedViews> existing = lockExisting(chunk);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<Long, PersistedViews> merged = new HashMap<>();
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (Map.Entry<Long, ViewDelta> entry : chunk) {
+            Long postId = entry.getKey();
+            ViewDelta delta = entry.getValue();
+            // 방금 읽어 온 스케치라 다른 곳과 공유하지 않으므로 그대로 병합한다.
+            PersistedViews before = existing.getOrDefault(postId, PersistedViews.empty());
+            HyperLogLog viewers = before.viewers();
+            viewers.merge(delta.viewers());
+            merged.put(postId, new PersistedViews(before.viewCount() + delta.viewCount(), viewers));
+            args.add(new Object[]{postId, delta.viewCount(), viewers.estimate(), viewers.toBytes(), now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        return merged;
+    }
+
+    private Map<Long, PersistedViews> lockExisting(List<Map.Entry<Long, ViewDelta>> chunk) {
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+        Object[] postIds = chunk.stream().map(Map.Entry::getKey).toArray();
+        Map<Long, PersistedViews> existing = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT post_id, view_count, unique_sketch FROM post_view_stat WHERE post_id IN (" + placeholders + ") ORDER BY post_id FOR UPDATE",
+                rs -> {
+                    long postId = rs.getLong("post_id");
+                    existing.put(postId,
+                            new PersistedViews(rs.getLong("view_count"), readSketch(postId, rs.getBytes("unique_sketch"))));
+                },
+                postIds);
+        return existing;
+    }
+
+    private static HyperLogLog readSketch(long postId, byte[] bytes) {
+        try {
+            return HyperLogLog.fromBytes(bytes);
+        } catch (IllegalArgumentException e) {
+            log.warn("손상된 순 방문자 스케치, 빈 스케치로 다시 시작: postId={}", postId, e);
+            return new HyperLogLog();
+        }
+    }
+}
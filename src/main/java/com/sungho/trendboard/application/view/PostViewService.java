@@ -0,0 +1,33 @@
+package com.sungho.trendboard.application.view;
+
+import com.sungho.trendboard.application.view.PostViewStatCache.PersistedViews;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회 수와 순 방문 회원 수 추정.
+ *
+ * <p>기록은 메모리 버퍼에만 하고, 조회 시에는 DB에 반영된 집계(캐시)와 아직 반영되지 않은 버퍼를 합쳐 보여준다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class PostViewService {
+
+    private final PostViewBuffer postViewBuffer;
+    private final PostViewStatCache postViewStatCache;
+
+    public void recordView(Long postId, CurrentUser currentUser) {
+        postViewBuffer.record(postId, currentUser == null ? null : currentUser.memberId());
+    }
+
+    public ViewStats getStats(Long postId) {
+        PersistedViews persisted = postViewStatCache.get(postId);
+        long viewCount = persisted.viewCount() + postViewBuffer.pendingViews(postId);
+        long uniqueViewers = postViewBuffer.estimateUniqueViewers(postId, persisted.viewers());
+        return new ViewStats(viewCount, uniqueViewers);
+    }
+
+    public record ViewStats(long viewCount, long uniqueViewers) {
+    }
+}
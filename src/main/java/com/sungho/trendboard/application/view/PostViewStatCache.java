@@ -0,0 +1,74 @@
+package com.sungho.trendboard.application.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sungho.trendboard.domain.PostViewStat;
+import com.sungho.trendboard.infra.repository.PostViewStatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * post_view_stat에 반영된 집계를 노드 로컬로 들고 있는 캐시.
+ *
+ * <p>이 노드의 flush는 반영 직후 새 값으로 교체하고, 다른 노드가 반영한 값은 expire-after-write 이후 다시 읽는다.
+ * 캐시에 넣은 스케치는 이후 변경하지 않으므로 잠금 없이 여러 요청이 함께 읽는다.</p>
+ */
+@Component
+public class PostViewStatCache {
+
+    public static final String CACHE_NAME = "post.view.stat";
+
+    private final PostViewStatRepository postViewStatRepository;
+    private final Cache<Long, PersistedViews> cache;
+
+    public PostViewStatCache(PostViewStatRepository postViewStatRepository,
+                             @Value("${app.view.stat-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${app.view.stat-cache.expire-after-write:1m}") Duration expireAfterWrite,
+                             MeterRegistry meterRegistry) {
+        this.postViewStatRepository = postViewStatRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    PersistedViews get(long postId) {
+        return cache.get(postId, id -> postViewStatRepository.findById(id)
+                .map(PostViewStatCache::toPersisted)
+                .orElseGet(PersistedViews::empty));
+    }
+
+    /**
+     * 다른 쿼리에서 함께 읽은 집계로 캐시를 채운다. 이미 있는 값은 flush가 넣은 더 새로운 값일 수 있으므로 덮어쓰지 않는다.
+     *
+     * @param stat 집계 행이 없으면 null
+     */
+    public void prime(long postId, PostViewStat stat) {
+        cache.asMap().putIfAbsent(postId, stat == null ? PersistedViews.empty() : toPersisted(stat));
+    }
+
+    void put(long postId, PersistedViews views) {
+        cache.put(postId, views);
+    }
+
+    void invalidate(long postId) {
+        cache.invalidate(postId);
+    }
+
+    private static PersistedViews toPersisted(PostViewStat stat) {
+        return new PersistedViews(stat.getViewCount(), HyperLogLog.fromBytes(stat.getUniqueSketch()));
+    }
+
+    record PersistedViews(long viewCount, HyperLogLog viewers) {
+
+        static PersistedViews empty() {
+            return new PersistedViews(0L, new HyperLogLog());
+        }
+    }
+}
@@ -10,11 +10,23 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Getter
 @Entity
-@Table(name = "post")
+@Table(
+        name = "post",
+        indexes = {
+                @Index(name = "idx_post_deleted_at_id", columnList = "deleted_at, id"),
+                @Index(name = "idx_post_category_deleted_at_id", columnList = "category, deleted_at, id"),
+                @Index(name = "idx_post_member_id_deleted_at_id", columnList = "member_id, deleted_at, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
@@ -44,9 +56,20 @@ public class Post extends BaseTimeEntity {
     @Column(name = "like_count", nullable = false)
     private int likeCount;
 
+    // like_count 반영 작업이 JDBC로만 갱신하는 버전 시각. 엔티티 저장이 덮어쓰지 않도록 읽기 전용으로 매핑한다.
+    @Column(name = "like_count_updated_at", insertable = false, updatable = false)
+    private LocalDateTime likeCountUpdatedAt;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 중복 검사용 색인. 컬렉션을 바꾸는 곳은 이 클래스뿐이므로 처음 필요할 때 만들고 추가/제거 시 함께 갱신한다.
+    @Transient
+    private Set<Long> tagIdIndex;
+
+    @Transient
+    private Set<String> hashtagIndex;
+
     @Builder
     private Post(Long memberId, String title, String content, PostCategory category, List<String> hashtags) {
         if (memberId == null) {
@@ -76,33 +99,26 @@ public class Post extends BaseTimeEntity {
                 .toList();
     }
 
-    public void addPostTag(Tag tag) {
+    /**
+     * @return 새로 추가했으면 true, 이미 있는 태그면 false
+     */
+    public boolean addPostTag(Tag tag) {
         if (tag == null) {
             throw new IllegalArgumentException("tag는 필수입니다.");
         }
         if (tag.getId() == null) {
             throw new IllegalArgumentException("tag.id는 필수입니다.");
         }
-        boolean alreadyExists = postTags.stream()
-                .anyMatch(postTag -> postTag.getTag().getId().equals(tag.getId()));
-        if (alreadyExists) {
-            return;
+        if (!tagIdIndex().add(tag.getId())) {
+            return false;
         }
         this.postTags.add(PostTag.of(this, tag));
+        return true;
     }
 
     public void addHashtag(String hashtag) {
-        if (hashtag == null) {
-            throw new IllegalArgumentException("hashtag는 필수입니다.");
-        }
-        String normalized = hashtag.trim();
-        if (normalized.isBlank()) {
-            throw new IllegalArgumentException("hashtag는 필수입니다.");
-        }
-        boolean alreadyExists = postHashtags.stream()
-                .map(PostHashtag::getName)
-                .anyMatch(name -> name.equals(normalized));
-        if (alreadyExists) {
+        String normalized = normalizeHashtag(hashtag);
+        if (!hashtagIndex().add(normalized)) {
             return;
         }
         this.postHashtags.add(PostHashtag.of(this, normalized));
@@ -124,17 +140,106 @@ public class Post extends BaseTimeEntity {
         this.category = category;
     }
 
-    public void replacePostTags(List<Tag> tags) {
-        this.postTags.clear();
-        if (tags == null || tags.isEmpty()) {
-            return;
+    /**
+     * 요청한 태그 목록과의 차이만 반영한다. 그대로 남는 태그 행은 건드리지 않으므로 바뀐 태그만 INSERT/DELETE 된다.
+     *
+     * @return 교체 전후로 추가/제거된 태그 id
+     */
+    public PostTagDiff replacePostTags(List<Tag> tags) {
+        Map<Long, Tag> requested = new LinkedHashMap<>();
+        if (tags != null) {
+            for (Tag tag : tags) {
+                if (tag == null) {
+                    throw new IllegalArgumentException("tag는 필수입니다.");
+                }
+                if (tag.getId() == null) {
+                    throw new IllegalArgumentException("tag.id는 필수입니다.");
+                }
+                requested.putIfAbsent(tag.getId(), tag);
+            }
         }
-        tags.forEach(this::addPostTag);
+
+        List<Long> removed = new ArrayList<>();
+        this.postTags.removeIf(postTag -> {
+            if (requested.containsKey(postTag.getTagId())) {
+                return false;
+            }
+            removed.add(postTag.getTagId());
+            return true;
+        });
+        removed.forEach(tagIdIndex()::remove);
+
+        List<Long> added = new ArrayList<>();
+        requested.values().forEach(tag -> {
+            if (addPostTag(tag)) {
+                added.add(tag.getId());
+            }
+        });
+
+        PostTagDiff diff = new PostTagDiff(added, removed);
+        if (!diff.isEmpty()) {
+            markModified();
+        }
+        return diff;
     }
 
+    /**
+     * 요청한 해시태그 목록과의 차이만 반영한다. 그대로 남는 해시태그 행은 id와 created_at이 유지된다.
+     */
     public void replaceHashtags(List<String> hashtags) {
-        this.postHashtags.clear();
-        initializeHashtags(hashtags);
+        Set<String> requested = new LinkedHashSet<>();
+        if (hashtags != null) {
+            hashtags.forEach(hashtag -> requested.add(normalizeHashtag(hashtag)));
+        }
+
+        List<String> removed = new ArrayList<>();
+        this.postHashtags.removeIf(postHashtag -> {
+            if (requested.contains(postHashtag.getName())) {
+                return false;
+            }
+            removed.add(postHashtag.getName());
+            return true;
+        });
+        removed.forEach(hashtagIndex()::remove);
+
+        int sizeBeforeAdd = postHashtags.size();
+        requested.forEach(this::addHashtag);
+        if (!removed.isEmpty() || postHashtags.size() != sizeBeforeAdd) {
+            markModified();
+        }
+    }
+
+    public List<Long> getTagIds() {
+        return postTags.stream()
+                .map(PostTag::getTagId)
+                .toList();
+    }
+
+    private Set<Long> tagIdIndex() {
+        if (tagIdIndex == null) {
+            tagIdIndex = new HashSet<>();
+            postTags.forEach(postTag -> tagIdIndex.add(postTag.getTagId()));
+        }
+        return tagIdIndex;
+    }
+
+    private Set<String> hashtagIndex() {
+        if (hashtagIndex == null) {
+            hashtagIndex = new HashSet<>();
+            postHashtags.forEach(postHashtag -> hashtagIndex.add(postHashtag.getName()));
+        }
+        return hashtagIndex;
+    }
+
+    private static String normalizeHashtag(String hashtag) {
+        if (hashtag == null) {
+            throw new IllegalArgumentException("hashtag는 필수입니다.");
+        }
+        String normalized = hashtag.trim();
+        if (normalized.isBlank()) {
+            throw new IllegalArgumentException("hashtag는 필수입니다.");
+        }
+        return normalized;
     }
 
     private void initializeHashtags(List<String> hashtags) {
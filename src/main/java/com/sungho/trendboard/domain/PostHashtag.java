@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,7 +16,10 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "post_hashtag")
+@Table(
+        name = "post_hashtag",
+        indexes = @Index(name = "idx_post_hashtag_created_at", columnList = "created_at")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostHashtag extends BaseTimeEntity {
 
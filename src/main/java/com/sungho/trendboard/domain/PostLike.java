@@ -0,0 +1,33 @@
+package com.sungho.trendboard.domain;
+
+import com.sungho.trendboard.global.domain.BaseTimeEntity;
+import com.sungho.trendboard.global.util.SnowflakeId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+        name = "post_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_like_post_member", columnNames = {"post_id", "member_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLike extends BaseTimeEntity {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    // 저장은 PostLikeService가 JDBC로 직접 INSERT 한다. 스키마 매핑과 조회용으로 FK 값만 매핑한다.
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+}
@@ -4,6 +4,7 @@ import com.sungho.trendboard.global.util.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -19,7 +20,7 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "post_tag",
         uniqueConstraints = @UniqueConstraint(name = "uk_post_tag_post_tag", columnNames = {"post_id", "tag_id"}),
-        indexes = @Index(name = "idx_post_tag_tag_id", columnList = "tag_id")
+        indexes = @Index(name = "idx_post_tag_tag_id", columnList = "tag_id, post_id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostTag {
@@ -29,16 +30,21 @@ public class PostTag {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "post_id", nullable = false)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_tag_post"))
     private Post post;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "tag_id", nullable = false)
+    @JoinColumn(name = "tag_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_tag_tag"))
     private Tag tag;
 
+    // Tag 프록시를 초기화하지 않고 FK 값만 읽기 위한 읽기 전용 매핑
+    @Column(name = "tag_id", insertable = false, updatable = false)
+    private Long tagId;
+
     private PostTag(Post post, Tag tag) {
         this.post = post;
         this.tag = tag;
+        this.tagId = tag.getId();
     }
 
     public static PostTag of(Post post, Tag tag) {
@@ -0,0 +1,24 @@
+package com.sungho.trendboard.domain;
+
+import java.util.List;
+
+/**
+ * 게시글 태그 변경 결과. 태그별 사용 수 같은 파생 집계를 전체 재계산 없이 증분으로 갱신할 때 쓴다.
+ */
+public record PostTagDiff(
+        List<Long> addedTagIds,
+        List<Long> removedTagIds
+) {
+    public PostTagDiff {
+        addedTagIds = List.copyOf(addedTagIds);
+        removedTagIds = List.copyOf(removedTagIds);
+    }
+
+    public static PostTagDiff added(List<Long> tagIds) {
+        return new PostTagDiff(tagIds, List.of());
+    }
+
+    public boolean isEmpty() {
+        return addedTagIds.isEmpty() && removedTagIds.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.sungho.trendboard.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 조회 집계. 쓰기는 PostViewFlusher가 JDBC 배치 upsert로만 하고, 엔티티는 읽기에만 쓴다.
+ */
+@Getter
+@Entity
+@Table(name = "post_view_stat")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewStat {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private long uniqueViewers;
+
+    @Column(name = "unique_sketch", nullable = false, length = 4097)
+    private byte[] uniqueSketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
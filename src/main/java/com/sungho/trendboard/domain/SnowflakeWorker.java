@@ -0,0 +1,34 @@
+package com.sungho.trendboard.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드별 Snowflake machine id 임대 기록. 쓰기는 SnowflakeWorkerLease가 JDBC로만 하고, 엔티티는 스키마 매핑용이다.
+ */
+@Getter
+@Entity
+@Table(name = "snowflake_worker")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnowflakeWorker {
+
+    @Id
+    @Column(name = "machine_id")
+    private Integer machineId;
+
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
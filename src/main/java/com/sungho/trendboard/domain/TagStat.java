@@ -0,0 +1,31 @@
+package com.sungho.trendboard.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그별 사용 게시글 수. 쓰기는 TagPopularityService가 JDBC 배치 upsert로만 하고, 엔티티는 읽기에만 쓴다.
+ */
+@Getter
+@Entity
+@Table(name = "tag_stat")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagStat {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
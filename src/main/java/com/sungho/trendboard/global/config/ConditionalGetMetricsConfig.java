@@ -0,0 +1,19 @@
+package com.sungho.trendboard.global.config;
+
+import com.sungho.trendboard.global.web.ConditionalGetMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConditionalGetMetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConditionalGetMetricsFilter> conditionalGetMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConditionalGetMetricsFilter> registration =
+                new FilterRegistrationBean<>(new ConditionalGetMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
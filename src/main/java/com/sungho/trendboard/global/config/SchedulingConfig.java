@@ -0,0 +1,47 @@
+package com.sungho.trendboard.global.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String LIKE_RECONCILE_SCHEDULER = "likeReconcileScheduler";
+    public static final String SNOWFLAKE_LEASE_SCHEDULER = "snowflakeLeaseScheduler";
+
+    /**
+     * 짧은 주기 작업(flush 등)이 쓰는 기본 스케줄러. 전용 스케줄러 빈을 두면 자동 구성이 물러나므로
+     * spring.task.scheduling 설정을 그대로 적용해 직접 등록한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 좋아요 수 대조는 부하 예산만큼 쉬면서 오래 돌므로, 기본 스케줄러 스레드를 막지 않도록 따로 둔다.
+     */
+    @Bean(name = LIKE_RECONCILE_SCHEDULER)
+    public ThreadPoolTaskScheduler likeReconcileScheduler() {
+        return dedicated("like-reconcile-");
+    }
+
+    /**
+     * Snowflake 임대 heartbeat가 늦어지면 id 발급이 멈추므로, 다른 작업이 기본 스레드를 오래 잡아도 밀리지 않게 따로 둔다.
+     */
+    @Bean(name = SNOWFLAKE_LEASE_SCHEDULER)
+    public ThreadPoolTaskScheduler snowflakeLeaseScheduler() {
+        return dedicated("snowflake-lease-");
+    }
+
+    private static ThreadPoolTaskScheduler dedicated(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        return scheduler;
+    }
+}
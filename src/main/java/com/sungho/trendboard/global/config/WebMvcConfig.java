@@ -1,7 +1,9 @@
 package com.sungho.trendboard.global.config;
 
 import com.sungho.trendboard.global.web.CurrentUserArgumentResolver;
+import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,4 +15,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new CurrentUserArgumentResolver());
     }
+
+    // 쿼리 파라미터의 enum(mode=any 등)을 대소문자 구분 없이 바인딩하기 위해 Boot의 관대한 변환기를 등록한다.
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        ApplicationConversionService.addApplicationConverters(registry);
+    }
 }
@@ -26,4 +26,11 @@ public abstract class BaseTimeEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 컬럼 변경 없이 연관 컬렉션만 바뀐 경우에도 updated_at(ETag 기준)이 갱신되도록 엔티티를 dirty 상태로 만든다.
+     * 실제 값은 flush 시 auditing이 다시 채운다.
+     */
+    protected void markModified() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
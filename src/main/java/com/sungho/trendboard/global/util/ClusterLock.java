@@ -0,0 +1,82 @@
+package com.sungho.trendboard.global.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 이름 잠금(GET_LOCK)으로 같은 DB를 쓰는 노드 중 한 곳에서만 작업을 실행한다.
+ *
+ * <p>이름 잠금은 잡은 커넥션에 묶이므로 작업이 끝날 때까지 커넥션 하나를 붙잡아 둔다.
+ * 노드가 비정상 종료해 물리 커넥션이 끊기면 DB가 잠금을 풀어 주므로 별도 만료 처리가 필요 없다.
+ * 반대로 풀 커넥션은 close 해도 물리 커넥션이 살아 있으므로, 해제에 실패한 커넥션은 풀로 돌려보내지 않고 버린다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잠금을 바로 잡을 수 있으면 작업을 실행하고 결과를 돌려준다. 다른 노드가 잡고 있으면 기다리지 않고 비어 있는 값을 돌려준다.
+     */
+    public <T> Optional<T> tryRun(String name, Supplier<T> task) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!acquire(connection, name)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                release(connection, name);
+            }
+        });
+    }
+
+    private static boolean acquire(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void release(Connection connection, String name) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, name);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            // 잠금을 쥔 커넥션이 풀로 돌아가면 다른 요청이 그 커넥션을 빌려 쓰는 동안 잠금이 계속 남는다.
+            // 물리 커넥션을 끊어야 DB가 잠금을 풀어 주므로 커넥션을 버리고, 작업 결과는 그대로 돌려준다.
+            log.warn("클러스터 잠금 해제 실패, 커넥션을 폐기: name={}", name, e);
+            discard(connection);
+        }
+    }
+
+    private void discard(Connection connection) {
+        // JdbcTemplate은 close를 막는 프록시를 넘기므로 풀이 발급한 커넥션을 꺼내 넘긴다.
+        Connection pooled = connection instanceof ConnectionProxy proxy ? proxy.getTargetConnection() : connection;
+        try {
+            if (jdbcTemplate.getDataSource() instanceof HikariDataSource hikari) {
+                hikari.evictConnection(pooled);
+            } else {
+                pooled.abort(Runnable::run);
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.error("클러스터 잠금 커넥션 폐기 실패", e);
+        }
+    }
+}
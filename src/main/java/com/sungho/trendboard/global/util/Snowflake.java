@@ -1,12 +1,36 @@
 package com.sungho.trendboard.global.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
 /**
  * 64bit Snowflake ID 생성기
  *
  * 구조: 1bit(부호) + 41bit(타임스탬프) + 10bit(머신ID) + 12bit(시퀀스)
  * - 타임스탬프: 커스텀 epoch 기준 밀리초 (약 69년 사용 가능)
- * - 머신ID: 0~1023 (기본 1)
+ * - 머신ID: 0~1023 (애플리케이션에서는 노드마다 SnowflakeWorkerLease가 임대)
  * - 시퀀스: 밀리초당 최대 4096개
+ *
+ * 마지막으로 발급한 (타임스탬프, 시퀀스)를 long 하나에 묶어 CAS로 갱신하므로 잠금 없이 발급한다.
+ * 묶은 값은 id에서 머신ID만 뺀 순서와 같아서, CAS가 성공한 순서대로 id도 증가한다.
+ * 이번 밀리초의 시퀀스를 다 쓰면 다음 밀리초까지 스레드를 잠깐씩 재우며 기다린다.
+ * snowflake.sequence.exhausted는 재운 횟수가 아니라 이렇게 기다린 발급(예약) 호출 수를 센다.
+ *
+ * 시계가 마지막 타임스탬프보다 뒤로 가면 {@link RollbackPolicy}에 따라 처리한다.
+ * snowflake.clock.rollback은 되감김 한 번(시계가 뒤처진 때부터 다시 따라잡을 때까지)마다 처음 처리한 방식으로 한 번 센다.
+ * 어느 정책이든 한 인스턴스 안에서는 id가 겹치지 않는다. 정책은 되감긴 구간을 어떻게 보낼지를 정한다.
+ *
+ * leaseSize가 1보다 크면 스레드마다 시퀀스 구간을 한 번에 빌려 두고 공유 상태를 건드리지 않고 발급한다.
+ * 이 경우 id는 유일하고 같은 스레드 안에서는 증가하지만, 같은 밀리초 안에서 스레드 간 발급 순서와 id 순서는 다를 수 있다.
+ * 빌린 구간은 그 밀리초가 지나면 버리므로 id의 타임스탬프는 발급 시각보다 늦지 않다.
  */
 public class Snowflake {
 
@@ -16,47 +40,192 @@ public class Snowflake {
     private static final long MACHINE_ID_BITS = 10L;
     private static final long SEQUENCE_BITS = 12L;
 
-    private static final long MAX_MACHINE_ID = (1L << MACHINE_ID_BITS) - 1;
+    static final long MAX_MACHINE_ID = (1L << MACHINE_ID_BITS) - 1;
     private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
 
+    // 시퀀스를 다 썼을 때 한 번에 재우는 시간. 다음 밀리초를 넘겨 자는 시간을 이 정도로 제한한다.
+    private static final long EXHAUSTED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public static final Duration DEFAULT_MAX_ROLLBACK_WAIT = Duration.ofSeconds(1);
+
+    /**
+     * 시계가 마지막으로 발급한 타임스탬프보다 뒤로 갔을 때의 처리
+     */
+    public enum RollbackPolicy {
+        /** 시계가 따라올 때까지 최대 maxRollbackWait만큼 기다린다. 더 뒤로 갔으면 발급을 거부한다. */
+        WAIT,
+        /** 기다리지 않고 마지막 타임스탬프를 이어 쓴다. 시퀀스를 다 쓰면 다음 밀리초를 앞당겨 쓰므로 id의 시각이 실제보다 앞설 수 있다. */
+        LOGICAL,
+        /** 바로 발급을 거부한다. */
+        REFUSE
+    }
+
     private final long machineId;
-    private long lastTimestamp = -1L;
-    private long sequence = 0L;
+    private final int leaseSize;
+    private final ThreadLocal<Lease> leases;
+    private final RollbackPolicy rollbackPolicy;
+    private final long maxRollbackWaitMillis;
+    private final LongSupplier clock;
 
-    public Snowflake(long machineId) {
+    private final Counter sequenceExhausted;
+    private final Counter rollbackWaited;
+    private final Counter rollbackBorrowed;
+    private final Counter rollbackRefused;
+
+    // (타임스탬프 << SEQUENCE_BITS) | 시퀀스. 마지막으로 발급(또는 대여)한 값이다.
+    private final AtomicLong state = new AtomicLong();
+
+    // 시계가 마지막 타임스탬프보다 뒤처진 구간 안인지. 되감김 지표를 반복이나 호출마다가 아니라 한 번씩 세는 데 쓴다.
+    private final AtomicBoolean rollingBack = new AtomicBoolean();
+
+    /**
+     * @param clock epoch 밀리초를 돌려주는 시계
+     */
+    public Snowflake(long machineId, int leaseSize, RollbackPolicy rollbackPolicy, Duration maxRollbackWait,
+                     LongSupplier clock, MeterRegistry meterRegistry) {
         if (machineId < 0 || machineId > MAX_MACHINE_ID) {
             throw new IllegalArgumentException("machineId는 0~" + MAX_MACHINE_ID + " 범위여야 합니다.");
         }
+        if (leaseSize < 1 || leaseSize > MAX_SEQUENCE + 1) {
+            throw new IllegalArgumentException("leaseSize는 1~" + (MAX_SEQUENCE + 1) + " 범위여야 합니다.");
+        }
+        if (maxRollbackWait.isNegative()) {
+            throw new IllegalArgumentException("maxRollbackWait는 음수일 수 없습니다.");
+        }
         this.machineId = machineId;
+        this.leaseSize = leaseSize;
+        this.leases = leaseSize > 1 ? ThreadLocal.withInitial(Lease::new) : null;
+        this.rollbackPolicy = rollbackPolicy;
+        this.maxRollbackWaitMillis = maxRollbackWait.toMillis();
+        this.clock = clock;
+        this.sequenceExhausted = meterRegistry.counter("snowflake.sequence.exhausted");
+        this.rollbackWaited = meterRegistry.counter("snowflake.clock.rollback", "action", "waited");
+        this.rollbackBorrowed = meterRegistry.counter("snowflake.clock.rollback", "action", "borrowed");
+        this.rollbackRefused = meterRegistry.counter("snowflake.clock.rollback", "action", "refused");
+    }
+
+    public Snowflake(long machineId, int leaseSize) {
+        this(machineId, leaseSize, RollbackPolicy.WAIT, DEFAULT_MAX_ROLLBACK_WAIT, System::currentTimeMillis,
+                Metrics.globalRegistry);
+    }
+
+    public Snowflake(long machineId) {
+        this(machineId, 1);
     }
 
     public Snowflake() {
         this(1L);
     }
 
-    public synchronized long nextId() {
-        long currentTimestamp = System.currentTimeMillis() - CUSTOM_EPOCH;
+    /**
+     * ID에 기록된 생성 시각(epoch 밀리초)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (MACHINE_ID_BITS + SEQUENCE_BITS)) + CUSTOM_EPOCH;
+    }
 
-        if (currentTimestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) {
-                currentTimestamp = waitNextMillis(currentTimestamp);
+    /**
+     * 주어진 시각(epoch 밀리초) 이후에 생성된 ID의 하한. ID 범위 조건으로 생성 시각을 거를 때 사용한다.
+     */
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0L, epochMillis - CUSTOM_EPOCH) << (MACHINE_ID_BITS + SEQUENCE_BITS);
+    }
+
+    public long nextId() {
+        if (leases == null) {
+            return toId(reserve(1));
+        }
+        Lease lease = leases.get();
+        if (lease.next == lease.limit || (lease.next >>> SEQUENCE_BITS) < currentTimestamp()) {
+            long start = reserve(leaseSize);
+            lease.next = start;
+            lease.limit = start + available(start, leaseSize);
+        }
+        return toId(lease.next++);
+    }
+
+    /**
+     * 현재 밀리초에서 최대 count개의 연속된 시퀀스를 예약하고 첫 값을 반환한다.
+     * 실제로 예약된 개수는 {@link #available(long, int)}로 구한다.
+     *
+     * @throws IllegalStateException 시계가 되감겨 정책상 발급할 수 없을 때
+     */
+    private long reserve(int count) {
+        boolean exhausted = false;
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long currentTimestamp = currentTimestamp();
+            boolean sequenceLeft = (current & MAX_SEQUENCE) < MAX_SEQUENCE;
+
+            long start;
+            if (currentTimestamp < lastTimestamp) {
+                boolean newRollback = rollingBack.compareAndSet(false, true);
+                if (rollbackPolicy != RollbackPolicy.LOGICAL) {
+                    waitForRollback(lastTimestamp - currentTimestamp, newRollback);
+                    continue;
+                }
+                if (newRollback) {
+                    rollbackBorrowed.increment();
+                }
+                start = sequenceLeft ? current + 1 : (lastTimestamp + 1) << SEQUENCE_BITS;
+            } else {
+                if (rollingBack.get()) {
+                    rollingBack.set(false);
+                }
+                if (currentTimestamp > lastTimestamp) {
+                    start = currentTimestamp << SEQUENCE_BITS;
+                } else if (sequenceLeft) {
+                    start = current + 1;
+                } else {
+                    // 이번 밀리초의 시퀀스를 다 썼다. 코어를 잡고 돌지 않도록 재우고 다시 확인한다.
+                    if (!exhausted) {
+                        sequenceExhausted.increment();
+                        exhausted = true;
+                    }
+                    LockSupport.parkNanos(EXHAUSTED_PARK_NANOS);
+                    continue;
+                }
+            }
+
+            if (state.compareAndSet(current, start + available(start, count) - 1)) {
+                return start;
+            }
+        }
+    }
+
+    private void waitForRollback(long behindMillis, boolean newRollback) {
+        if (rollbackPolicy == RollbackPolicy.REFUSE || behindMillis > maxRollbackWaitMillis) {
+            if (newRollback) {
+                rollbackRefused.increment();
             }
-        } else {
-            sequence = 0;
+            throw new IllegalStateException("시계가 " + behindMillis + "ms 되감겨 Snowflake id를 발급할 수 없습니다. (정책: "
+                    + rollbackPolicy + ", 최대 대기: " + maxRollbackWaitMillis + "ms)");
         }
+        if (newRollback) {
+            rollbackWaited.increment();
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(behindMillis));
+    }
 
-        lastTimestamp = currentTimestamp;
+    private static int available(long start, int count) {
+        return (int) Math.min(count, MAX_SEQUENCE - (start & MAX_SEQUENCE) + 1);
+    }
 
-        return (currentTimestamp << (MACHINE_ID_BITS + SEQUENCE_BITS))
+    private long toId(long packed) {
+        return ((packed >>> SEQUENCE_BITS) << (MACHINE_ID_BITS + SEQUENCE_BITS))
                 | (machineId << SEQUENCE_BITS)
-                | sequence;
+                | (packed & MAX_SEQUENCE);
     }
 
-    private long waitNextMillis(long currentTimestamp) {
-        while (currentTimestamp <= lastTimestamp) {
-            currentTimestamp = System.currentTimeMillis() - CUSTOM_EPOCH;
-        }
-        return currentTimestamp;
+    private long currentTimestamp() {
+        return clock.getAsLong() - CUSTOM_EPOCH;
+    }
+
+    private static final class Lease {
+
+        // [next, limit) 구간의 묶은 값을 이 스레드만 발급한다.
+        private long next;
+        private long limit;
     }
 }
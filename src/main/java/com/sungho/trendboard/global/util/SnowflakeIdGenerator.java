@@ -8,23 +8,72 @@ import java.util.EnumSet;
 
 /**
  * Hibernate 7.x BeforeExecutionGenerator 기반 Snowflake ID 생성기
+ *
+ * machine id는 기동 시 {@link SnowflakeWorkerLease}가 임대받아 설치한다. 설치 전이나 임대를 잃은 뒤에는
+ * 다른 노드와 id가 겹칠 수 있으므로 발급하지 않고 예외를 던진다.
+ * 임대로 설치한 생성기는 발급 기한이 있어, heartbeat가 늦어 기한이 지나면 연장될 때까지 발급 시점에 스스로 멈춘다.
  */
 public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
 
-    private static final Snowflake SNOWFLAKE = new Snowflake();
+    private static volatile Installed installed;
 
     @SuppressWarnings("unused")
     public SnowflakeIdGenerator(SnowflakeId annotation) {
         // @IdGeneratorType 규약: 어노테이션을 받는 생성자 필요
     }
 
+    /**
+     * 엔티티를 거치지 않고 JDBC로 직접 INSERT할 때도 같은 생성기에서 id를 받아 순서와 유일성을 유지한다.
+     */
+    public static long nextId() {
+        Installed current = installed;
+        if (current == null) {
+            throw new IllegalStateException("Snowflake machine id가 할당되지 않아 id를 발급할 수 없습니다.");
+        }
+        if (current.bounded() && System.nanoTime() - current.issueUntilNanos() >= 0) {
+            throw new IllegalStateException("Snowflake machine id 임대 연장이 늦어 발급 기한이 지났습니다.");
+        }
+        return current.snowflake().nextId();
+    }
+
+    /**
+     * 발급 기한 없이 생성기를 교체한다. 임대를 거치지 않는 테스트/벤치마크용이다.
+     */
+    public static synchronized void install(Snowflake snowflake) {
+        installed = new Installed(snowflake, 0L, false);
+    }
+
+    /**
+     * 임대받은 machine id의 생성기를 발급 기한(System.nanoTime 기준)과 함께 설치한다.
+     */
+    static synchronized void install(Snowflake snowflake, long issueUntilNanos) {
+        installed = new Installed(snowflake, issueUntilNanos, true);
+    }
+
+    /**
+     * 임대를 연장했을 때 발급 기한을 늘린다. 그 사이 회수됐으면 다시 살리지 않는다.
+     */
+    static synchronized void extend(long issueUntilNanos) {
+        Installed current = installed;
+        if (current != null) {
+            installed = new Installed(current.snowflake(), issueUntilNanos, current.bounded());
+        }
+    }
+
+    static synchronized void revoke() {
+        installed = null;
+    }
+
     @Override
     public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
-        return SNOWFLAKE.nextId();
+        return nextId();
     }
 
     @Override
     public EnumSet<EventType> getEventTypes() {
         return EnumSet.of(EventType.INSERT);
     }
+
+    private record Installed(Snowflake snowflake, long issueUntilNanos, boolean bounded) {
+    }
 }
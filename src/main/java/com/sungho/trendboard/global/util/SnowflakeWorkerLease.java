@@ -0,0 +1,216 @@
+package com.sungho.trendboard.global.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import com.sungho.trendboard.global.config.SchedulingConfig;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * snowflake_worker 테이블에서 이 노드의 Snowflake machine id를 임대받아 {@link SnowflakeIdGenerator}에 설치한다.
+ *
+ * <p>기동 시(모든 빈 생성 후, 웹 서버가 요청을 받기 전) 비어 있거나 임대가 만료된 id를 낮은 번호부터 차지한다.
+ * 빈 id는 INSERT로, 만료된 id는 "아직 만료 상태일 때만" UPDATE로 가져가므로 여러 노드가 동시에 떠도 같은 id를 갖지 않는다.
+ * 차지할 id가 없으면 기동을 실패시킨다.</p>
+ *
+ * <p>heartbeat로 임대를 연장한다. 다른 노드가 가져간 것이 확인되거나 DB 장애로 임대 기간 동안 연장하지 못하면
+ * 발급을 멈추고, 다음 heartbeat에서 새 id를 다시 임대받는다. 만료 판단은 모두 DB 시각으로 한다.</p>
+ *
+ * <p>DB의 임대 만료 시각은 UPDATE를 실행한 시각 + ttl이므로, 이 노드는 UPDATE를 보내기 직전 시각 + (ttl - heartbeat 주기)까지만
+ * 발급한다. 이 기한은 생성기가 발급할 때마다 직접 확인하므로, heartbeat가 GC 멈춤 등으로 늦어져도 DB에서 임대가 만료되기 전에 발급이 멈춘다.
+ * heartbeat는 다른 작업에 밀리지 않도록 전용 스케줄러 스레드에서 실행한다.</p>
+ */
+@Slf4j
+@Component
+public class SnowflakeWorkerLease implements SmartInitializingSingleton {
+
+    private static final String SELECT_SQL = "SELECT machine_id, leased_until < NOW(6) AS expired FROM snowflake_worker";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO snowflake_worker (machine_id, owner, leased_until, heartbeat_at)
+            VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, NOW(6)), NOW(6))
+            """;
+
+    private static final String TAKEOVER_SQL = """
+            UPDATE snowflake_worker
+            SET owner = ?, leased_until = TIMESTAMPADD(MICROSECOND, ?, NOW(6)), heartbeat_at = NOW(6)
+            WHERE machine_id = ? AND leased_until < NOW(6)
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE snowflake_worker
+            SET leased_until = TIMESTAMPADD(MICROSECOND, ?, NOW(6)), heartbeat_at = NOW(6)
+            WHERE machine_id = ? AND owner = ?
+            """;
+
+    private static final String RELEASE_SQL = "UPDATE snowflake_worker SET leased_until = NOW(6) WHERE machine_id = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration leaseTtl;
+    private final long issueWindowNanos;
+    private final LongFunction<Snowflake> snowflakeFactory;
+    private final LongSupplier nanoClock;
+    private final String owner;
+
+    private volatile long machineId = -1L;
+    private volatile long issueUntilNanos;
+
+    @Autowired
+    public SnowflakeWorkerLease(JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.snowflake.lease-ttl:60s}") Duration leaseTtl,
+                                @Value("${app.snowflake.heartbeat-interval:10s}") Duration heartbeatInterval,
+                                @Value("${app.snowflake.clock-rollback.policy:WAIT}") Snowflake.RollbackPolicy rollbackPolicy,
+                                @Value("${app.snowflake.clock-rollback.max-wait:1s}") Duration maxRollbackWait,
+                                @Value("${app.snowflake.lease-size:1}") int leaseSize) {
+        this(jdbcTemplate, leaseTtl, heartbeatInterval, machineId -> new Snowflake(machineId, leaseSize, rollbackPolicy,
+                maxRollbackWait, System::currentTimeMillis, meterRegistry));
+    }
+
+    SnowflakeWorkerLease(JdbcTemplate jdbcTemplate,
+                         Duration leaseTtl,
+                         Duration heartbeatInterval,
+                         LongFunction<Snowflake> snowflakeFactory) {
+        this(jdbcTemplate, leaseTtl, heartbeatInterval, snowflakeFactory, System::nanoTime);
+    }
+
+    SnowflakeWorkerLease(JdbcTemplate jdbcTemplate,
+                         Duration leaseTtl,
+                         Duration heartbeatInterval,
+                         LongFunction<Snowflake> snowflakeFactory,
+                         LongSupplier nanoClock) {
+        if (leaseTtl.compareTo(heartbeatInterval.multipliedBy(2)) < 0) {
+            throw new IllegalArgumentException("lease-ttl은 heartbeat-interval의 2배 이상이어야 합니다: ttl="
+                    + leaseTtl + ", heartbeat=" + heartbeatInterval);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTtl = leaseTtl;
+        this.issueWindowNanos = leaseTtl.minus(heartbeatInterval).toNanos();
+        this.snowflakeFactory = snowflakeFactory;
+        this.nanoClock = nanoClock;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long attemptedAt = nanoClock.getAsLong();
+        long claimed = acquire().orElseThrow(() -> new IllegalStateException(
+                "사용 가능한 Snowflake machine id가 없습니다 (0~" + Snowflake.MAX_MACHINE_ID + " 모두 임대 중)."));
+        install(claimed, attemptedAt);
+    }
+
+    /**
+     * 비어 있거나 만료된 machine id 하나를 차지한다. 없으면 empty.
+     */
+    OptionalLong acquire() {
+        Map<Integer, Boolean> leases = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            leases.put(rs.getInt("machine_id"), rs.getBoolean("expired"));
+        });
+
+        long ttlMicros = leaseTtl.toNanos() / 1_000;
+        for (int candidate = 0; candidate <= Snowflake.MAX_MACHINE_ID; candidate++) {
+            Boolean expired = leases.get(candidate);
+            if (expired == null) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, candidate, owner, ttlMicros);
+                    return OptionalLong.of(candidate);
+                } catch (DuplicateKeyException e) {
+                    // 다른 노드가 방금 차지했다.
+                    continue;
+                }
+            }
+            if (expired && jdbcTemplate.update(TAKEOVER_SQL, owner, ttlMicros, candidate) == 1) {
+                return OptionalLong.of(candidate);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${app.snowflake.heartbeat-interval:10s}",
+            initialDelayString = "${app.snowflake.heartbeat-interval:10s}",
+            scheduler = SchedulingConfig.SNOWFLAKE_LEASE_SCHEDULER)
+    public void heartbeat() {
+        long current = machineId;
+        // DB가 임대 만료 시각을 정하기 전에 재야 이 노드의 발급 기한이 DB 만료보다 늦어지지 않는다.
+        long attemptedAt = nanoClock.getAsLong();
+        if (current < 0) {
+            acquire().ifPresentOrElse(claimed -> install(claimed, attemptedAt),
+                    () -> log.error("Snowflake machine id 재임대 실패: 사용 가능한 id 없음"));
+            return;
+        }
+
+        try {
+            if (jdbcTemplate.update(RENEW_SQL, leaseTtl.toNanos() / 1_000, current, owner) == 1) {
+                issueUntilNanos = attemptedAt + issueWindowNanos;
+                SnowflakeIdGenerator.extend(issueUntilNanos);
+                return;
+            }
+            log.error("Snowflake machine id 임대를 다른 노드가 가져감, 발급 중지: machineId={}, owner={}", current, owner);
+            revoke();
+        } catch (DataAccessException e) {
+            if (nanoClock.getAsLong() - issueUntilNanos < 0) {
+                log.warn("Snowflake machine id 임대 연장 실패, 다음 주기에 재시도: machineId={}", current, e);
+                return;
+            }
+            log.error("Snowflake machine id 발급 기한까지 연장하지 못함, 발급 중지: machineId={}", current, e);
+            revoke();
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        long current = machineId;
+        if (current < 0) {
+            return;
+        }
+        // 발급을 먼저 멈춘 뒤 임대를 내놓아야 다른 노드가 같은 id로 시작해도 겹치지 않는다.
+        revoke();
+        try {
+            jdbcTemplate.update(RELEASE_SQL, current, owner);
+        } catch (DataAccessException e) {
+            log.warn("Snowflake machine id 반납 실패, 임대 만료 후 회수됨: machineId={}", current, e);
+        }
+    }
+
+    long machineId() {
+        return machineId;
+    }
+
+    private void install(long claimed, long attemptedAt) {
+        issueUntilNanos = attemptedAt + issueWindowNanos;
+        SnowflakeIdGenerator.install(snowflakeFactory.apply(claimed), issueUntilNanos);
+        machineId = claimed;
+        log.info("Snowflake machine id 임대: machineId={}, owner={}, ttl={}", claimed, owner, leaseTtl);
+    }
+
+    private void revoke() {
+        SnowflakeIdGenerator.revoke();
+        machineId = -1L;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
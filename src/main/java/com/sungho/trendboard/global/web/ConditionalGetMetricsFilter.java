@@ -0,0 +1,149 @@
+package com.sungho.trendboard.global.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since)의 304 비율과 절약한 전송량을 기록한다.
+ *
+ * <ul>
+ *     <li>{@code http.conditional.requests{result=not_modified|full}}: 조건부 요청 중 304 비율</li>
+ *     <li>{@code http.conditional.bytes.saved}: 304로 생략한 본문 크기 (같은 ETag의 마지막 200 응답 크기 기준)</li>
+ * </ul>
+ * 본문을 버퍼링하지 않고 출력 스트림에 쓰인 바이트 수만 센다.
+ */
+public class ConditionalGetMetricsFilter extends OncePerRequestFilter {
+
+    private static final int MAX_TRACKED_ETAGS = 50_000;
+
+    private final Counter notModified;
+    private final Counter full;
+    private final Counter bytesSaved;
+    private final Cache<String, Long> bodySizeByETag = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_ETAGS)
+            .build();
+
+    public ConditionalGetMetricsFilter(MeterRegistry meterRegistry) {
+        this.notModified = Counter.builder("http.conditional.requests")
+                .tag("result", "not_modified")
+                .description("304로 응답한 조건부 GET 수")
+                .register(meterRegistry);
+        this.full = Counter.builder("http.conditional.requests")
+                .tag("result", "full")
+                .description("본문을 다시 보낸 조건부 GET 수")
+                .register(meterRegistry);
+        this.bytesSaved = Counter.builder("http.conditional.bytes.saved")
+                .baseUnit("bytes")
+                .description("304 응답으로 생략한 본문 크기")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CountingResponseWrapper counting = new CountingResponseWrapper(response);
+        filterChain.doFilter(request, counting);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean conditional = ifNoneMatch != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+        String etag = response.getHeader(HttpHeaders.ETAG);
+
+        if (response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+            notModified.increment();
+            Long size = bodySizeByETag.getIfPresent(etag != null ? etag : String.valueOf(ifNoneMatch));
+            if (size != null) {
+                bytesSaved.increment(size);
+            }
+            return;
+        }
+        if (conditional) {
+            full.increment();
+        }
+        if (response.getStatus() == HttpServletResponse.SC_OK && etag != null) {
+            bodySizeByETag.put(etag, counting.getByteCount());
+        }
+    }
+
+    private static final class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+
+        private CountingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        long getByteCount() {
+            return outputStream == null ? 0L : outputStream.count;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
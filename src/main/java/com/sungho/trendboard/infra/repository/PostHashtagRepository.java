@@ -0,0 +1,24 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.PostHashtag;
+import com.sungho.trendboard.infra.repository.dto.HashtagOccurrenceRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+
+    @Query("select ph.name from PostHashtag ph where ph.post.id = :postId order by ph.id")
+    List<String> findNamesByPostId(@Param("postId") Long postId);
+
+    @Query("""
+            select new com.sungho.trendboard.infra.repository.dto.HashtagOccurrenceRow(ph.name, ph.createdAt)
+            from PostHashtag ph
+            where ph.createdAt >= :since
+              and ph.post.deletedAt is null
+            """)
+    List<HashtagOccurrenceRow> findOccurrencesSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,16 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.PostLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    boolean existsByPostIdAndMemberId(Long postId, Long memberId);
+
+    @Query("select pl.memberId from PostLike pl where pl.postId = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+}
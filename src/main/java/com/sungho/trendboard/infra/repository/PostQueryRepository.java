@@ -0,0 +1,197 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import com.sungho.trendboard.infra.repository.dto.PostScoreSeedRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.sungho.trendboard.domain.QPost.post;
+import static com.sungho.trendboard.domain.QPostHashtag.postHashtag;
+import static com.sungho.trendboard.domain.QPostTag.postTag;
+
+/**
+ * 목록/피드 조회 전용 저장소.
+ * Post 엔티티를 영속성 컨텍스트에 올리지 않고(dirty checking 스냅샷 없음) 카드에 필요한 컬럼만 DTO로 바로 프로젝션한다.
+ * content(TEXT)는 DB에서 잘라낸 요약만 전송한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepository {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    // JPQLTemplates.DEFAULT의 substring은 인덱스 보정식을 파라미터로 렌더링하므로 리터럴 템플릿으로 고정한다.
+    private static final StringExpression EXCERPT =
+            Expressions.stringTemplate("substring({0}, 1, " + EXCERPT_LENGTH + ")", post.content);
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 최신순 카드 목록. category가 있으면 idx_post_category_deleted_at_id, 없으면 idx_post_deleted_at_id를 탄다.
+     */
+    public List<PostCardRow> findLatestCards(PostCategory category, Long cursorId, int limit) {
+        return selectCards()
+                .where(
+                        post.deletedAt.isNull(),
+                        categoryEq(category),
+                        idLt(cursorId)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * minId 이후(= 특정 시각 이후)에 작성된 게시글의 트렌딩 점수 재료를 최신순으로 조회한다. PK 범위만 읽는다.
+     */
+    public List<PostScoreSeedRow> findScoreSeeds(long minId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(PostScoreSeedRow.class,
+                        post.id,
+                        post.category,
+                        post.likeCount
+                ))
+                .from(post)
+                .where(
+                        post.id.goe(minId),
+                        post.deletedAt.isNull()
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 회원별 최신순 카드 목록. idx_post_member_id_deleted_at_id의 (member_id, deleted_at) 동등 접두어 뒤 id 범위를 역순으로 읽는다.
+     */
+    public List<PostCardRow> findLatestCardsByMember(Long memberId, Long cursorId, int limit) {
+        return selectCards()
+                .where(
+                        post.memberId.eq(memberId),
+                        post.deletedAt.isNull(),
+                        idLt(cursorId)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 주어진 id 중 삭제되지 않은 게시글을 id 내림차순으로 조회한다.
+     */
+    public List<PostCardRow> findCardsByIds(List<Long> ids, PostCategory category) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return selectCards()
+                .where(
+                        post.id.in(ids),
+                        post.deletedAt.isNull(),
+                        categoryEq(category)
+                )
+                .orderBy(post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * OFFSET 구간을 커버링 인덱스(idx_post_deleted_at_id)에서 id만으로 건너뛴다.
+     * 실제 행은 {@link #findCardsByIds}로 해당 페이지 id에 대해서만 읽는다(late row lookup).
+     */
+    public List<Long> findPageIds(long offset, int limit) {
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.deletedAt.isNull())
+                .orderBy(post.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<PostCardRow> findCardsByOffset(long offset, int limit) {
+        return selectCards()
+                .where(post.deletedAt.isNull())
+                .orderBy(post.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 페이지 전체의 태그 id를 IN 쿼리 한 번으로 읽는다. tag 테이블은 조인하지 않는다.
+     */
+    public Map<Long, List<Long>> findTagIdsByPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory
+                .select(postTag.post.id, postTag.tagId)
+                .from(postTag)
+                .where(postTag.post.id.in(postIds))
+                .orderBy(postTag.id.asc())
+                .fetch();
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(postTag.post.id),
+                        LinkedHashMap::new,
+                        Collectors.mapping(row -> row.get(postTag.tagId), Collectors.toList())
+                ));
+    }
+
+    /**
+     * 페이지 전체의 해시태그 이름을 IN 쿼리 한 번으로 읽는다.
+     */
+    public Map<Long, List<String>> findHashtagsByPostIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory
+                .select(postHashtag.post.id, postHashtag.name)
+                .from(postHashtag)
+                .where(postHashtag.post.id.in(postIds))
+                .orderBy(postHashtag.id.asc())
+                .fetch();
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(postHashtag.post.id),
+                        LinkedHashMap::new,
+                        Collectors.mapping(row -> row.get(postHashtag.name), Collectors.toList())
+                ));
+    }
+
+    private JPAQuery<PostCardRow> selectCards() {
+        return queryFactory
+                .select(Projections.constructor(PostCardRow.class,
+                        post.id,
+                        post.memberId,
+                        post.title,
+                        EXCERPT,
+                        post.category,
+                        post.likeCount,
+                        post.createdAt,
+                        post.updatedAt
+                ))
+                .from(post);
+    }
+
+    private BooleanExpression categoryEq(PostCategory category) {
+        return category == null ? null : post.category.eq(category);
+    }
+
+    private BooleanExpression idLt(Long cursorId) {
+        return cursorId == null ? null : post.id.lt(cursorId);
+    }
+}
@@ -1,7 +1,31 @@
 package com.sungho.trendboard.infra.repository;
 
 import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.infra.repository.dto.PostDetailRow;
+import com.sungho.trendboard.infra.repository.dto.PostVersionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    /**
+     * 상세 조회용. 조회 집계를 같은 쿼리에서 LEFT JOIN으로 읽어 상세 응답에 조회 수를 붙일 때 추가 쿼리가 없게 한다.
+     */
+    @Query("select new com.sungho.trendboard.infra.repository.dto.PostDetailRow(p, s) from Post p "
+            + "left join PostViewStat s on s.postId = p.id where p.id = :id and p.deletedAt is null")
+    Optional<PostDetailRow> findActiveDetailById(@Param("id") Long id);
+
+    @Query("select p.category from Post p where p.id = :id and p.deletedAt is null")
+    Optional<PostCategory> findActiveCategoryById(@Param("id") Long id);
+
+    @Query("""
+            select new com.sungho.trendboard.infra.repository.dto.PostVersionRow(p.id, p.updatedAt, p.likeCount)
+            from Post p
+            where p.id = :id and p.deletedAt is null
+            """)
+    Optional<PostVersionRow> findVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,26 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.PostTag;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+
+    // idx_post_tag_tag_id (tag_id, post_id)만 역순으로 읽는 index-only 범위 스캔
+    @Query("""
+            select pt.post.id from PostTag pt
+            where pt.tag.id = :tagId and pt.post.id < :beforeId
+            order by pt.post.id desc
+            """)
+    List<Long> findPostIdsByTagIdBefore(@Param("tagId") Long tagId,
+                                        @Param("beforeId") long beforeId,
+                                        Limit limit);
+
+    // FK 컬럼(tag_id)만 읽으므로 tag 테이블 조인이나 Tag 프록시 초기화가 없다.
+    @Query("select pt.tagId from PostTag pt where pt.post.id = :postId order by pt.id")
+    List<Long> findTagIdsByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,7 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.PostViewStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostViewStatRepository extends JpaRepository<PostViewStat, Long> {
+}
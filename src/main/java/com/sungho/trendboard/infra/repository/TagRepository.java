@@ -3,5 +3,9 @@ package com.sungho.trendboard.infra.repository;
 import com.sungho.trendboard.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+
 public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    long countByIdIn(Collection<Long> ids);
 }
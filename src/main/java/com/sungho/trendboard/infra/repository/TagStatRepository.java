@@ -0,0 +1,7 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.TagStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TagStatRepository extends JpaRepository<TagStat, Long> {
+}
@@ -0,0 +1,12 @@
+package com.sungho.trendboard.infra.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 해시태그 트렌드 초기 적재용. 해시태그가 게시글에 붙은 시각만 읽는다.
+ */
+public record HashtagOccurrenceRow(
+        String name,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.sungho.trendboard.infra.repository.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 게시글 한 행. 엔티티를 거치지 않고 필요한 컬럼만 바로 담는다.
+ */
+public record PostCardRow(
+        Long id,
+        Long memberId,
+        String title,
+        String excerpt,
+        PostCategory category,
+        int likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.sungho.trendboard.infra.repository.dto;
+
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostViewStat;
+
+/**
+ * 상세 조회용 게시글과 반영된 조회 집계. 집계 행이 아직 없으면 viewStat은 null이다.
+ */
+public record PostDetailRow(
+        Post post,
+        PostViewStat viewStat
+) {
+}
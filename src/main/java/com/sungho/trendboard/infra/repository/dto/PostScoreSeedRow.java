@@ -0,0 +1,13 @@
+package com.sungho.trendboard.infra.repository.dto;
+
+import com.sungho.trendboard.domain.PostCategory;
+
+/**
+ * 트렌딩 점수 초기 적재용 게시글 요약. 생성 시각은 Snowflake id에서 얻는다.
+ */
+public record PostScoreSeedRow(
+        Long id,
+        PostCategory category,
+        int likeCount
+) {
+}
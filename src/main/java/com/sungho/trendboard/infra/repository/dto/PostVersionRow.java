@@ -0,0 +1,13 @@
+package com.sungho.trendboard.infra.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 GET 검증용 게시글 버전. PK 조회로 updated_at, like_count만 읽는다.
+ */
+public record PostVersionRow(
+        Long id,
+        LocalDateTime updatedAt,
+        int likeCount
+) {
+}
@@ -0,0 +1,4 @@
+-- 태그별 post id 목록(posting list)을 post_id 내림차순으로 인덱스만 읽어 가져올 수 있도록 post_id를 포함한다.
+ALTER TABLE post_tag
+    DROP INDEX idx_post_tag_tag_id,
+    ADD INDEX idx_post_tag_tag_id (tag_id, post_id);
@@ -0,0 +1,6 @@
+-- 회원별 타임라인은 member_id 동등 조건 뒤 id 역순으로 seek 한다.
+-- 단일 컬럼 인덱스로는 ORDER BY id DESC에 filesort가 필요하므로 (member_id, deleted_at, id)로 교체한다.
+-- fk_post_member가 member_id 선두 인덱스를 요구하므로 같은 ALTER 안에서 교체한다.
+ALTER TABLE post
+    DROP INDEX idx_post_member_id,
+    ADD INDEX idx_post_member_id_deleted_at_id (member_id, deleted_at, id);
@@ -0,0 +1,13 @@
+-- 회원당 게시글 좋아요 1회를 보장하는 테이블. 중복 판정은 (post_id, member_id) 유니크 키가 최종적으로 맡는다.
+-- 게시글별 좋아요 회원 목록을 인덱스만으로 읽어 메모리 필터를 재구성할 수 있도록 유니크 키를 post_id 선두로 둔다.
+CREATE TABLE post_like (
+    id         BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_like_post_member UNIQUE (post_id, member_id),
+    CONSTRAINT fk_post_like_post FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_like_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
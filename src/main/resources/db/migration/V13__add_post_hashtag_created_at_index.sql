@@ -0,0 +1,3 @@
+-- 해시태그 트렌드를 재시작 시 최근 구간(created_at 범위)만 읽어 다시 채우기 위한 인덱스
+ALTER TABLE post_hashtag
+    ADD INDEX idx_post_hashtag_created_at (created_at);
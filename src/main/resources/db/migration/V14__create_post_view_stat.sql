@@ -0,0 +1,11 @@
+-- 게시글별 조회 집계. 조회마다 쓰지 않고 메모리에 모은 증분을 주기적으로 합쳐 넣는다.
+-- unique_sketch는 조회 회원 id의 HyperLogLog(p=12) 직렬화 값이고, unique_viewers는 그 추정치를 정렬/조회용으로 함께 둔다.
+-- 쓰기가 잦은 집계 테이블이라 post FK 검사를 두지 않는다. 조회는 존재하는 게시글에 대해서만 기록된다.
+CREATE TABLE post_view_stat (
+    post_id        BIGINT          NOT NULL,
+    view_count     BIGINT          NOT NULL,
+    unique_viewers BIGINT          NOT NULL,
+    unique_sketch  VARBINARY(4097) NOT NULL,
+    updated_at     DATETIME(6)     NOT NULL,
+    PRIMARY KEY (post_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,14 @@
+-- 태그별 사용 게시글 수. 태그 선택 UI 정렬에 post_tag 전체 GROUP BY를 쓰지 않도록 게시글 태그 변경분으로 증분 갱신한다.
+CREATE TABLE tag_stat (
+    tag_id     BIGINT      NOT NULL,
+    post_count BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tag_id),
+    CONSTRAINT fk_tag_stat_tag FOREIGN KEY (tag_id) REFERENCES tag (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- 기존 데이터는 배포 시 한 번만 집계해 채운다.
+INSERT INTO tag_stat (tag_id, post_count, updated_at)
+SELECT tag_id, COUNT(*), NOW(6)
+FROM post_tag
+GROUP BY tag_id;
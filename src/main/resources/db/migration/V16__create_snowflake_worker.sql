@@ -0,0 +1,9 @@
+-- 노드별 Snowflake machine id(0~1023) 임대. 기동 시 비었거나 만료된 id를 하나 차지하고 heartbeat로 leased_until을 연장한다.
+-- 만료 판단은 노드 간 시계 차이를 피하려고 DB 시각(NOW(6))으로만 한다.
+CREATE TABLE snowflake_worker (
+    machine_id   INT          NOT NULL,
+    owner        VARCHAR(100) NOT NULL,
+    leased_until DATETIME(6)  NOT NULL,
+    heartbeat_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (machine_id)
+) ENGINE = InnoDB;
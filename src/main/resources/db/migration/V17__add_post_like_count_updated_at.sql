@@ -0,0 +1,3 @@
+-- like_count를 마지막으로 바꾼 시각. LikeCountFlusher와 LikeCountReconciler만 갱신하고,
+-- 대조 작업은 읽은 뒤 이 값이 바뀐 행을 고치지 않는다 (값이 그대로인 +1/-1 반영도 구분하기 위한 버전 역할).
+ALTER TABLE post ADD COLUMN like_count_updated_at DATETIME(6) NULL;
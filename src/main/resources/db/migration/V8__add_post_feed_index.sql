@@ -0,0 +1,3 @@
+-- 최신순 피드(deleted_at IS NULL AND id < :cursor ORDER BY id DESC)를 인덱스 범위 스캔으로 처리한다.
+ALTER TABLE post
+    ADD INDEX idx_post_deleted_at_id (deleted_at, id);
@@ -0,0 +1,5 @@
+-- category는 값이 7개뿐이라 단일 컬럼 인덱스로는 선택도가 낮고 ORDER BY id DESC에 filesort가 필요하다.
+-- (category, deleted_at, id) 복합 인덱스로 필터와 정렬을 모두 인덱스에서 처리한다.
+ALTER TABLE post
+    DROP INDEX idx_post_category,
+    ADD INDEX idx_post_category_deleted_at_id (category, deleted_at, id);
@@ -0,0 +1,65 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.hashtag.HashtagTrendService;
+import com.sungho.trendboard.application.hashtag.dto.HashtagTrendResponse;
+import com.sungho.trendboard.application.hashtag.dto.TrendingHashtagsRequest;
+import com.sungho.trendboard.global.config.SecurityConfig;
+import com.sungho.trendboard.global.config.WebMvcConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(HashtagController.class)
+@Import({WebMvcConfig.class, SecurityConfig.class})
+class HashtagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HashtagTrendService hashtagTrendService;
+
+    @Test
+    @DisplayName("window=1h로 최근 1시간 인기 해시태그를 조회한다")
+    void getTrending_parsesWindow() throws Exception {
+        // given
+        given(hashtagTrendService.getTrending(argThat(request ->
+                request.window().equals(Duration.ofHours(1)) && request.limit() == 5)))
+                .willReturn(List.of(new HashtagTrendResponse("맛집", 12)));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/hashtags/trending")
+                        .param("window", "1h")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("맛집"))
+                .andExpect(jsonPath("$[0].count").value(12));
+    }
+
+    @Test
+    @DisplayName("조회 구간이 24시간을 넘으면 400을 반환한다")
+    void getTrending_windowTooLong_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/hashtags/trending").param("window", "2d"))
+                .andExpect(status().isBadRequest());
+
+        then(hashtagTrendService).should(never()).getTrending(any(TrendingHashtagsRequest.class));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.post.PostQueryService;
+import com.sungho.trendboard.application.post.dto.MemberPostsRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.config.SecurityConfig;
+import com.sungho.trendboard.global.config.WebMvcConfig;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MemberPostController.class)
+@Import({WebMvcConfig.class, SecurityConfig.class})
+class MemberPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostQueryService postQueryService;
+
+    @Test
+    @DisplayName("회원 게시글 목록을 커서 페이지로 반환한다")
+    void getMemberPosts_returnsCursorPage() throws Exception {
+        // given
+        List<PostCardResponse> items = List.of(
+                new PostCardResponse(30L, 7L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 0, LocalDateTime.now(), LocalDateTime.now())
+        );
+        given(postQueryService.getMemberPosts(eq(7L), any(MemberPostsRequest.class)))
+                .willReturn(CursorPageResponse.of(items, 1, 30L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/members/{memberId}/posts", 7L)
+                        .param("cursor", "100")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.items[0].memberId").value(7L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursorId").value(30L));
+
+        then(postQueryService).should(times(1)).getMemberPosts(7L, new MemberPostsRequest(100L, 1));
+    }
+
+    @Test
+    @DisplayName("size를 생략하면 기본 크기 20으로 조회한다")
+    void getMemberPosts_withoutSize_usesDefaultSize() throws Exception {
+        // given
+        given(postQueryService.getMemberPosts(eq(7L), any(MemberPostsRequest.class)))
+                .willReturn(CursorPageResponse.of(List.of(), 20, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/members/{memberId}/posts", 7L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(postQueryService).should(times(1)).getMemberPosts(7L, new MemberPostsRequest(null, 20));
+    }
+
+    @Test
+    @DisplayName("size가 100을 초과하면 400 에러를 반환한다")
+    void getMemberPosts_withSizeExceeding100_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/members/{memberId}/posts", 7L).param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("size")));
+
+        then(postQueryService).should(never()).getMemberPosts(anyLong(), any());
+    }
+}
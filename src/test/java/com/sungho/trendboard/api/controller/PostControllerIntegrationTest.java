@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -163,6 +164,34 @@ class PostControllerIntegrationTest extends MySqlContainerSupport {
                 .andExpect(jsonPath("$.hashtags", Matchers.contains("뷰티")));
     }
 
+    @Test
+    @DisplayName("통합: 상세 조회로 캐시된 게시글도 수정 커밋 이후에는 수정된 내용으로 조회된다")
+    @WithAccount(memberId = 1L, role = MemberRole.ADVERTISER)
+    void getPost_afterUpdateCommitted_returnsUpdatedDetail() throws Exception {
+        // given
+        Post saved = postRepository.saveAndFlush(Post.builder()
+                .memberId(1L)
+                .title("기존 제목")
+                .content("기존 내용")
+                .category(PostCategory.FOOD)
+                .build());
+        mockMvc.perform(get("/api/v1/posts/{postId}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("기존 제목"));
+
+        UpdatePostRequest request = new UpdatePostRequest("수정 제목", "수정 내용", PostCategory.BEAUTY, null, List.of("뷰티"));
+        mockMvc.perform(put("/api/v1/posts/{postId}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("수정 제목"))
+                .andExpect(jsonPath("$.hashtags", Matchers.contains("뷰티")));
+    }
+
     @Test
     @DisplayName("통합: 작성자가 아니면 게시글 수정 시 403을 반환한다")
     @WithAccount(memberId = 2L, role = MemberRole.ADVERTISER)
@@ -320,4 +349,88 @@ class PostControllerIntegrationTest extends MySqlContainerSupport {
 
 
     }
+
+    @Test
+    @DisplayName("통합: 커서로 조회하면 최신순으로 이어지는 페이지를 반환한다")
+    void getPosts_withCursor_thenReturnsNextPageInIdDescOrder() throws Exception {
+        // given
+        List<Post> saved = postRepository.saveAllAndFlush(List.of(
+                createPost("첫번째"),
+                createPost("두번째"),
+                createPost("세번째")
+        ));
+        Long newestId = saved.get(2).getId();
+        Long middleId = saved.get(1).getId();
+        Long oldestId = saved.get(0).getId();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", Matchers.contains(newestId, middleId)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursorId").value(middleId));
+
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("cursor", String.valueOf(middleId))
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", Matchers.contains(oldestId)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("통합: page/size로 조회하면 deferred join으로 해당 offset 페이지를 반환한다")
+    void getPosts_withPage_thenReturnsOffsetPage() throws Exception {
+        // given
+        List<Post> saved = postRepository.saveAllAndFlush(List.of(
+                createPost("첫번째"),
+                createPost("두번째"),
+                createPost("세번째")
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("page", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", Matchers.contains(saved.get(0).getId())))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("통합: tagIds와 mode=all로 조회하면 모든 태그가 붙은 게시글만 최신순으로 반환한다")
+    void getPosts_withTagIdsAndAllMode_thenReturnsIntersection() throws Exception {
+        // given
+        Tag food = tagRepository.save(Tag.create("맛집"));
+        Tag seoul = tagRepository.save(Tag.create("서울"));
+
+        Post foodOnly = createPost("맛집만");
+        foodOnly.addPostTag(food);
+        Post both = createPost("맛집+서울");
+        both.addPostTag(food);
+        both.addPostTag(seoul);
+        List<Post> saved = postRepository.saveAllAndFlush(List.of(foodOnly, both));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("tagIds", food.getId() + "," + seoul.getId())
+                        .param("mode", "all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", Matchers.contains(saved.get(1).getId())));
+
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("tagIds", food.getId() + "," + seoul.getId())
+                        .param("mode", "any"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", Matchers.contains(saved.get(1).getId(), saved.get(0).getId())));
+    }
+
+    private Post createPost(String title) {
+        return Post.builder()
+                .memberId(1L)
+                .title(title)
+                .content("내용")
+                .category(PostCategory.FOOD)
+                .build();
+    }
 }
@@ -1,11 +1,22 @@
 package com.sungho.trendboard.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sungho.trendboard.application.post.BulkPostService;
+import com.sungho.trendboard.application.post.PostQueryService;
 import com.sungho.trendboard.application.post.PostService;
+import com.sungho.trendboard.application.post.TagMatchMode;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostRequest;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostResponse;
+import com.sungho.trendboard.application.post.dto.BulkPostItemResult;
 import com.sungho.trendboard.application.post.dto.CreatePostRequest;
 import com.sungho.trendboard.application.post.dto.CreatePostResponse;
+import com.sungho.trendboard.application.post.dto.FrontPageRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.post.dto.PostFeedRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostResponse;
+import com.sungho.trendboard.application.view.PostViewService;
 import com.sungho.trendboard.domain.MemberRole;
 import com.sungho.trendboard.domain.PostCategory;
 import com.sungho.trendboard.global.config.SecurityConfig;
@@ -13,11 +24,14 @@ import com.sungho.trendboard.global.config.WebMvcConfig;
 import com.sungho.trendboard.global.exception.BusinessException;
 import com.sungho.trendboard.global.exception.CommonErrorCode;
 import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.response.CursorPageResponse;
 import com.sungho.trendboard.global.security.WithAccount;
+import com.sungho.trendboard.infra.repository.dto.PostVersionRow;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -29,12 +43,16 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -50,6 +68,15 @@ class PostControllerTest {
     @MockitoBean
     private PostService postService;
 
+    @MockitoBean
+    private PostQueryService postQueryService;
+
+    @MockitoBean
+    private PostViewService postViewService;
+
+    @MockitoBean
+    private BulkPostService bulkPostService;
+
     @Test
     @DisplayName("ADVERTISER가 게시글을 정상 등록한다")
     @WithAccount(memberId = 1L, role = MemberRole.ADVERTISER)
@@ -83,6 +110,49 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.likeCount").value(0));
     }
 
+    @Test
+    @DisplayName("게시글을 일괄 등록하면 항목별 결과를 요청 순서대로 반환한다")
+    @WithAccount(memberId = 1L, role = MemberRole.ADVERTISER)
+    void createPosts_returnsItemResults() throws Exception {
+        // given
+        BulkCreatePostRequest request = new BulkCreatePostRequest(List.of(
+                new CreatePostRequest("제목1", "내용1", PostCategory.FOOD, null, null),
+                new CreatePostRequest("", "내용2", PostCategory.FOOD, null, null)
+        ));
+        given(bulkPostService.createPosts(any(), any(BulkCreatePostRequest.class)))
+                .willReturn(BulkCreatePostResponse.of(List.of(
+                        BulkPostItemResult.created(0, 100L),
+                        BulkPostItemResult.invalid(1, CommonErrorCode.INVALID_INPUT, "제목은 필수입니다.")
+                )));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].postId").value(100L))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].code").value("COMMON-INVALID_INPUT"));
+    }
+
+    @Test
+    @DisplayName("일괄 등록 목록이 비어 있으면 400 에러를 반환한다")
+    @WithAccount(memberId = 1L, role = MemberRole.ADVERTISER)
+    void createPosts_withEmptyList_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/v1/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreatePostRequest(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"));
+
+        then(bulkPostService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("제목이 비어있으면 400 에러를 반환한다")
     @WithAccount(memberId = 1L, role = MemberRole.ADVERTISER)
@@ -661,5 +731,294 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.hashtags").isArray())
                 .andExpect(jsonPath("$.hashtags").isEmpty());
     }
-}
 
+    @Test
+    @DisplayName("커서 없이 조회하면 최신 게시글 페이지와 다음 커서를 반환한다")
+    void getPosts_withoutCursor_returnsFirstPage() throws Exception {
+        // given
+        List<PostCardResponse> items = List.of(
+                new PostCardResponse(3L, 1L, "세번째", "내용", PostCategory.FOOD, List.of(1L), List.of("맛집"), 0, LocalDateTime.now(), LocalDateTime.now()),
+                new PostCardResponse(2L, 1L, "두번째", "내용", PostCategory.TECH, List.of(), List.of(), 0, LocalDateTime.now(), LocalDateTime.now())
+        );
+        given(postQueryService.getFeed(any(PostFeedRequest.class)))
+                .willReturn(CursorPageResponse.of(items, 2, 2L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id").value(3L))
+                .andExpect(jsonPath("$.items[0].excerpt").value("내용"))
+                .andExpect(jsonPath("$.items[0].tagIds", Matchers.contains(1)))
+                .andExpect(jsonPath("$.items[0].hashtags", Matchers.contains("맛집")))
+                .andExpect(jsonPath("$.items[0].content").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursorId").value(2L));
+
+        then(postQueryService).should(times(1)).getFeed(new PostFeedRequest(null, null, 2, null, null, null));
+    }
+
+    @Test
+    @DisplayName("size를 생략하면 기본 크기 20으로 조회한다")
+    void getPosts_withoutSize_usesDefaultSize() throws Exception {
+        // given
+        given(postQueryService.getFeed(any(PostFeedRequest.class)))
+                .willReturn(CursorPageResponse.of(List.of(), 20, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("cursor", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(postQueryService).should(times(1)).getFeed(new PostFeedRequest(100L, null, 20, null, null, null));
+    }
+
+    @Test
+    @DisplayName("size가 100을 초과하면 400 에러를 반환한다")
+    void getPosts_withSizeExceeding100_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("size")));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    @Test
+    @DisplayName("cursor 타입이 올바르지 않으면 400 에러를 반환한다")
+    void getPosts_withInvalidCursorType_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("cursor")));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    @Test
+    @DisplayName("page를 보내면 offset 페이지 요청으로 전달한다")
+    void getPosts_withPage_delegatesOffsetRequest() throws Exception {
+        // given
+        given(postQueryService.getFeed(any(PostFeedRequest.class)))
+                .willReturn(CursorPageResponse.of(List.of(), 20, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("page", "3").param("size", "20"))
+                .andExpect(status().isOk());
+
+        then(postQueryService).should(times(1)).getFeed(new PostFeedRequest(null, 3, 20, null, null, null));
+    }
+
+    @Test
+    @DisplayName("page가 0이하면 400 에러를 반환한다")
+    void getPosts_withPageZero_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("page", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("page")));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    @Test
+    @DisplayName("page를 category나 tagIds와 함께 보내면 무시하지 않고 400 에러를 반환한다")
+    void getPosts_withPageAndFilter_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("page", "2").param("category", "TECH"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("pageWithoutFilter")));
+        mockMvc.perform(get("/api/v1/posts").param("page", "2").param("tagIds", "1,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    @Test
+    @DisplayName("category를 보내면 카테고리 피드 요청으로 전달한다")
+    void getPosts_withCategory_delegatesCategoryRequest() throws Exception {
+        // given
+        given(postQueryService.getFeed(any(PostFeedRequest.class)))
+                .willReturn(CursorPageResponse.of(List.of(), 20, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("category", "TECH").param("cursor", "100"))
+                .andExpect(status().isOk());
+
+        then(postQueryService).should(times(1)).getFeed(new PostFeedRequest(100L, null, 20, PostCategory.TECH, null, null));
+    }
+
+    @Test
+    @DisplayName("category 값이 올바르지 않으면 400 에러를 반환한다")
+    void getPosts_withInvalidCategory_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("category", "INVALID_CATEGORY"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("category")));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    @Test
+    @DisplayName("tagIds와 mode를 보내면 태그 피드 요청으로 전달한다")
+    void getPosts_withTagIdsAndMode_delegatesTagRequest() throws Exception {
+        // given
+        given(postQueryService.getFeed(any(PostFeedRequest.class)))
+                .willReturn(CursorPageResponse.of(List.of(), 20, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("tagIds", "1,2").param("mode", "all"))
+                .andExpect(status().isOk());
+
+        then(postQueryService).should(times(1))
+                .getFeed(new PostFeedRequest(null, null, 20, null, List.of(1L, 2L), TagMatchMode.ALL));
+    }
+
+    @Test
+    @DisplayName("tagIds가 10개를 초과하면 피드 조회 시 400 에러를 반환한다")
+    void getPosts_withTagIdsExceeding10_returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").param("tagIds", "1,2,3,4,5,6,7,8,9,10,11"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("COMMON-INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors[*].field", Matchers.hasItem("tagIds")));
+
+        then(postQueryService).should(never()).getFeed(any());
+    }
+
+    /* ==================== 상세 조회 ==================== */
+
+    @Test
+    @DisplayName("게시글 상세를 조회하면 태그 id와 해시태그를 함께 반환한다")
+    void getPost_returnsDetail() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        PostDetailResponse response = new PostDetailResponse(
+                10L, 1L, "제목", "내용", PostCategory.FOOD,
+                List.of(1L, 2L), List.of("맛집"), 3, updatedAt, updatedAt, 120L, 45L
+        );
+        given(postQueryService.getPostVersion(10L)).willReturn(new PostVersionRow(10L, updatedAt, 3));
+        given(postQueryService.getPost(10L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", 10L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, PostETags.ofPost(10L, updatedAt, 3)))
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("W/")))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.id").value(10L))
+                .andExpect(jsonPath("$.content").value("내용"))
+                .andExpect(jsonPath("$.tagIds", Matchers.contains(1, 2)))
+                .andExpect(jsonPath("$.hashtags", Matchers.contains("맛집")))
+                .andExpect(jsonPath("$.likeCount").value(3))
+                .andExpect(jsonPath("$.viewCount").value(120L))
+                .andExpect(jsonPath("$.uniqueViewers").value(45L));
+
+        then(postViewService).should().recordView(eq(10L), any());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 상세를 읽지 않고 304를 반환한다")
+    void getPost_whenETagMatches_returns304WithoutLoadingDetail() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        given(postQueryService.getPostVersion(10L)).willReturn(new PostVersionRow(10L, updatedAt, 3));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", 10L)
+                        .header(HttpHeaders.IF_NONE_MATCH, PostETags.ofPost(10L, updatedAt, 3)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        then(postQueryService).should(never()).getPost(any());
+        then(postViewService).should().recordView(eq(10L), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀌면 같은 수정 시각이어도 ETag가 달라 200을 반환한다")
+    void getPost_whenLikeCountChanged_returns200() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        given(postQueryService.getPostVersion(10L)).willReturn(new PostVersionRow(10L, updatedAt, 4));
+        given(postQueryService.getPost(10L)).willReturn(new PostDetailResponse(
+                10L, 1L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 4, updatedAt, updatedAt, 0L, 0L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", 10L)
+                        .header(HttpHeaders.IF_NONE_MATCH, PostETags.ofPost(10L, updatedAt, 3)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(4));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since만 보내면 좋아요 수 변경을 놓치지 않도록 304로 판정하지 않는다")
+    void getPost_withIfModifiedSinceOnly_returns200() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        given(postQueryService.getPostVersion(10L)).willReturn(new PostVersionRow(10L, updatedAt, 4));
+        given(postQueryService.getPost(10L)).willReturn(new PostDetailResponse(
+                10L, 1L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 4, updatedAt, updatedAt, 0L, 0L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", 10L)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(4));
+    }
+
+    @Test
+    @DisplayName("상세 조회 대상 게시글이 없으면 404 에러를 반환한다")
+    void getPost_whenPostNotFound_returns404() throws Exception {
+        // given
+        given(postQueryService.getPostVersion(999L)).willThrow(new BusinessException(PostErrorCode.POST_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", 999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("POST-NOT_FOUND"));
+
+        then(postViewService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("피드 페이지가 바뀌지 않았으면 304를 반환한다")
+    void getPosts_whenETagMatches_returns304() throws Exception {
+        // given
+        CursorPageResponse<PostCardResponse> page = CursorPageResponse.of(List.of(
+                new PostCardResponse(3L, 1L, "세번째", "내용", PostCategory.FOOD, List.of(), List.of(), 0,
+                        LocalDateTime.of(2026, 1, 1, 12, 0), LocalDateTime.of(2026, 1, 1, 12, 0))
+        ), 20, 3L);
+        given(postQueryService.getFeed(any(PostFeedRequest.class))).willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.IF_NONE_MATCH, PostETags.ofFeed(page)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("첫 화면 피드를 커서 페이지로 반환한다")
+    void getFrontPage_returnsMaterializedPage() throws Exception {
+        // given
+        List<PostCardResponse> items = List.of(
+                new PostCardResponse(30L, 1L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 7, LocalDateTime.now(), LocalDateTime.now())
+        );
+        given(postQueryService.getFrontPage(new FrontPageRequest(10L, 1)))
+                .willReturn(CursorPageResponse.of(items, 1, 30L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/front-page")
+                        .param("cursor", "10")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(30L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursorId").value(30L));
+    }
+}
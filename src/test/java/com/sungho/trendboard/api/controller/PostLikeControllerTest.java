@@ -0,0 +1,62 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.like.PostLikeService;
+import com.sungho.trendboard.global.config.SecurityConfig;
+import com.sungho.trendboard.global.config.WebMvcConfig;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PostLikeController.class)
+@Import({WebMvcConfig.class, SecurityConfig.class})
+class PostLikeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostLikeService postLikeService;
+
+    @Test
+    @DisplayName("좋아요 요청은 204를 반환한다")
+    void like_returnsNoContent() throws Exception {
+        mockMvc.perform(post("/api/v1/posts/{postId}/likes", 10L))
+                .andExpect(status().isNoContent());
+
+        then(postLikeService).should().like(any(CurrentUser.class), eq(10L));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 요청은 204를 반환한다")
+    void unlike_returnsNoContent() throws Exception {
+        mockMvc.perform(delete("/api/v1/posts/{postId}/likes", 10L))
+                .andExpect(status().isNoContent());
+
+        then(postLikeService).should().unlike(any(CurrentUser.class), eq(10L));
+    }
+
+    @Test
+    @DisplayName("없는 게시글에 좋아요하면 404를 반환한다")
+    void like_missingPost_returnsNotFound() throws Exception {
+        willThrow(new BusinessException(PostErrorCode.POST_NOT_FOUND))
+                .given(postLikeService).like(any(CurrentUser.class), eq(99L));
+
+        mockMvc.perform(post("/api/v1/posts/{postId}/likes", 99L))
+                .andExpect(status().isNotFound());
+    }
+}
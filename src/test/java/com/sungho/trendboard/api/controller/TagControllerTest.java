@@ -0,0 +1,61 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.tag.TagPopularityService;
+import com.sungho.trendboard.application.tag.dto.PopularTagResponse;
+import com.sungho.trendboard.application.tag.dto.PopularTagsRequest;
+import com.sungho.trendboard.global.config.SecurityConfig;
+import com.sungho.trendboard.global.config.WebMvcConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TagController.class)
+@Import({WebMvcConfig.class, SecurityConfig.class})
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TagPopularityService tagPopularityService;
+
+    @Test
+    @DisplayName("사용 게시글 수가 많은 태그를 조회한다")
+    void getPopular_returnsTags() throws Exception {
+        // given
+        given(tagPopularityService.getPopular(new PopularTagsRequest(5)))
+                .willReturn(List.of(new PopularTagResponse(1L, "맛집", 30L)));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/tags/popular").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$[0].tagId").value(1L))
+                .andExpect(jsonPath("$[0].name").value("맛집"))
+                .andExpect(jsonPath("$[0].postCount").value(30L));
+    }
+
+    @Test
+    @DisplayName("조회 개수가 100을 넘으면 400을 반환한다")
+    void getPopular_limitTooLarge_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tags/popular").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+
+        then(tagPopularityService).should(never()).getPopular(any(PopularTagsRequest.class));
+    }
+}
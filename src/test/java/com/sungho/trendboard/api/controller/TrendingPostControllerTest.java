@@ -0,0 +1,85 @@
+package com.sungho.trendboard.api.controller;
+
+import com.sungho.trendboard.application.trending.TrendingService;
+import com.sungho.trendboard.application.trending.TrendingStreamService;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.config.SecurityConfig;
+import com.sungho.trendboard.global.config.WebMvcConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TrendingPostController.class)
+@Import({WebMvcConfig.class, SecurityConfig.class})
+class TrendingPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TrendingService trendingService;
+
+    @MockitoBean
+    private TrendingStreamService trendingStreamService;
+
+    @Test
+    @DisplayName("카테고리별 트렌딩 게시글을 점수순으로 반환한다")
+    void getTrending_returnsRanking() throws Exception {
+        // given
+        given(trendingService.getTrending(argThat(request ->
+                request.category() == PostCategory.TECH && request.limit() == 20)))
+                .willReturn(List.of(
+                        new TrendingPostResponse(2L, PostCategory.TECH, 5.5),
+                        new TrendingPostResponse(1L, PostCategory.TECH, 1.25)
+                ));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/trending").param("category", "TECH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].postId").value(2L))
+                .andExpect(jsonPath("$[0].score").value(5.5));
+    }
+
+    @Test
+    @DisplayName("조회 개수가 범위를 벗어나면 400을 반환한다")
+    void getTrending_invalidLimit_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/trending").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+
+        then(trendingService).should(never()).getTrending(any(TrendingPostsRequest.class));
+    }
+
+    @Test
+    @DisplayName("트렌딩 스트림을 구독하면 카테고리별 SSE 응답을 비동기로 시작한다")
+    void stream_startsEventStream() throws Exception {
+        // given
+        given(trendingStreamService.subscribe(PostCategory.TECH)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/trending/stream").param("category", "TECH"))
+                .andExpect(request().asyncStarted());
+
+        then(trendingStreamService).should().subscribe(PostCategory.TECH);
+    }
+}
@@ -0,0 +1,73 @@
+package com.sungho.trendboard.application.hashtag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("폭과 깊이는 epsilon, delta로 정해지고 입력 종류와 무관하게 메모리가 고정된다")
+    void constructor_sizesFromErrorBounds() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(0.01, 0.01);
+        int before = sketch.memoryBytes();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("해시태그-" + i, 1);
+        }
+
+        // then
+        assertThat(before).isEqualTo(272 * 5 * Integer.BYTES);
+        assertThat(sketch.memoryBytes()).isEqualTo(before);
+        assertThat(sketch.total()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("추정값은 실제 횟수보다 작지 않다")
+    void estimate_neverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(0.05, 0.05);
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            sketch.add("tag-" + (i % 200), 1);
+        }
+
+        // then
+        for (int i = 0; i < 200; i++) {
+            assertThat(sketch.estimate("tag-" + i)).isGreaterThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 크기의 스케치를 합치면 두 입력을 합친 추정값이 된다")
+    void merge_addsCounters() {
+        // given
+        CountMinSketch first = new CountMinSketch(0.01, 0.01);
+        CountMinSketch second = first.emptyCopy();
+        first.add("맛집", 3);
+        second.add("맛집", 4);
+        second.add("여행", 1);
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.estimate("맛집")).isEqualTo(7);
+        assertThat(first.estimate("여행")).isEqualTo(1);
+        assertThat(first.total()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("크기가 다른 스케치는 합칠 수 없다")
+    void merge_differentSize_throws() {
+        CountMinSketch sketch = new CountMinSketch(0.01, 0.01);
+
+        assertThatThrownBy(() -> sketch.merge(new CountMinSketch(0.1, 0.01)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sungho.trendboard.application.hashtag;
+
+import com.sungho.trendboard.application.hashtag.HashtagTrendWindow.HashtagCount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Zipf 분포 합성 입력에서 정확한 집계와 스케치 추정치를 비교한다.
+ */
+class HashtagFrequencySketchTest {
+
+    private static final int DISTINCT = 50_000;
+    private static final int EVENTS = 1_000_000;
+    private static final double EPSILON = 0.001;
+
+    private static long[] exact;
+    private static HashtagFrequencySketch sketch;
+
+    @BeforeAll
+    static void feedZipfWorkload() {
+        double[] cdf = zipfCdf(DISTINCT, 1.1);
+        Random random = new Random(42);
+        exact = new long[DISTINCT];
+        sketch = new HashtagFrequencySketch(EPSILON, 0.01, 200);
+        for (int i = 0; i < EVENTS; i++) {
+            int rank = sample(cdf, random.nextDouble());
+            exact[rank]++;
+            sketch.add(name(rank));
+        }
+    }
+
+    @Test
+    @DisplayName("상위 20개 해시태그를 모두 찾아낸다")
+    void top_recallsExactTopN() {
+        // given
+        List<String> exactTop = IntStream.range(0, DISTINCT).boxed()
+                .sorted(Comparator.comparingLong((Integer rank) -> exact[rank]).reversed())
+                .limit(20)
+                .map(HashtagFrequencySketchTest::name)
+                .toList();
+
+        // when
+        List<String> estimatedTop = sketch.top(20).stream().map(HashtagCount::name).toList();
+
+        // then
+        assertThat(estimatedTop).containsExactlyInAnyOrderElementsOf(exactTop);
+    }
+
+    @Test
+    @DisplayName("상위 100개 추정치는 실제 이상, 실제 + epsilon x N 이하다")
+    void estimate_topItemsWithinErrorBound() {
+        long bound = (long) Math.ceil(EPSILON * EVENTS);
+        for (int rank = 0; rank < 100; rank++) {
+            long estimate = sketch.estimate(name(rank));
+            assertThat(estimate).isGreaterThanOrEqualTo(exact[rank]);
+            assertThat(estimate - exact[rank]).isLessThanOrEqualTo(bound);
+        }
+    }
+
+    @Test
+    @DisplayName("꼬리 구간 해시태그도 99% 이상이 오차 범위 안에 든다")
+    void estimate_tailItemsMostlyWithinErrorBound() {
+        long bound = (long) Math.ceil(EPSILON * EVENTS);
+        Random random = new Random(7);
+        int probes = 2_000;
+        int withinBound = 0;
+        for (int i = 0; i < probes; i++) {
+            int rank = 100 + random.nextInt(DISTINCT - 100);
+            long estimate = sketch.estimate(name(rank));
+            assertThat(estimate).isGreaterThanOrEqualTo(exact[rank]);
+            if (estimate - exact[rank] <= bound) {
+                withinBound++;
+            }
+        }
+        assertThat((double) withinBound / probes).isGreaterThanOrEqualTo(0.99);
+    }
+
+    private static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, s);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, double u) {
+        int index = Arrays.binarySearch(cdf, u);
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    private static String name(int rank) {
+        return "tag-" + rank;
+    }
+}
@@ -0,0 +1,62 @@
+package com.sungho.trendboard.application.hashtag;
+
+import com.sungho.trendboard.application.hashtag.dto.HashtagTrendResponse;
+import com.sungho.trendboard.application.hashtag.dto.TrendingHashtagsRequest;
+import com.sungho.trendboard.application.post.HashtagsAddedEvent;
+import com.sungho.trendboard.infra.repository.PostHashtagRepository;
+import com.sungho.trendboard.infra.repository.dto.HashtagOccurrenceRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HashtagTrendServiceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T12:00:30Z"), ZoneId.systemDefault());
+    private final PostHashtagRepository postHashtagRepository = mock(PostHashtagRepository.class);
+    private final HashtagTrendService service = new HashtagTrendService(
+            postHashtagRepository, new HashtagTrendWindow(1440, 0.005, 0.01, 200), clock);
+
+    @Test
+    @DisplayName("재시작 시 post_hashtag.created_at으로 구간을 다시 채운다")
+    void seed_restoresWindowFromCreatedAt() {
+        // given
+        LocalDateTime now = LocalDateTime.now(clock);
+        given(postHashtagRepository.findOccurrencesSince(any(LocalDateTime.class))).willReturn(List.of(
+                new HashtagOccurrenceRow("맛집", now.minusMinutes(5)),
+                new HashtagOccurrenceRow("맛집", now.minusMinutes(50)),
+                new HashtagOccurrenceRow("여행", now.minusHours(3))
+        ));
+
+        // when
+        service.seed();
+
+        // then
+        assertThat(service.getTrending(new TrendingHashtagsRequest(Duration.ofHours(1), 20)))
+                .containsExactly(new HashtagTrendResponse("맛집", 2));
+        assertThat(service.getTrending(new TrendingHashtagsRequest(Duration.ofHours(6), 20)))
+                .containsExactly(new HashtagTrendResponse("맛집", 2), new HashtagTrendResponse("여행", 1));
+    }
+
+    @Test
+    @DisplayName("새로 붙은 해시태그 이벤트를 현재 분 버킷에 더한다")
+    void onHashtagsAdded_countsCurrentMinute() {
+        // when
+        service.onHashtagsAdded(new HashtagsAddedEvent(List.of("맛집", "여행")));
+        service.onHashtagsAdded(new HashtagsAddedEvent(List.of("맛집")));
+
+        // then
+        assertThat(service.getTrending(new TrendingHashtagsRequest(null, null)))
+                .containsExactly(new HashtagTrendResponse("맛집", 2), new HashtagTrendResponse("여행", 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sungho.trendboard.application.hashtag;
+
+import com.sungho.trendboard.application.hashtag.HashtagTrendWindow.HashtagCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagTrendWindowTest {
+
+    private static final long NOW = 29_000_000L;
+
+    @Test
+    @DisplayName("구간 안의 버킷을 합산해 많이 나온 순서로 반환한다")
+    void top_sumsBucketsInWindow() {
+        // given
+        HashtagTrendWindow window = new HashtagTrendWindow(60, 0.01, 0.01, 50);
+        window.record("맛집", NOW, NOW);
+        window.record("맛집", NOW - 10, NOW);
+        window.record("여행", NOW - 5, NOW);
+        window.record("카페", NOW - 30, NOW);
+
+        // when & then
+        assertThat(window.top(60, 10, NOW)).containsExactly(
+                new HashtagCount("맛집", 2),
+                new HashtagCount("여행", 1),
+                new HashtagCount("카페", 1)
+        );
+        assertThat(window.top(10, 10, NOW)).containsExactly(
+                new HashtagCount("맛집", 1),
+                new HashtagCount("여행", 1)
+        );
+        assertThat(window.top(60, 1, NOW)).containsExactly(new HashtagCount("맛집", 2));
+    }
+
+    @Test
+    @DisplayName("링 버퍼를 한 바퀴 돈 슬롯은 이전 분의 집계를 버리고 새로 센다")
+    void record_reusedSlot_dropsExpiredBucket() {
+        // given
+        HashtagTrendWindow window = new HashtagTrendWindow(60, 0.01, 0.01, 50);
+        window.record("맛집", NOW, NOW);
+
+        // when
+        long later = NOW + 60;
+        window.record("여행", later, later);
+
+        // then
+        assertThat(window.top(60, 10, later)).containsExactly(new HashtagCount("여행", 1));
+    }
+
+    @Test
+    @DisplayName("기록하지 않은 분이 지나가면 조회에서 자연히 빠진다")
+    void top_expiredBucketsAreSkipped() {
+        // given
+        HashtagTrendWindow window = new HashtagTrendWindow(60, 0.01, 0.01, 50);
+        window.record("맛집", NOW, NOW);
+
+        // when & then
+        assertThat(window.top(60, 10, NOW + 59)).containsExactly(new HashtagCount("맛집", 1));
+        assertThat(window.top(60, 10, NOW + 60)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("분 버킷의 후보 수보다 많은 종류가 들어와도 구간 상위 해시태그는 남는다")
+    void top_highCardinality_keepsHeavyHitters() {
+        // given
+        HashtagTrendWindow window = new HashtagTrendWindow(60, 0.01, 0.01, 10);
+        for (int minute = 0; minute < 3; minute++) {
+            // 버킷당 1,200건 중 200건: 후보 10개 기준 N/10 = 120건을 넘으므로 반드시 후보로 남는다.
+            for (int i = 0; i < 1_000; i++) {
+                window.record("일회성-" + minute + "-" + i, NOW - minute, NOW);
+                if (i % 5 == 0) {
+                    window.record("인기", NOW - minute, NOW);
+                }
+            }
+        }
+
+        // when
+        var top = window.top(60, 1, NOW);
+
+        // then
+        assertThat(top).extracting(HashtagCount::name).containsExactly("인기");
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 범위를 벗어난 과거 기록은 무시한다")
+    void record_outOfRange_isIgnored() {
+        // given
+        HashtagTrendWindow window = new HashtagTrendWindow(60, 0.01, 0.01, 50);
+
+        // when
+        window.record("맛집", NOW - 60, NOW);
+
+        // then
+        assertThat(window.top(60, 10, NOW)).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.sungho.trendboard.application.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeCountBufferTest {
+
+    @Test
+    @DisplayName("한 게시글에 수천 개 스레드가 동시에 좋아요/취소해도 flush 중 증감이 유실되지 않는다")
+    void add_concurrentOnSinglePost_noLostUpdatesWhileDraining() throws Exception {
+        // given
+        LikeCountBuffer buffer = new LikeCountBuffer();
+        int threadCount = 2000;
+        int perThread = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong drained = new AtomicLong();
+
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                drained.addAndGet(buffer.drain().getOrDefault(1L, 0L));
+            }
+        });
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            long delta = i % 4 == 0 ? -1 : 1;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < perThread; j++) {
+                    buffer.add(1L, delta);
+                }
+            }));
+        }
+
+        // when
+        drainer.start();
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        running.set(false);
+        drainer.join();
+        drained.addAndGet(buffer.drain().getOrDefault(1L, 0L));
+
+        // then
+        long expected = (long) perThread * (threadCount / 4 * 3 - threadCount / 4);
+        assertThat(drained).hasValue(expected);
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("drain은 증감이 0이 아닌 게시글만 id 오름차순으로 반환하고 비운다")
+    void drain_returnsNonZeroDeltasSortedById() {
+        // given
+        LikeCountBuffer buffer = new LikeCountBuffer();
+        buffer.add(30L, 1);
+        buffer.add(10L, 2);
+        buffer.add(20L, 1);
+        buffer.add(20L, -1);
+
+        // when
+        Map<Long, Long> deltas = buffer.drain();
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(10L, 2L), Map.entry(30L, 1L));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비워진 카운터를 정리한 뒤 들어온 증감도 다음 drain에 포함된다")
+    void drain_afterCounterRetired_keepsLateDeltas() {
+        // given
+        LikeCountBuffer buffer = new LikeCountBuffer();
+        buffer.add(1L, 1);
+        buffer.drain();
+        buffer.drain();
+
+        // when
+        buffer.add(1L, 1);
+
+        // then
+        assertThat(buffer.pendingPostIds()).containsExactly(1L);
+        assertThat(buffer.drain()).containsExactly(Map.entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("미반영 시작 시각은 첫 증감 시점으로 기록되고 가져가면 초기화된다")
+    void takePendingSinceNanos_recordsFirstPendingDelta() {
+        // given
+        LikeCountBuffer buffer = new LikeCountBuffer();
+        long before = System.nanoTime();
+        buffer.add(1L, 1);
+        buffer.add(2L, 1);
+
+        // when
+        long pendingSince = buffer.takePendingSinceNanos();
+
+        // then
+        assertThat(pendingSince).isGreaterThanOrEqualTo(before);
+        assertThat(buffer.takePendingSinceNanos()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
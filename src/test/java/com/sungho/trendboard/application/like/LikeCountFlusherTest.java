@@ -0,0 +1,124 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.application.post.PostDetailCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class LikeCountFlusherTest {
+
+    private LikeCountBuffer buffer;
+    private JdbcTemplate jdbcTemplate;
+    private PostDetailCache postDetailCache;
+    private SimpleMeterRegistry meterRegistry;
+    private LikeCountFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new LikeCountBuffer();
+        jdbcTemplate = mock(JdbcTemplate.class);
+        postDetailCache = mock(PostDetailCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        flusher = new LikeCountFlusher(buffer, jdbcTemplate, mock(PlatformTransactionManager.class),
+                postDetailCache, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("누적된 증감을 id 오름차순 청크 단위 배치 UPDATE로 반영하고 상세 캐시를 무효화한다")
+    @SuppressWarnings("unchecked")
+    void flush_appliesSortedChunkedBatches() {
+        // given
+        buffer.add(3L, 1);
+        buffer.add(1L, 5);
+        buffer.add(2L, -1);
+
+        // when
+        flusher.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getAllValues().get(0)).containsExactly(new Object[]{5L, 1L}, new Object[]{-1L, 2L});
+        assertThat(captor.getAllValues().get(1)).containsExactly(new Object[]{1L, 3L});
+        then(postDetailCache).should().invalidate(1L);
+        then(postDetailCache).should().invalidate(2L);
+        then(postDetailCache).should().invalidate(3L);
+        assertThat(meterRegistry.get("like.flush.size").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("like.flush.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 청크부터의 증감은 버퍼로 되돌린다")
+    void flush_onFailure_requeuesUnappliedDeltas() {
+        // given
+        buffer.add(1L, 1);
+        buffer.add(2L, 1);
+        buffer.add(3L, 4);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willReturn(new int[]{1, 1})
+                .willThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        flusher.flush();
+
+        // then
+        assertThat(buffer.drain()).containsExactly(Map.entry(3L, 4L));
+        then(postDetailCache).should(never()).invalidate(3L);
+        assertThat(meterRegistry.get("like.flush.size").summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 시작/커밋 실패처럼 DB 예외가 아닌 실패에도 증감과 미반영 시작 시각을 되돌린다")
+    void flush_onTransactionFailure_requeuesDeltasAndKeepsPendingSince() {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any()))
+                .willReturn(new SimpleTransactionStatus())
+                .willThrow(new CannotCreateTransactionException("connection refused"));
+        flusher = new LikeCountFlusher(buffer, jdbcTemplate, transactionManager, postDetailCache, meterRegistry, 2);
+        buffer.add(1L, 1);
+        buffer.add(2L, 1);
+        buffer.add(3L, -2);
+        long firstPendingAt = System.nanoTime();
+
+        // when
+        flusher.flush();
+
+        // then
+        assertThat(buffer.takePendingSinceNanos()).isNotZero().isLessThanOrEqualTo(firstPendingAt);
+        assertThat(buffer.drain()).containsExactly(Map.entry(3L, -2L));
+        assertThat(meterRegistry.get("like.flush.lag").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("누적된 증감이 없으면 DB에 접근하지 않는다")
+    void flush_withoutDeltas_skipsUpdate() {
+        // when
+        flusher.flush();
+
+        // then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+        then(postDetailCache).should(never()).invalidate(anyLong());
+    }
+}
@@ -0,0 +1,150 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.application.post.PostDetailCache;
+import com.sungho.trendboard.global.util.ClusterLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class LikeCountReconcilerTest {
+
+    private static final Timestamp FLUSHED_AT = Timestamp.valueOf("2026-01-01 12:00:00");
+
+    private JdbcTemplate jdbcTemplate;
+    private ClusterLock clusterLock;
+    private PostDetailCache postDetailCache;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Long> pauses;
+    private LikeCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        clusterLock = mock(ClusterLock.class);
+        given(clusterLock.tryRun(anyString(), any())).willAnswer(
+                invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+        postDetailCache = mock(PostDetailCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        pauses = new ArrayList<>();
+        reconciler = new LikeCountReconciler(jdbcTemplate, clusterLock, postDetailCache, meterRegistry,
+                2, 0.5, Duration.ofSeconds(10), pauses::add);
+    }
+
+    @Test
+    @DisplayName("id 청크 단위로 훑어 어긋난 행을 모은 뒤, 대기 시간이 지나면 읽은 값과 버전 조건부로 고치고 오차를 보고한다")
+    @SuppressWarnings("unchecked")
+    void reconcile_fixesOnlyDriftedRowsChunkByChunk() throws Exception {
+        // given
+        givenScan(0L, new long[][]{{1L, 5L, 5L}, {2L, 3L, 1L}});
+        givenScan(2L, new long[][]{{3L, 0L, 2L}});
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 1});
+
+        // when
+        LikeDriftReport report = reconciler.reconcile().orElseThrow();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new Object[]{1L, 2L, 3L, FLUSHED_AT},
+                new Object[]{2L, 3L, 0L, FLUSHED_AT});
+        then(postDetailCache).should().invalidate(2L);
+        then(postDetailCache).should().invalidate(3L);
+        then(postDetailCache).should(never()).invalidate(1L);
+
+        assertThat(report.scannedPosts()).isEqualTo(3);
+        assertThat(report.driftedPosts()).isEqualTo(2);
+        assertThat(report.fixedPosts()).isEqualTo(2);
+        assertThat(report.netDrift()).isZero();
+        assertThat(report.totalAbsoluteDrift()).isEqualTo(4);
+        assertThat(report.maxAbsoluteDrift()).isEqualTo(2);
+        // 꽉 찬 첫 청크 뒤에 쿼리에 걸린 만큼(예산 50%) 쉬고, 고치기 전에 마지막으로 읽은 때부터 대기 시간만큼 기다린다.
+        assertThat(pauses).hasSize(2);
+        assertThat(pauses.get(1)).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(10).toNanos());
+        assertThat(meterRegistry.get("like.reconcile.drifted").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 대기하는 동안 like_count가 바뀐 행은 고치지 않은 것으로 보고한다")
+    void reconcile_doesNotFixRowsChangedWhileSettling() throws Exception {
+        // given
+        givenScan(0L, new long[][]{{1L, 4L, 2L}, {2L, 1L, 1L}});
+        givenScan(2L, new long[][]{});
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{0});
+
+        // when
+        LikeDriftReport report = reconciler.reconcile().orElseThrow();
+
+        // then
+        assertThat(report.scannedPosts()).isEqualTo(2);
+        assertThat(report.driftedPosts()).isEqualTo(1);
+        assertThat(report.fixedPosts()).isZero();
+        then(postDetailCache).should(never()).invalidate(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 대조 중이면 DB를 읽지 않고 건너뛴다")
+    void reconcile_whenLockHeldElsewhere_skips() {
+        // given
+        willReturn(Optional.empty()).given(clusterLock).tryRun(anyString(), any());
+
+        // when
+        Optional<LikeDriftReport> report = reconciler.reconcile();
+
+        // then
+        assertThat(report).isEmpty();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("DB 부하 예산이 0 이하이거나 1을 넘으면 생성할 수 없다")
+    void constructor_invalidLoadBudget_throws() {
+        assertThatThrownBy(() -> new LikeCountReconciler(jdbcTemplate, clusterLock, postDetailCache, meterRegistry,
+                2, 0, Duration.ofSeconds(10), pauses::add))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScan(long afterId, long[][] rows) throws SQLException {
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(afterId), eq(2))).willAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (long[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getLong("id")).willReturn(row[0]);
+                given(rs.getLong("like_count")).willReturn(row[1]);
+                given(rs.getTimestamp("like_count_updated_at")).willReturn(FLUSHED_AT);
+                given(rs.getLong("actual_count")).willReturn(row[2]);
+                mapped.add(mapper.mapRow(rs, mapped.size()));
+            }
+            return mapped;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.infra.repository.PostLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class LikeMembershipCacheTest {
+
+    private PostLikeRepository postLikeRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LikeMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new LikeMembershipCache(postLikeRepository, meterRegistry, 100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 post_like에서 한 번만 재구성하고 이후에는 메모리에서 판정한다")
+    void mightHaveLiked_rebuildsLazilyFromTable() {
+        // given
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(10L, 20L));
+
+        // when
+        boolean liked = cache.mightHaveLiked(1L, 10L);
+        boolean notLiked = cache.mightHaveLiked(1L, 30L);
+
+        // then
+        assertThat(liked).isTrue();
+        assertThat(notLiked).isFalse();
+        then(postLikeRepository).should(times(1)).findMemberIdsByPostId(1L);
+        assertThat(meterRegistry.get("like.membership.checks").tag("result", "definitely_not").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("like.membership.checks").tag("result", "maybe").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("커밋된 좋아요를 기록하면 이후 판정에 반영된다")
+    void recordLike_updatesLoadedFilter() {
+        // given
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+        assertThat(cache.mightHaveLiked(1L, 10L)).isFalse();
+
+        // when
+        cache.recordLike(1L, 10L);
+
+        // then
+        assertThat(cache.mightHaveLiked(1L, 10L)).isTrue();
+        then(postLikeRepository).should(times(1)).findMemberIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("설계 용량을 넘긴 필터는 버리고 다음 판정 때 더 큰 크기로 재구성한다")
+    void recordLike_saturatedFilter_rebuildsOnNextCheck() {
+        // given
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+        cache.mightHaveLiked(1L, 1L);
+
+        // when
+        LongStream.rangeClosed(1, LikeMembershipCache.MIN_CAPACITY + 1).forEach(id -> cache.recordLike(1L, id));
+        cache.mightHaveLiked(1L, 1L);
+
+        // then
+        then(postLikeRepository).should(times(2)).findMemberIdsByPostId(1L);
+        assertThat(meterRegistry.get("like.membership.rebuilds").counter().count()).isEqualTo(2.0);
+    }
+}
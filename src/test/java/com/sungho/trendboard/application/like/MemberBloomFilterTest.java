@@ -0,0 +1,65 @@
+package com.sungho.trendboard.application.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 회원은 항상 포함된다고 판정한다")
+    void mightContain_noFalseNegatives() {
+        // given
+        MemberBloomFilter filter = new MemberBloomFilter(10_000, 0.01);
+        long base = 700_000_000_000_000_000L;
+
+        // when
+        for (long i = 0; i < 10_000; i++) {
+            filter.put(base + i);
+        }
+
+        // then
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(base + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("설계 용량 안에서 오탐률은 목표치 근처로 유지된다")
+    void mightContain_falsePositiveRateWithinBound() {
+        // given
+        MemberBloomFilter filter = new MemberBloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.put(i);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long i = 1_000_000; i < 1_000_000 + probes; i++) {
+            if (filter.mightContain(i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("설계 용량을 넘기면 포화 상태로 판정한다")
+    void isSaturated_afterCapacityExceeded() {
+        // given
+        MemberBloomFilter filter = new MemberBloomFilter(2, 0.01);
+        filter.put(1L);
+        filter.put(2L);
+        assertThat(filter.isSaturated()).isFalse();
+
+        // when
+        filter.put(3L);
+
+        // then
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
@@ -0,0 +1,201 @@
+package com.sungho.trendboard.application.like;
+
+import com.sungho.trendboard.domain.MemberRole;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.util.Snowflake;
+import com.sungho.trendboard.global.util.SnowflakeIdGenerator;
+import com.sungho.trendboard.infra.repository.PostLikeRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private LikeMembershipCache likeMembershipCache;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostLikeService postLikeService;
+
+    // 테스트용 고정 Snowflake id
+    private static final long LIKE_ID = 1_234_567_890_123_456L;
+
+    private final CurrentUser currentUser = new CurrentUser(1L, MemberRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        SnowflakeIdGenerator.install(new Snowflake(1L));
+    }
+
+    @Test
+    @DisplayName("확실히 좋아요하지 않은 회원은 조회 없이 바로 저장하고 버퍼에 +1을 누적한다")
+    void like_definitelyNotLiked_insertsWithoutLookup() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(likeMembershipCache.mightHaveLiked(10L, 1L)).willReturn(false);
+
+        // when
+        postLikeService.like(currentUser, 10L);
+
+        // then
+        then(postLikeRepository).should(never()).existsByPostIdAndMemberId(anyLong(), anyLong());
+        ArgumentCaptor<Long> likeId = ArgumentCaptor.forClass(Long.class);
+        then(jdbcTemplate).should().update(anyString(), likeId.capture(), eq(10L), eq(1L), any(), any());
+        then(likeMembershipCache).should().recordLike(10L, 1L);
+        then(likeCountBuffer).should().add(10L, 1);
+        then(eventPublisher).should().publishEvent(
+                new PostLikedEvent(10L, PostCategory.FOOD, 1, Snowflake.timestampOf(likeId.getValue())));
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 회원이면 저장하지 않고 좋아요 수도 바꾸지 않는다")
+    void like_alreadyLiked_isIdempotent() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(likeMembershipCache.mightHaveLiked(10L, 1L)).willReturn(true);
+        given(postLikeRepository.existsByPostIdAndMemberId(10L, 1L)).willReturn(true);
+
+        // when
+        postLikeService.like(currentUser, 10L);
+
+        // then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("동시 요청으로 유니크 키 위반이 나면 중복 좋아요로 보고 무시한다")
+    void like_uniqueViolation_isIgnored() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(likeMembershipCache.mightHaveLiked(10L, 1L)).willReturn(false);
+        given(jdbcTemplate.update(anyString(), anyLong(), eq(10L), eq(1L), any(), any()))
+                .willThrow(new DuplicateKeyException("uk_post_like_post_member"));
+
+        // when
+        postLikeService.like(currentUser, 10L);
+
+        // then
+        then(likeMembershipCache).should(never()).recordLike(anyLong(), anyLong());
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("유니크 키가 아닌 무결성 위반(FK 등)은 중복 좋아요로 삼키지 않고 전파한다")
+    void like_foreignKeyViolation_propagates() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(likeMembershipCache.mightHaveLiked(10L, 1L)).willReturn(false);
+        given(jdbcTemplate.update(anyString(), anyLong(), eq(10L), eq(1L), any(), any()))
+                .willThrow(new DataIntegrityViolationException("fk_post_like_member"));
+
+        // when & then
+        assertThatThrownBy(() -> postLikeService.like(currentUser, 10L))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 행이 실제로 지워졌을 때만 버퍼에 -1을 누적한다")
+    void unlike_deletedRow_addsNegativeDelta() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(jdbcTemplate.queryForList(startsWith("SELECT id"), eq(Long.class), eq(10L), eq(1L))).willReturn(List.of(LIKE_ID));
+        given(jdbcTemplate.update(startsWith("DELETE"), eq(LIKE_ID))).willReturn(1);
+
+        // when
+        postLikeService.unlike(currentUser, 10L);
+
+        // then
+        then(likeCountBuffer).should().add(10L, -1);
+        then(eventPublisher).should().publishEvent(new PostLikedEvent(10L, PostCategory.FOOD, -1, Snowflake.timestampOf(LIKE_ID)));
+    }
+
+    @Test
+    @DisplayName("이 노드의 Bloom filter가 모르는 좋아요(다른 노드, 재기동 전)도 취소는 DB에 조건부 DELETE로 보낸다")
+    void unlike_ignoresLocalBloomFilter() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(jdbcTemplate.queryForList(startsWith("SELECT id"), eq(Long.class), eq(10L), eq(1L))).willReturn(List.of(LIKE_ID));
+        given(jdbcTemplate.update(startsWith("DELETE"), eq(LIKE_ID))).willReturn(1);
+
+        // when
+        postLikeService.unlike(currentUser, 10L);
+
+        // then
+        then(likeMembershipCache).shouldHaveNoInteractions();
+        then(likeCountBuffer).should().add(10L, -1);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 회원의 취소는 지워진 행이 없으므로 좋아요 수를 바꾸지 않는다")
+    void unlike_notLiked_keepsCount() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.of(PostCategory.FOOD));
+        given(jdbcTemplate.queryForList(startsWith("SELECT id"), eq(Long.class), eq(10L), eq(1L))).willReturn(List.of());
+
+        // when
+        postLikeService.unlike(currentUser, 10L);
+
+        // then
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 게시글에 좋아요하면 POST_NOT_FOUND 예외가 발생한다")
+    void like_missingPost_throwsNotFound() {
+        // given
+        given(postRepository.findActiveCategoryById(10L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postLikeService.like(currentUser, 10L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(PostErrorCode.POST_NOT_FOUND);
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,166 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.BulkCreatePostRequest;
+import com.sungho.trendboard.application.post.dto.BulkCreatePostResponse;
+import com.sungho.trendboard.application.post.dto.BulkPostItemResult;
+import com.sungho.trendboard.application.post.dto.BulkPostItemResult.Status;
+import com.sungho.trendboard.application.post.dto.CreatePostRequest;
+import com.sungho.trendboard.application.tag.TagCatalog;
+import com.sungho.trendboard.domain.MemberRole;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.CommonErrorCode;
+import com.sungho.trendboard.global.util.Snowflake;
+import com.sungho.trendboard.global.util.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class BulkPostServiceTest {
+
+    private static final CurrentUser ADVERTISER = new CurrentUser(1L, MemberRole.ADVERTISER);
+
+    private JdbcTemplate jdbcTemplate;
+    private TagCatalog tagCatalog;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        tagCatalog = mock(TagCatalog.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(tagCatalog.findMissing(anySet())).willReturn(Set.of());
+        SnowflakeIdGenerator.install(new Snowflake(1L));
+    }
+
+    @Test
+    @DisplayName("미리 받은 id로 post, post_tag, post_hashtag를 테이블별 배치 INSERT 하고 항목별 결과를 요청 순서대로 반환한다")
+    @SuppressWarnings("unchecked")
+    void createPosts_insertsWithBatchStatements() {
+        // given
+        BulkPostService service = service(500);
+        BulkCreatePostRequest request = new BulkCreatePostRequest(List.of(
+                new CreatePostRequest("제목1", "내용1", PostCategory.FOOD, List.of(10L, 10L, 20L), List.of(" 맛집 ", "맛집")),
+                new CreatePostRequest("제목2", "내용2", PostCategory.TECH, null, null)
+        ));
+
+        // when
+        BulkCreatePostResponse response = service.createPosts(ADVERTISER, request);
+
+        // then
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.results()).extracting(BulkPostItemResult::status).containsExactly(Status.CREATED, Status.CREATED);
+        Long firstId = response.results().get(0).postId();
+        Long secondId = response.results().get(1).postId();
+        assertThat(firstId).isLessThan(secondId);
+
+        ArgumentCaptor<List<Object[]>> posts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> tags = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> hashtags = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(startsWith("INSERT INTO post ("), posts.capture());
+        then(jdbcTemplate).should().batchUpdate(startsWith("INSERT INTO post_tag"), tags.capture());
+        then(jdbcTemplate).should().batchUpdate(startsWith("INSERT INTO post_hashtag"), hashtags.capture());
+        assertThat(posts.getValue()).extracting(args -> args[0]).containsExactly(firstId, secondId);
+        assertThat(tags.getValue()).extracting(args -> args[2]).containsExactly(10L, 20L);
+        assertThat(hashtags.getValue()).singleElement().satisfies(args -> assertThat(args[2]).isEqualTo("맛집"));
+
+        then(tagCatalog).should(times(1)).findMissing(anySet());
+        then(eventPublisher).should().publishEvent(new PostCreatedEvent(firstId, PostCategory.FOOD));
+        then(eventPublisher).should().publishEvent(new PostCreatedEvent(secondId, PostCategory.TECH));
+        then(eventPublisher).should().publishEvent(new HashtagsAddedEvent(List.of("맛집")));
+        assertThat(meterRegistry.get("post.bulk.created").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("검증에 실패하거나 없는 태그를 가진 항목만 INVALID로 돌려주고 나머지는 등록한다")
+    void createPosts_reportsInvalidItems() {
+        // given
+        BulkPostService service = service(500);
+        given(tagCatalog.findMissing(anySet())).willReturn(Set.of(99L));
+        BulkCreatePostRequest request = new BulkCreatePostRequest(List.of(
+                new CreatePostRequest("", "내용", PostCategory.FOOD, null, null),
+                new CreatePostRequest("제목", "내용", PostCategory.FOOD, List.of(10L, 99L), null),
+                new CreatePostRequest("제목", "내용", PostCategory.FOOD, List.of(10L), null)
+        ));
+
+        // when
+        BulkCreatePostResponse response = service.createPosts(ADVERTISER, request);
+
+        // then
+        assertThat(response.results()).extracting(BulkPostItemResult::status)
+                .containsExactly(Status.INVALID, Status.INVALID, Status.CREATED);
+        assertThat(response.results().get(0).code()).isEqualTo("COMMON-INVALID_INPUT");
+        assertThat(response.results().get(0).message()).isEqualTo("제목은 필수입니다.");
+        assertThat(response.results().get(1).code()).isEqualTo("POST-TAG_NOT_FOUND");
+        assertThat(response.failed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크 저장에 실패하면 그 청크 항목만 FAILED가 되고 다른 청크는 유지된다")
+    void createPosts_failedChunkDoesNotAffectOthers() {
+        // given
+        BulkPostService service = service(2);
+        given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO post ("), anyList()))
+                .willReturn(new int[]{1, 1})
+                .willThrow(new QueryTimeoutException("timeout"));
+        BulkCreatePostRequest request = new BulkCreatePostRequest(List.of(
+                new CreatePostRequest("제목1", "내용", PostCategory.FOOD, null, null),
+                new CreatePostRequest("제목2", "내용", PostCategory.FOOD, null, null),
+                new CreatePostRequest("제목3", "내용", PostCategory.FOOD, null, null)
+        ));
+
+        // when
+        BulkCreatePostResponse response = service.createPosts(ADVERTISER, request);
+
+        // then
+        assertThat(response.results()).extracting(BulkPostItemResult::status)
+                .containsExactly(Status.CREATED, Status.CREATED, Status.FAILED);
+        assertThat(response.results().get(2).postId()).isNull();
+        assertThat(meterRegistry.get("post.bulk.failed").counter().count()).isEqualTo(1.0);
+        then(jdbcTemplate).should(times(2)).batchUpdate(startsWith("INSERT INTO post ("), anyList());
+    }
+
+    @Test
+    @DisplayName("ADVERTISER가 아니면 아무것도 쓰지 않고 FORBIDDEN 예외를 던진다")
+    void createPosts_withoutAdvertiserRole_throwsForbidden() {
+        // given
+        BulkPostService service = service(500);
+        BulkCreatePostRequest request = new BulkCreatePostRequest(List.of(
+                new CreatePostRequest("제목", "내용", PostCategory.FOOD, null, null)));
+
+        // when & then
+        assertThatThrownBy(() -> service.createPosts(new CurrentUser(2L, MemberRole.USER), request))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(CommonErrorCode.FORBIDDEN);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    private BulkPostService service(int chunkSize) {
+        return new BulkPostService(jdbcTemplate, mock(PlatformTransactionManager.class), tagCatalog,
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, meterRegistry, chunkSize);
+    }
+}
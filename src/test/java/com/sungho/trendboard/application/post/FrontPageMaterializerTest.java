@@ -0,0 +1,126 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.trending.TrendingService;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FrontPageMaterializerTest {
+
+    private TrendingService trendingService;
+    private PostQueryRepository postQueryRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+    private FrontPageMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = mock(TrendingService.class);
+        postQueryRepository = mock(PostQueryRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong(1_000_000L);
+        materializer = new FrontPageMaterializer(trendingService, postQueryRepository,
+                mock(PlatformTransactionManager.class), meterRegistry, 4, now::get);
+        given(postQueryRepository.findTagIdsByPostIds(anyList())).willReturn(Map.of());
+        given(postQueryRepository.findHashtagsByPostIds(anyList())).willReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("트렌딩 순위대로 카드를 만들고 삭제된 글은 빼며 부족한 자리는 최신 글로 채운다")
+    void refresh_buildsRankedCardsAndFillsWithLatest() {
+        // given
+        given(trendingService.getTrending(any(TrendingPostsRequest.class))).willReturn(List.of(
+                trending(10L), trending(30L), trending(20L)
+        ));
+        // 20번은 삭제되어 조회되지 않는다.
+        given(postQueryRepository.findCardsByIds(List.of(10L, 30L, 20L), null)).willReturn(List.of(row(30L), row(10L)));
+        given(postQueryRepository.findLatestCards(null, null, 4)).willReturn(List.of(row(50L), row(30L), row(40L), row(5L)));
+
+        // when
+        materializer.refresh();
+
+        // then
+        CursorPageResponse<PostCardResponse> page = materializer.page(null, 10);
+        assertThat(page.items()).extracting(PostCardResponse::id).containsExactly(10L, 30L, 50L, 40L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(meterRegistry.get("front.page.swaps").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("front.page.refresh.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("front.page.size").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("커서(마지막 게시글 ID) 다음 위치부터 잘라 반환하고, 목록에서 빠진 커서면 빈 페이지로 끝낸다")
+    void page_slicesByCursor() {
+        // given
+        given(trendingService.getTrending(any(TrendingPostsRequest.class))).willReturn(List.of());
+        given(postQueryRepository.findCardsByIds(List.of(), null)).willReturn(List.of());
+        given(postQueryRepository.findLatestCards(null, null, 4)).willReturn(List.of(row(4L), row(3L), row(2L), row(1L)));
+        materializer.refresh();
+
+        // when
+        CursorPageResponse<PostCardResponse> first = materializer.page(null, 2);
+        CursorPageResponse<PostCardResponse> second = materializer.page(first.nextCursorId(), 2);
+        CursorPageResponse<PostCardResponse> unknown = materializer.page(99L, 2);
+
+        // then
+        assertThat(first.items()).extracting(PostCardResponse::id).containsExactly(4L, 3L);
+        assertThat(first.nextCursorId()).isEqualTo(3L);
+        assertThat(second.items()).extracting(PostCardResponse::id).containsExactly(2L, 1L);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursorId()).isNull();
+        assertThat(unknown.items()).isEmpty();
+        assertThat(unknown.hasNext()).isFalse();
+        assertThat(unknown.nextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 스냅샷을 계속 제공하고 staleness가 늘어난다")
+    void refresh_failure_keepsPreviousSnapshot() {
+        // given
+        given(trendingService.getTrending(any(TrendingPostsRequest.class))).willReturn(List.of());
+        given(postQueryRepository.findCardsByIds(List.of(), null)).willReturn(List.of());
+        given(postQueryRepository.findLatestCards(null, null, 4))
+                .willReturn(List.of(row(1L)))
+                .willThrow(new IllegalStateException("DB 연결 실패"));
+        materializer.refresh();
+
+        // when
+        now.addAndGet(30_000L);
+        materializer.refresh();
+
+        // then
+        assertThat(materializer.page(null, 10).items()).extracting(PostCardResponse::id).containsExactly(1L);
+        assertThat(meterRegistry.get("front.page.refresh.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("front.page.swaps").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("front.page.staleness").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(30.0);
+    }
+
+    private TrendingPostResponse trending(Long postId) {
+        return new TrendingPostResponse(postId, PostCategory.FOOD, 1.0);
+    }
+
+    private PostCardRow row(Long id) {
+        return new PostCardRow(id, 1L, "제목", "내용", PostCategory.FOOD, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,111 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PostDetailCache(100, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 게시글은 한 번만 로딩하고 이후에는 캐시에서 반환한다")
+    void get_loadsOnceAndRecordsHitAndMiss() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> { loads.incrementAndGet(); return detail(id, "제목"); });
+        PostDetailResponse cached = cache.get(1L, id -> { loads.incrementAndGet(); return detail(id, "다른 제목"); });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(cached.title()).isEqualTo("제목");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PostDetailCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PostDetailCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 다음 조회는 새로 로딩한다")
+    void onPostChanged_invalidatesEntry() {
+        // given
+        cache.get(1L, id -> detail(id, "수정 전"));
+
+        // when
+        cache.onPostChanged(new PostChangedEvent(1L, PostCategory.FOOD));
+        PostDetailResponse reloaded = cache.get(1L, id -> detail(id, "수정 후"));
+
+        // then
+        assertThat(reloaded.title()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("로더 예외는 전파되고 캐시에 남지 않는다")
+    void get_whenLoaderThrows_doesNotCache() {
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, id -> { throw new BusinessException(PostErrorCode.POST_NOT_FOUND); }))
+                .isInstanceOf(BusinessException.class);
+        assertThat(cache.get(1L, id -> detail(id, "생성됨")).title()).isEqualTo("생성됨");
+    }
+
+    @Test
+    @DisplayName("커밋 전 값을 읽던 로딩이 진행 중이면 무효화는 로딩이 끝날 때까지 기다린 뒤 제거한다")
+    void invalidate_duringInFlightLoad_neverLeavesStaleEntry() throws Exception {
+        // given: 로더가 수정 전 값을 읽은 상태로 멈춰 있다.
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<PostDetailResponse> staleLoad = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return detail(id, "수정 전");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 커밋 이후 무효화가 로딩과 겹친다.
+        CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> cache.onPostChanged(new PostChangedEvent(1L, PostCategory.FOOD)));
+        release.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+        invalidation.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(cache.get(1L, id -> detail(id, "수정 후")).title()).isEqualTo("수정 후");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PostDetailResponse detail(Long id, String title) {
+        return new PostDetailResponse(id, 1L, title, "내용", PostCategory.FOOD,
+                List.of(), List.of(), 0, LocalDateTime.now(), LocalDateTime.now(), 0L, 0L);
+    }
+}
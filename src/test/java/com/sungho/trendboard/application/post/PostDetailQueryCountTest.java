@@ -0,0 +1,72 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.TagRepository;
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import com.sungho.trendboard.support.QueryCountInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sungho.trendboard.support.QueryCountInspector")
+class PostDetailQueryCountTest extends MySqlContainerSupport {
+
+    @Autowired
+    private PostQueryService postQueryService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "태그 {0}개")
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("상세 조회는 태그 수와 무관하게 3개의 SQL만 실행하고 tag 테이블을 읽지 않는다")
+    void getPost_executesBoundedStatements(int tagCount) {
+        // given
+        List<Tag> tags = tagRepository.saveAll(IntStream.range(0, tagCount)
+                .mapToObj(i -> Tag.create("태그" + tagCount + "-" + i))
+                .toList());
+        Post post = Post.builder()
+                .memberId(1L)
+                .title("제목")
+                .content("내용")
+                .category(PostCategory.FOOD)
+                .build();
+        tags.forEach(post::addPostTag);
+        post.addHashtag("맛집");
+        post.addHashtag("서울");
+        Long postId = postRepository.save(post).getId();
+        QueryCountInspector.clear();
+
+        // when
+        PostDetailResponse response = postQueryService.getPost(postId);
+
+        // then
+        assertThat(response.tagIds()).containsExactlyElementsOf(tags.stream().map(Tag::getId).toList());
+        assertThat(response.hashtags()).containsExactly("맛집", "서울");
+        assertThat(QueryCountInspector.count()).isEqualTo(3);
+        assertThat(QueryCountInspector.statements())
+                .noneMatch(sql -> sql.toLowerCase().matches("(?s).*\\b(from|join) tag\\b.*"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.view.PostViewStatCache;
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.infra.repository.PostHashtagRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.PostTagRepository;
+import com.sungho.trendboard.infra.repository.dto.PostDetailRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailReaderTest {
+
+    @InjectMocks
+    private PostDetailReader postDetailReader;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    @Mock
+    private PostViewStatCache postViewStatCache;
+
+    @Test
+    @DisplayName("상세 조회는 게시글(조회 집계 포함), 태그 id, 해시태그 이름을 각각 한 번씩 조회하고 조회 수 캐시를 채운다")
+    void read_readsPostTagIdsAndHashtags() {
+        // given
+        given(postRepository.findActiveDetailById(10L)).willReturn(Optional.of(new PostDetailRow(postWithId(10L), null)));
+        given(postTagRepository.findTagIdsByPostId(10L)).willReturn(List.of(1L, 2L));
+        given(postHashtagRepository.findNamesByPostId(10L)).willReturn(List.of("맛집"));
+
+        // when
+        PostDetailResponse response = postDetailReader.read(10L);
+
+        // then
+        assertThat(response.id()).isEqualTo(10L);
+        assertThat(response.tagIds()).containsExactly(1L, 2L);
+        assertThat(response.hashtags()).containsExactly("맛집");
+        then(postViewStatCache).should().prime(10L, null);
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 없는 게시글을 상세 조회하면 POST_NOT_FOUND 예외가 발생한다")
+    void read_whenPostNotFound_throws() {
+        // given
+        given(postRepository.findActiveDetailById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postDetailReader.read(999L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(PostErrorCode.POST_NOT_FOUND);
+        then(postTagRepository).should(never()).findTagIdsByPostId(any());
+    }
+
+    private Post postWithId(Long id) {
+        Post post = Post.builder()
+                .memberId(1L)
+                .title("제목")
+                .content("내용")
+                .category(PostCategory.FOOD)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -0,0 +1,360 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.FrontPageRequest;
+import com.sungho.trendboard.application.post.dto.MemberPostsRequest;
+import com.sungho.trendboard.application.post.dto.PostCardResponse;
+import com.sungho.trendboard.application.post.dto.PostDetailResponse;
+import com.sungho.trendboard.application.post.dto.PostFeedRequest;
+import com.sungho.trendboard.application.view.PostViewService;
+import com.sungho.trendboard.application.view.PostViewService.ViewStats;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.global.response.CursorPageResponse;
+import com.sungho.trendboard.infra.repository.PostQueryRepository;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.PostTagRepository;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import com.sungho.trendboard.infra.repository.dto.PostVersionRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostQueryServiceTest {
+
+    @InjectMocks
+    private PostQueryService postQueryService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostDetailReader postDetailReader;
+
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
+    @Mock
+    private FrontPageMaterializer frontPageMaterializer;
+
+    @Mock
+    private PostViewService postViewService;
+
+    /* ==================== detail ==================== */
+
+    @Test
+    @DisplayName("상세 조회는 캐시를 거쳐 미스일 때만 PostDetailReader로 읽고, 조회 수는 캐시 밖에서 붙인다")
+    void getPost_readsThroughCache() {
+        // given
+        PostDetailResponse detail = new PostDetailResponse(
+                10L, 1L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 0, LocalDateTime.now(), LocalDateTime.now(), 0L, 0L);
+        given(postDetailCache.get(eq(10L), any())).willAnswer(invocation ->
+                invocation.<Function<Long, PostDetailResponse>>getArgument(1).apply(10L));
+        given(postDetailReader.read(10L)).willReturn(detail);
+        given(postViewService.getStats(10L)).willReturn(new ViewStats(7L, 3L));
+
+        // when
+        PostDetailResponse response = postQueryService.getPost(10L);
+
+        // then
+        assertThat(response).isEqualTo(detail.withViewStats(7L, 3L));
+    }
+
+    @Test
+    @DisplayName("상세가 캐시에 있으면 DB 조회 없이 캐시된 버전을 반환한다")
+    void getPostVersion_whenCached_skipsDatabase() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now();
+        given(postDetailCache.getIfPresent(10L)).willReturn(Optional.of(new PostDetailResponse(
+                10L, 1L, "제목", "내용", PostCategory.FOOD, List.of(), List.of(), 3, updatedAt, updatedAt, 0L, 0L)));
+
+        // when
+        PostVersionRow version = postQueryService.getPostVersion(10L);
+
+        // then
+        assertThat(version).isEqualTo(new PostVersionRow(10L, updatedAt, 3));
+        then(postRepository).should(never()).findVersionById(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 본문 없이 버전만 조회하고, 없는 게시글이면 POST_NOT_FOUND 예외가 발생한다")
+    void getPostVersion_whenNotCached_readsVersionOnly() {
+        // given
+        given(postDetailCache.getIfPresent(any())).willReturn(Optional.empty());
+        given(postRepository.findVersionById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postQueryService.getPostVersion(999L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(PostErrorCode.POST_NOT_FOUND);
+    }
+
+    /* ==================== cursor ==================== */
+
+    @Test
+    @DisplayName("커서가 없으면 최신 게시글부터 조회한다")
+    void getFeed_withoutCursor_readsLatest() {
+        // given
+        given(postQueryRepository.findLatestCards(null, null, 2)).willReturn(List.of(row(30L), row(20L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(new PostFeedRequest(null, null, 2, null, null, null));
+
+        // then
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursorId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이전 id부터 조회한다")
+    void getFeed_withCursor_seeksBeforeCursor() {
+        // given
+        given(postQueryRepository.findLatestCards(null, 100L, 20)).willReturn(List.of(row(90L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(new PostFeedRequest(100L, null, 20, null, null, null));
+
+        // then
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursorId()).isNull();
+    }
+
+    /* ==================== card ==================== */
+
+    @Test
+    @DisplayName("페이지 전체의 태그 id와 해시태그를 각각 한 번의 IN 조회로 카드에 붙인다")
+    void getFeed_attachesTagIdsAndHashtagsInBatch() {
+        // given
+        given(postQueryRepository.findLatestCards(null, null, 20)).willReturn(List.of(row(30L), row(20L)));
+        given(postQueryRepository.findTagIdsByPostIds(List.of(30L, 20L))).willReturn(Map.of(30L, List.of(1L, 2L)));
+        given(postQueryRepository.findHashtagsByPostIds(List.of(30L, 20L))).willReturn(Map.of(20L, List.of("맛집")));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(new PostFeedRequest(null, null, 20, null, null, null));
+
+        // then
+        assertThat(response.items().get(0).tagIds()).containsExactly(1L, 2L);
+        assertThat(response.items().get(0).hashtags()).isEmpty();
+        assertThat(response.items().get(1).tagIds()).isEmpty();
+        assertThat(response.items().get(1).hashtags()).containsExactly("맛집");
+        then(postQueryRepository).should(times(1)).findTagIdsByPostIds(anyList());
+        then(postQueryRepository).should(times(1)).findHashtagsByPostIds(anyList());
+    }
+
+    @Test
+    @DisplayName("빈 페이지면 태그/해시태그를 조회하지 않는다")
+    void getFeed_withEmptyPage_skipsBatchLookups() {
+        // given
+        given(postQueryRepository.findLatestCards(null, null, 20)).willReturn(List.of());
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(new PostFeedRequest(null, null, 20, null, null, null));
+
+        // then
+        assertThat(response.items()).isEmpty();
+        then(postQueryRepository).should(never()).findTagIdsByPostIds(anyList());
+        then(postQueryRepository).should(never()).findHashtagsByPostIds(anyList());
+    }
+
+    /* ==================== offset ==================== */
+
+    @Test
+    @DisplayName("page 요청은 기본적으로 id만 OFFSET으로 건너뛴 뒤 해당 id의 카드만 조회한다")
+    void getFeed_withPage_usesDeferredJoin() {
+        // given
+        given(postQueryRepository.findPageIds(40L, 20)).willReturn(List.of(50L));
+        given(postQueryRepository.findCardsByIds(List.of(50L), null)).willReturn(List.of(row(50L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(new PostFeedRequest(null, 3, 20, null, null, null));
+
+        // then
+        assertThat(response.items()).extracting(PostCardResponse::id).containsExactly(50L);
+        then(postQueryRepository).should(never()).findCardsByOffset(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("NAIVE 전략이면 단순 LIMIT/OFFSET 쿼리로 조회한다")
+    void getFeed_withNaiveStrategy_usesPlainOffset() {
+        // given
+        ReflectionTestUtils.setField(postQueryService, "offsetPagingStrategy", OffsetPagingStrategy.NAIVE);
+        given(postQueryRepository.findCardsByOffset(0L, 20)).willReturn(List.of());
+
+        // when
+        postQueryService.getFeed(new PostFeedRequest(null, 1, 20, null, null, null));
+
+        // then
+        then(postQueryRepository).should(never()).findPageIds(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("cursor와 page가 함께 오면 cursor를 우선한다")
+    void getFeed_withCursorAndPage_prefersCursor() {
+        // given
+        given(postQueryRepository.findLatestCards(null, 100L, 20)).willReturn(List.of());
+
+        // when
+        postQueryService.getFeed(new PostFeedRequest(100L, 3, 20, null, null, null));
+
+        // then
+        then(postQueryRepository).should(never()).findPageIds(anyLong(), anyInt());
+    }
+
+    /* ==================== category ==================== */
+
+    @Test
+    @DisplayName("category가 있으면 카테고리 커서 조회를 사용한다")
+    void getFeed_withCategory_usesCategorySeek() {
+        // given
+        given(postQueryRepository.findLatestCards(PostCategory.TECH, null, 20)).willReturn(List.of(row(30L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response =
+                postQueryService.getFeed(new PostFeedRequest(null, null, 20, PostCategory.TECH, null, null));
+
+        // then
+        assertThat(response.items()).hasSize(1);
+        then(postQueryRepository).should(never()).findPageIds(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("category와 cursor가 있으면 카테고리 내에서 커서 이전 id부터 조회한다")
+    void getFeed_withCategoryAndCursor_seeksWithinCategory() {
+        // given
+        given(postQueryRepository.findLatestCards(PostCategory.TECH, 100L, 20)).willReturn(List.of());
+
+        // when
+        CursorPageResponse<PostCardResponse> response =
+                postQueryService.getFeed(new PostFeedRequest(100L, null, 20, PostCategory.TECH, null, null));
+
+        // then
+        assertThat(response.items()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+    }
+
+    /* ==================== member ==================== */
+
+    @Test
+    @DisplayName("회원 게시글은 회원 id와 커서로 최신순 조회한다")
+    void getMemberPosts_seeksWithinMember() {
+        // given
+        given(postQueryRepository.findLatestCardsByMember(7L, 100L, 2)).willReturn(List.of(row(90L), row(80L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getMemberPosts(7L, new MemberPostsRequest(100L, 2));
+
+        // then
+        assertThat(response.items()).extracting(PostCardResponse::id).containsExactly(90L, 80L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursorId()).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("첫 화면 피드는 미리 만들어 둔 스냅샷을 잘라 반환하고 DB를 조회하지 않는다")
+    void getFrontPage_slicesMaterializedSnapshot() {
+        // given
+        CursorPageResponse<PostCardResponse> page = CursorPageResponse.of(List.of(), 20, null);
+        given(frontPageMaterializer.page(30L, 20)).willReturn(page);
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFrontPage(new FrontPageRequest(30L, null));
+
+        // then
+        assertThat(response).isSameAs(page);
+        then(postQueryRepository).shouldHaveNoInteractions();
+    }
+
+    /* ==================== tag ==================== */
+
+    @Test
+    @DisplayName("tagIds가 있으면 posting list 병합 결과 중 삭제되지 않은 게시글로 페이지를 채운다")
+    void getFeed_withTagIds_fillsPageFromMergedPostingLists() {
+        // given
+        given(postTagRepository.findPostIdsByTagIdBefore(1L, Long.MAX_VALUE, Limit.of(3))).willReturn(List.of(30L, 20L));
+        given(postTagRepository.findPostIdsByTagIdBefore(2L, Long.MAX_VALUE, Limit.of(3))).willReturn(List.of(20L, 10L));
+        // 20번 게시글은 삭제되어 조회되지 않는다.
+        given(postQueryRepository.findCardsByIds(List.of(30L, 20L), null)).willReturn(List.of(row(30L)));
+        given(postQueryRepository.findCardsByIds(List.of(10L), null)).willReturn(List.of(row(10L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(
+                new PostFeedRequest(null, null, 2, null, List.of(1L, 2L), TagMatchMode.ANY));
+
+        // then
+        assertThat(response.items()).extracting(PostCardResponse::id).containsExactly(30L, 10L);
+        assertThat(response.nextCursorId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("tagIds와 category가 함께 오면 카테고리 조건으로 후보를 조회한다")
+    void getFeed_withTagIdsAndCategory_filtersCategory() {
+        // given
+        given(postTagRepository.findPostIdsByTagIdBefore(1L, Long.MAX_VALUE, Limit.of(21))).willReturn(List.of(30L, 20L));
+        given(postQueryRepository.findCardsByIds(List.of(30L, 20L), PostCategory.TECH)).willReturn(List.of(row(30L)));
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(
+                new PostFeedRequest(null, null, 20, PostCategory.TECH, List.of(1L), TagMatchMode.ALL));
+
+        // then
+        assertThat(response.items()).extracting(PostCardResponse::id).containsExactly(30L);
+        then(postQueryRepository).should(never()).findLatestCards(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카테고리로 후보가 대부분 걸러지면 스캔 상한에서 멈추고 훑은 위치부터 이어 읽을 커서를 내려준다")
+    void getFeed_withSelectiveCategory_stopsAtScanLimit() {
+        // given
+        ReflectionTestUtils.setField(postQueryService, "tagFeedMaxScan", 4);
+        given(postTagRepository.findPostIdsByTagIdBefore(1L, Long.MAX_VALUE, Limit.of(3))).willReturn(List.of(90L, 80L, 70L));
+        given(postTagRepository.findPostIdsByTagIdBefore(1L, 70L, Limit.of(3))).willReturn(List.of(60L, 50L, 40L));
+        given(postQueryRepository.findCardsByIds(anyList(), eq(PostCategory.TECH))).willReturn(List.of());
+
+        // when
+        CursorPageResponse<PostCardResponse> response = postQueryService.getFeed(
+                new PostFeedRequest(null, null, 2, PostCategory.TECH, List.of(1L), TagMatchMode.ANY));
+
+        // then
+        assertThat(response.items()).isEmpty();
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursorId()).isEqualTo(60L);
+        then(postQueryRepository).should(times(2)).findCardsByIds(anyList(), eq(PostCategory.TECH));
+    }
+
+    private PostCardRow row(Long id) {
+        return new PostCardRow(id, 1L, "제목", "내용", PostCategory.FOOD, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
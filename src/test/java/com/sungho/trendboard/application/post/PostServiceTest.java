@@ -4,9 +4,11 @@ import com.sungho.trendboard.application.post.dto.CreatePostRequest;
 import com.sungho.trendboard.application.post.dto.CreatePostResponse;
 import com.sungho.trendboard.application.post.dto.UpdatePostRequest;
 import com.sungho.trendboard.application.post.dto.UpdatePostResponse;
+import com.sungho.trendboard.application.tag.TagCatalog;
 import com.sungho.trendboard.domain.MemberRole;
 import com.sungho.trendboard.domain.Post;
 import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.PostTagDiff;
 import com.sungho.trendboard.domain.Tag;
 import com.sungho.trendboard.global.domain.CurrentUser;
 import com.sungho.trendboard.global.exception.BusinessException;
@@ -20,7 +22,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -45,6 +52,12 @@ class PostServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /* ==================== createPost ==================== */
 
     @Test
@@ -64,6 +77,9 @@ class PostServiceTest {
 
         // then
         then(postRepository).should(times(1)).save(any(Post.class));
+        then(eventPublisher).should(times(1)).publishEvent(any(PostCreatedEvent.class));
+        then(eventPublisher).should(times(1)).publishEvent(new HashtagsAddedEvent(List.of("브런치")));
+        then(eventPublisher).should(never()).publishEvent(any(PostTagsChangedEvent.class));
 
         assertThat(response.memberId()).isEqualTo(10L);
         assertThat(response.title()).isEqualTo("지라 시나리오1 제목");
@@ -85,14 +101,15 @@ class PostServiceTest {
         Tag tag2 = mock(Tag.class);
         given(tag1.getId()).willReturn(1L);
         given(tag2.getId()).willReturn(2L);
-        given(tagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(tag1, tag2));
+        given(tagRepository.getReferenceById(1L)).willReturn(tag1);
+        given(tagRepository.getReferenceById(2L)).willReturn(tag2);
         given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         CreatePostResponse response = postService.createPost(advertiser, request);
 
         // then
-        then(tagRepository).should(times(1)).findAllById(List.of(1L, 2L));
+        then(tagCatalog).should(times(1)).validateExists(List.of(1L, 2L));
         then(postRepository).should(times(1)).save(any(Post.class));
         assertThat(response.tagIds()).containsExactly(1L, 2L);
     }
@@ -105,8 +122,8 @@ class PostServiceTest {
         CreatePostRequest request = new CreatePostRequest(
                 "태그 검증 제목", "태그 검증 내용", PostCategory.FOOD, List.of(1L, 2L), List.of("브런치")
         );
-        Tag tag1 = mock(Tag.class);
-        given(tagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(tag1));
+        willThrow(new BusinessException(PostErrorCode.TAG_NOT_FOUND))
+                .given(tagCatalog).validateExists(List.of(1L, 2L));
 
         // when & then
         assertThatThrownBy(() -> postService.createPost(advertiser, request))
@@ -117,6 +134,53 @@ class PostServiceTest {
         then(postRepository).should(never()).save(any(Post.class));
     }
 
+    @Test
+    @DisplayName("검증 뒤 삭제된 태그로 FK 위반이 나면 TAG_NOT_FOUND로 바꾸고 태그 카탈로그 스냅샷을 버린다")
+    void createPost_fail_whenTagDeletedAfterValidation() {
+        // given
+        CurrentUser advertiser = new CurrentUser(10L, MemberRole.ADVERTISER);
+        CreatePostRequest request = new CreatePostRequest(
+                "태그 삭제 제목", "태그 삭제 내용", PostCategory.FOOD, List.of(1L), List.of()
+        );
+        Tag tag = mock(Tag.class);
+        given(tag.getId()).willReturn(1L);
+        given(tagRepository.getReferenceById(1L)).willReturn(tag);
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new DataIntegrityViolationException("fk", new ConstraintViolationException(
+                "fk", new SQLException("fk"), "insert into post_tag", "fk_post_tag_tag")))
+                .given(postRepository).flush();
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(advertiser, request))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(PostErrorCode.TAG_NOT_FOUND);
+        then(tagCatalog).should(times(1)).invalidate();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("태그 FK가 아닌 무결성 위반은 그대로 전파한다")
+    void createPost_rethrows_whenOtherIntegrityViolation() {
+        // given
+        CurrentUser advertiser = new CurrentUser(10L, MemberRole.ADVERTISER);
+        CreatePostRequest request = new CreatePostRequest(
+                "회원 없음 제목", "회원 없음 내용", PostCategory.FOOD, List.of(1L), List.of()
+        );
+        Tag tag = mock(Tag.class);
+        given(tag.getId()).willReturn(1L);
+        given(tagRepository.getReferenceById(1L)).willReturn(tag);
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new DataIntegrityViolationException("fk", new ConstraintViolationException(
+                "fk", new SQLException("fk"), "insert into post", "fk_post_member")))
+                .given(postRepository).flush();
+
+        // when & then
+        assertThatThrownBy(() -> postService.createPost(advertiser, request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        then(tagCatalog).should(never()).invalidate();
+    }
+
     @Test
     @DisplayName("태그 ID가 중복되어도 중복 제거 후 정상 생성된다")
     void createPost_success_whenTagIdsDuplicated() {
@@ -130,14 +194,15 @@ class PostServiceTest {
         Tag tag2 = mock(Tag.class);
         given(tag1.getId()).willReturn(1L);
         given(tag2.getId()).willReturn(2L);
-        given(tagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(tag1, tag2));
+        given(tagRepository.getReferenceById(1L)).willReturn(tag1);
+        given(tagRepository.getReferenceById(2L)).willReturn(tag2);
         given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         CreatePostResponse response = postService.createPost(advertiser, request);
 
         // then
-        then(tagRepository).should(times(1)).findAllById(List.of(1L, 2L));
+        then(tagCatalog).should(times(1)).validateExists(List.of(1L, 2L));
         then(postRepository).should(times(1)).save(any(Post.class));
         assertThat(response.tagIds()).containsExactly(1L, 2L);
     }
@@ -197,7 +262,7 @@ class PostServiceTest {
                 .isEqualTo(CommonErrorCode.FORBIDDEN);
 
         then(postRepository).should(never()).save(any(Post.class));
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
     }
 
     /* ==================== updatePost ==================== */
@@ -223,7 +288,8 @@ class PostServiceTest {
         Tag tag2 = mockTag(2L);
 
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(tagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(tag1, tag2));
+        given(tagRepository.getReferenceById(1L)).willReturn(tag1);
+        given(tagRepository.getReferenceById(2L)).willReturn(tag2);
 
         // when
         UpdatePostResponse response = postService.updatePost(1L, author, request);
@@ -235,6 +301,35 @@ class PostServiceTest {
         assertThat(response.category()).isEqualTo(PostCategory.BEAUTY);
         assertThat(response.tagIds()).containsExactly(1L, 2L);
         assertThat(response.hashtags()).containsExactly("뷰티");
+        then(eventPublisher).should(times(1)).publishEvent(any(PostChangedEvent.class));
+        then(eventPublisher).should(times(1)).publishEvent(new HashtagsAddedEvent(List.of("뷰티")));
+        then(eventPublisher).should(times(1)).publishEvent(
+                new PostTagsChangedEvent(post.getId(), new PostTagDiff(List.of(1L, 2L), List.of(99L))));
+    }
+
+    @Test
+    @DisplayName("수정 시 기존에 있던 해시태그는 새로 붙은 해시태그 이벤트에 포함하지 않는다")
+    void update_publishesOnlyNewlyAddedHashtags() {
+        // given
+        CurrentUser author = new CurrentUser(10L, MemberRole.ADVERTISER);
+        UpdatePostRequest request = new UpdatePostRequest(
+                "수정 제목", "수정 내용", PostCategory.FOOD, null, List.of("기존해시태그")
+        );
+        Post post = Post.builder()
+                .memberId(10L)
+                .title("기존 제목")
+                .content("기존 내용")
+                .category(PostCategory.FOOD)
+                .hashtags(List.of("기존해시태그"))
+                .build();
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+
+        // when
+        postService.updatePost(1L, author, request);
+
+        // then
+        then(eventPublisher).should(never()).publishEvent(any(HashtagsAddedEvent.class));
+        then(eventPublisher).should(never()).publishEvent(any(PostTagsChangedEvent.class));
     }
 
     @Test
@@ -265,7 +360,7 @@ class PostServiceTest {
         assertThat(response.tagIds()).isEmpty();
         assertThat(response.hashtags()).containsExactly("뷰티");
         // tagIds가 비어 있으므로 태그 조회는 발생하지 않아야 한다.
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
     }
 
     @Test
@@ -295,7 +390,7 @@ class PostServiceTest {
         assertThat(response.tagIds()).isEmpty();
         assertThat(response.hashtags()).containsExactly("뷰티");
         // 태그 조회가 필요 없는 경로인지 함께 검증한다.
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
     }
 
     @Test
@@ -317,7 +412,7 @@ class PostServiceTest {
         Tag tag1 = mockTag(1L);
 
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(tagRepository.findAllById(List.of(1L))).willReturn(List.of(tag1));
+        given(tagRepository.getReferenceById(1L)).willReturn(tag1);
 
         // when
         UpdatePostResponse response = postService.updatePost(1L, author, request);
@@ -346,7 +441,7 @@ class PostServiceTest {
         Tag tag1 = mockTag(1L);
 
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(tagRepository.findAllById(List.of(1L))).willReturn(List.of(tag1));
+        given(tagRepository.getReferenceById(1L)).willReturn(tag1);
 
         // when
         UpdatePostResponse response = postService.updatePost(1L, author, request);
@@ -373,7 +468,7 @@ class PostServiceTest {
                 .isEqualTo(PostErrorCode.POST_NOT_FOUND);
 
         // 게시글 조회에서 실패했으므로 태그 조회로 진행되면 안 된다.
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
     }
 
     @Test
@@ -400,7 +495,8 @@ class PostServiceTest {
                 .isEqualTo(CommonErrorCode.FORBIDDEN);
 
         // 소유자 검증에서 실패하면 하위 태그 조회는 실행되지 않아야 한다.
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
+        then(eventPublisher).should(never()).publishEvent(any());
     }
 
     @Test
@@ -420,7 +516,7 @@ class PostServiceTest {
 
         // 역할 검증에서 조기 실패해야 하므로 저장소 접근 자체가 없어야 한다.
         then(postRepository).should(never()).findById(any());
-        then(tagRepository).should(never()).findAllById(any());
+        then(tagCatalog).should(never()).validateExists(any());
     }
 
     @Test
@@ -438,10 +534,9 @@ class PostServiceTest {
                 .category(PostCategory.FOOD)
                 .hashtags(List.of("기존해시태그"))
                 .build();
-        Tag tag1 = mock(Tag.class);
-
         given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(tagRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(tag1));
+        willThrow(new BusinessException(PostErrorCode.TAG_NOT_FOUND))
+                .given(tagCatalog).validateExists(List.of(1L, 2L));
 
         // when & then
         assertThatThrownBy(() -> postService.updatePost(1L, author, request))
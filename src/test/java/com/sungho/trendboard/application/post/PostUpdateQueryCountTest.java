@@ -0,0 +1,109 @@
+package com.sungho.trendboard.application.post;
+
+import com.sungho.trendboard.application.post.dto.UpdatePostRequest;
+import com.sungho.trendboard.domain.MemberRole;
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.TagRepository;
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import com.sungho.trendboard.support.QueryCountInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sungho.trendboard.support.QueryCountInspector")
+class PostUpdateQueryCountTest extends MySqlContainerSupport {
+
+    private static final CurrentUser AUTHOR = new CurrentUser(1L, MemberRole.ADVERTISER);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private List<Tag> tags;
+    private List<String> hashtags;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        tagRepository.deleteAll();
+
+        tags = tagRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Tag.create("수정태그" + i))
+                .toList());
+        hashtags = IntStream.range(0, 10)
+                .mapToObj(i -> "해시태그" + i)
+                .toList();
+        Post post = Post.builder()
+                .memberId(AUTHOR.memberId())
+                .title("제목")
+                .content("내용")
+                .category(PostCategory.FOOD)
+                .hashtags(hashtags)
+                .build();
+        tags.forEach(post::addPostTag);
+        postId = postRepository.save(post).getId();
+    }
+
+    @Test
+    @DisplayName("내용과 태그/해시태그가 그대로인 수정은 INSERT/UPDATE/DELETE를 하나도 실행하지 않는다")
+    void updatePost_withoutChanges_executesNoWrites() {
+        // given
+        UpdatePostRequest request = new UpdatePostRequest("제목", "내용", PostCategory.FOOD, tagIds(), hashtags);
+        QueryCountInspector.clear();
+
+        // when
+        postService.updatePost(postId, AUTHOR, request);
+
+        // then
+        assertThat(writeStatements()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해시태그 하나만 바꾸면 그 해시태그 행만 INSERT/DELETE 하고 나머지 행은 다시 쓰지 않는다")
+    void updatePost_withOneHashtagChanged_writesOnlyDifference() {
+        // given
+        List<String> changed = IntStream.range(1, 11)
+                .mapToObj(i -> "해시태그" + i)
+                .toList();
+        UpdatePostRequest request = new UpdatePostRequest("제목", "내용", PostCategory.FOOD, tagIds(), changed);
+        QueryCountInspector.clear();
+
+        // when
+        postService.updatePost(postId, AUTHOR, request);
+
+        // then
+        List<String> writes = writeStatements();
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into post_hashtag")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("delete from post_hashtag")).hasSize(1);
+        assertThat(writes).noneMatch(sql -> sql.contains("post_tag"));
+    }
+
+    private List<Long> tagIds() {
+        return tags.stream().map(Tag::getId).toList();
+    }
+
+    private static List<String> writeStatements() {
+        return QueryCountInspector.statements().stream()
+                .map(sql -> sql.trim().toLowerCase())
+                .filter(sql -> sql.startsWith("insert") || sql.startsWith("update") || sql.startsWith("delete"))
+                .toList();
+    }
+}
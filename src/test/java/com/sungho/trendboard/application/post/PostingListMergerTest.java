@@ -0,0 +1,136 @@
+package com.sungho.trendboard.application.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListMergerTest {
+
+    @Test
+    @DisplayName("ANY는 여러 태그의 post id를 중복 없이 내림차순으로 병합한다")
+    void merge_any_returnsDistinctUnionInDescendingOrder() {
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, List.of(90L, 70L, 50L, 10L),
+                2L, List.of(80L, 70L, 20L)
+        ));
+
+        List<Long> merged = drain(PostingListMerger.merge(List.of(1L, 2L), TagMatchMode.ANY, null, 2, loader));
+
+        assertThat(merged).containsExactly(90L, 80L, 70L, 50L, 20L, 10L);
+    }
+
+    @Test
+    @DisplayName("ALL은 모든 태그에 공통인 post id만 내림차순으로 반환한다")
+    void merge_all_returnsIntersectionInDescendingOrder() {
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, List.of(90L, 70L, 50L, 30L, 10L),
+                2L, List.of(80L, 70L, 30L, 20L),
+                3L, List.of(70L, 60L, 30L)
+        ));
+
+        List<Long> merged = drain(PostingListMerger.merge(List.of(1L, 2L, 3L), TagMatchMode.ALL, null, 2, loader));
+
+        assertThat(merged).containsExactly(70L, 30L);
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 미만의 id부터 병합한다")
+    void merge_withCursor_startsBelowCursor() {
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, List.of(90L, 70L, 50L),
+                2L, List.of(80L, 60L)
+        ));
+
+        List<Long> merged = drain(PostingListMerger.merge(List.of(1L, 2L), TagMatchMode.ANY, 70L, 10, loader));
+
+        assertThat(merged).containsExactly(60L, 50L);
+    }
+
+    @Test
+    @DisplayName("필요한 만큼만 읽고 멈추면 이후 chunk는 조회하지 않는다")
+    void merge_stopsReadingWhenCallerStops() {
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, List.of(100L, 90L, 80L, 70L, 60L, 50L),
+                2L, List.of(95L, 85L, 75L, 65L, 55L, 45L)
+        ));
+
+        PrimitiveIterator.OfLong iterator = PostingListMerger.merge(List.of(1L, 2L), TagMatchMode.ANY, null, 2, loader);
+        List<Long> firstPage = List.of(iterator.nextLong(), iterator.nextLong(), iterator.nextLong());
+
+        assertThat(firstPage).containsExactly(100L, 95L, 90L);
+        assertThat(loader.calls).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("ALL은 앞선 chunk 전체가 목표보다 크면 훑지 않고 목표 id로 바로 seek 한다")
+    void merge_all_seeksPastSkippedChunks() {
+        List<Long> dense = new ArrayList<>();
+        for (long id = 1_000; id > 100; id--) {
+            dense.add(id);
+        }
+        dense.add(50L);
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, dense,
+                2L, List.of(50L)
+        ));
+
+        List<Long> merged = drain(PostingListMerger.merge(List.of(1L, 2L), TagMatchMode.ALL, null, 10, loader));
+
+        assertThat(merged).containsExactly(50L);
+        // 태그1은 첫 chunk 이후 목표(50) 직전부터 다시 읽으므로 900개를 chunk 단위로 훑지 않는다.
+        assertThat(loader.calls).hasSizeLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 태그라도 비어 있으면 ALL 결과는 비어 있다")
+    void merge_all_withEmptyList_returnsEmpty() {
+        FakeLoader loader = new FakeLoader(Map.of(
+                1L, List.of(90L, 70L),
+                2L, List.of()
+        ));
+
+        List<Long> merged = drain(PostingListMerger.merge(List.of(1L, 2L), TagMatchMode.ALL, null, 10, loader));
+
+        assertThat(merged).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tagIds가 비어 있으면 예외를 던진다")
+    void merge_withoutTagIds_throwsException() {
+        assertThatThrownBy(() -> PostingListMerger.merge(List.of(), TagMatchMode.ANY, null, 10, new FakeLoader(Map.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("tagIds는 필수입니다.");
+    }
+
+    private List<Long> drain(PrimitiveIterator.OfLong iterator) {
+        List<Long> values = new ArrayList<>();
+        iterator.forEachRemaining((long value) -> values.add(value));
+        return values;
+    }
+
+    private static class FakeLoader implements PostingListMerger.ChunkLoader {
+
+        private final Map<Long, List<Long>> postingLists;
+        private final List<String> calls = new ArrayList<>();
+
+        private FakeLoader(Map<Long, List<Long>> postingLists) {
+            this.postingLists = postingLists;
+        }
+
+        @Override
+        public List<Long> load(Long tagId, long beforeId, int limit) {
+            calls.add(tagId + "<" + beforeId);
+            return postingLists.getOrDefault(tagId, List.of()).stream()
+                    .filter(id -> id < beforeId)
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
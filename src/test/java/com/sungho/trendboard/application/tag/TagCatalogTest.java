@@ -0,0 +1,210 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.global.exception.BusinessException;
+import com.sungho.trendboard.global.exception.PostErrorCode;
+import com.sungho.trendboard.infra.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TagCatalogTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private TagCatalog tagCatalog;
+
+    @BeforeEach
+    void setUp() {
+        tagCatalog = new TagCatalog(tagRepository, Duration.ofSeconds(1), nanoClock::get);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 태그 id는 DB 조회 없이 검증을 통과한다")
+    void validateExists_whenAllInSnapshot_doesNotQueryDatabase() {
+        // given
+        given(tagRepository.findAll()).willReturn(List.of(tag(30L, "서울"), tag(10L, "맛집"), tag(20L, "카페")));
+
+        // when
+        tagCatalog.validateExists(List.of(10L, 30L));
+        tagCatalog.validateExists(List.of(20L));
+
+        // then
+        then(tagRepository).should(times(1)).findAll();
+        then(tagRepository).should(never()).countByIdIn(any());
+        assertThat(tagCatalog.findName(20L)).contains("카페");
+        assertThat(tagCatalog.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없고 DB에도 없는 태그 id가 있으면 TAG_NOT_FOUND 예외를 던진다")
+    void validateExists_whenMissing_throwsTagNotFound() {
+        // given
+        given(tagRepository.findAll()).willReturn(List.of(tag(10L, "맛집")));
+        given(tagRepository.countByIdIn(List.of(99L))).willReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> tagCatalog.validateExists(List.of(10L, 99L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(PostErrorCode.TAG_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 추가된 태그는 DB로 확인한 뒤 스냅샷을 교체한다")
+    void validateExists_whenAddedAfterSnapshot_refreshes() {
+        // given
+        given(tagRepository.findAll())
+                .willReturn(List.of(tag(10L, "맛집")))
+                .willReturn(List.of(tag(10L, "맛집"), tag(40L, "신규")));
+        given(tagRepository.countByIdIn(List.of(40L))).willReturn(1L);
+
+        // when & then
+        assertThatCode(() -> tagCatalog.validateExists(List.of(40L))).doesNotThrowAnyException();
+        assertThat(tagCatalog.contains(40L)).isTrue();
+        then(tagRepository).should(times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("여러 태그 id 중 존재하지 않는 것만 골라내고, 스냅샷에 없던 id가 있으면 한 번만 다시 읽는다")
+    void findMissing_returnsOnlyUnknownIds() {
+        // given
+        given(tagRepository.findAll())
+                .willReturn(List.of(tag(10L, "맛집")))
+                .willReturn(List.of(tag(10L, "맛집"), tag(40L, "신규")));
+
+        // when
+        Set<Long> missing = tagCatalog.findMissing(List.of(10L, 40L, 99L, 98L));
+
+        // then
+        assertThat(missing).containsExactlyInAnyOrder(99L, 98L);
+        assertThat(tagCatalog.findMissing(List.of(10L, 40L))).isEmpty();
+        then(tagRepository).should(times(2)).findAll();
+        then(tagRepository).should(never()).countByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("없는 태그 id가 계속 들어와도 재적재 간격 안에서는 스냅샷으로 답하고 간격이 지나면 한 번 다시 읽는다")
+    void findMissing_limitsReloadsTriggeredByMisses() {
+        // given
+        given(tagRepository.findAll()).willReturn(List.of(tag(10L, "맛집")));
+        tagCatalog.findMissing(List.of(99L));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(tagCatalog.findMissing(List.of(100L + i))).containsExactly(100L + i);
+        }
+
+        // then
+        then(tagRepository).should(times(2)).findAll();
+
+        nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+        tagCatalog.findMissing(List.of(99L));
+        then(tagRepository).should(times(3)).findAll();
+    }
+
+    @Test
+    @DisplayName("동시에 누락된 요청은 진행 중인 재적재 하나를 기다렸다가 새 스냅샷으로 답한다")
+    void findMissing_concurrentMisses_shareOneReload() throws Exception {
+        // given
+        given(tagRepository.findAll()).willReturn(List.of(tag(10L, "맛집")));
+        tagCatalog.contains(10L);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(tagRepository.findAll()).willAnswer(invocation -> {
+            reloading.countDown();
+            release.await();
+            return List.of(tag(10L, "맛집"), tag(40L, "신규"));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Set<Long>> first = executor.submit(() -> tagCatalog.findMissing(List.of(40L)));
+            reloading.await();
+            List<Future<Set<Long>>> waiting = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                waiting.add(executor.submit(() -> tagCatalog.findMissing(List.of(40L))));
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+            for (Future<Set<Long>> future : waiting) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEmpty();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        then(tagRepository).should(times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("주기적 갱신은 삭제된 태그를 스냅샷에서 제거한다")
+    void refresh_removesDeletedTags() {
+        // given
+        given(tagRepository.findAll())
+                .willReturn(List.of(tag(10L, "맛집"), tag(20L, "카페")))
+                .willReturn(List.of(tag(10L, "맛집")));
+        assertThat(tagCatalog.contains(20L)).isTrue();
+
+        // when
+        tagCatalog.refresh();
+
+        // then
+        assertThat(tagCatalog.contains(20L)).isFalse();
+        assertThat(tagCatalog.findName(20L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 버리면 다음 조회 때 DB에서 다시 읽어 삭제된 태그를 거른다")
+    void invalidate_reloadsOnNextLookup() {
+        // given
+        given(tagRepository.findAll())
+                .willReturn(List.of(tag(10L, "맛집"), tag(20L, "카페")))
+                .willReturn(List.of(tag(10L, "맛집")));
+        assertThat(tagCatalog.contains(20L)).isTrue();
+
+        // when
+        tagCatalog.invalidate();
+
+        // then
+        then(tagRepository).should(times(1)).findAll();
+        assertThat(tagCatalog.contains(20L)).isFalse();
+        then(tagRepository).should(times(2)).findAll();
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = Tag.create(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
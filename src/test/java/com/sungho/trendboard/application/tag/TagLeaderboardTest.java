@@ -0,0 +1,53 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.application.tag.TagLeaderboard.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagLeaderboardTest {
+
+    @Test
+    @DisplayName("사용 수가 많은 순, 같으면 태그 id 오름차순으로 앞에서부터 limit개를 반환한다")
+    void top_ordersByCountThenTagId() {
+        // given
+        TagLeaderboard leaderboard = new TagLeaderboard();
+        leaderboard.reset(Map.of(1L, 3L, 2L, 5L, 3L, 3L, 4L, 1L));
+
+        // when & then
+        assertThat(leaderboard.top(3, tagId -> true))
+                .containsExactly(new Entry(2L, 5L), new Entry(1L, 3L), new Entry(3L, 3L));
+    }
+
+    @Test
+    @DisplayName("증감하면 순위가 바로 바뀌고 0이 된 태그는 순위에서 빠진다")
+    void add_reordersAndDropsZero() {
+        // given
+        TagLeaderboard leaderboard = new TagLeaderboard();
+        leaderboard.reset(Map.of(1L, 2L, 2L, 1L));
+
+        // when
+        leaderboard.add(2L, 2);
+        leaderboard.add(1L, -2);
+        leaderboard.add(3L, 1);
+
+        // then
+        assertThat(leaderboard.top(10, tagId -> true)).containsExactly(new Entry(2L, 3L), new Entry(3L, 1L));
+        assertThat(leaderboard.count(1L)).isZero();
+        assertThat(leaderboard.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제외한 태그는 건너뛰고 다음 순위로 limit개를 채운다")
+    void top_skipsExcludedTags() {
+        // given
+        TagLeaderboard leaderboard = new TagLeaderboard();
+        leaderboard.reset(Map.of(1L, 3L, 2L, 2L, 3L, 1L));
+
+        // when & then
+        assertThat(leaderboard.top(2, tagId -> tagId != 1L)).containsExactly(new Entry(2L, 2L), new Entry(3L, 1L));
+    }
+}
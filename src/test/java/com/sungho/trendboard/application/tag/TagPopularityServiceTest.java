@@ -0,0 +1,176 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.application.post.PostTagsChangedEvent;
+import com.sungho.trendboard.application.tag.dto.PopularTagResponse;
+import com.sungho.trendboard.application.tag.dto.PopularTagsRequest;
+import com.sungho.trendboard.domain.PostTagDiff;
+import com.sungho.trendboard.domain.TagStat;
+import com.sungho.trendboard.infra.repository.TagStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TagPopularityServiceTest {
+
+    @InjectMocks
+    private TagPopularityService tagPopularityService;
+
+    @Mock
+    private TagStatRepository tagStatRepository;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(tagCatalog.contains(anyLong())).thenReturn(true);
+        lenient().when(tagCatalog.findName(anyLong())).thenAnswer(invocation -> Optional.of("태그" + invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("저장된 집계로 적재한 뒤 게시글 태그 변경분을 바로 순위에 반영한다")
+    void onPostTagsChanged_updatesRankingIncrementally() {
+        // given
+        List<TagStat> stats = List.of(stat(1L, 5L), stat(2L, 4L));
+        given(tagStatRepository.findAll()).willReturn(stats);
+        tagPopularityService.load();
+
+        // when
+        tagPopularityService.onPostTagsChanged(new PostTagsChangedEvent(100L, new PostTagDiff(List.of(2L, 3L), List.of(1L))));
+        tagPopularityService.onPostTagsChanged(new PostTagsChangedEvent(101L, PostTagDiff.added(List.of(2L))));
+
+        // then
+        assertThat(tagPopularityService.getPopular(new PopularTagsRequest(2))).containsExactly(
+                new PopularTagResponse(2L, "태그2", 6L),
+                new PopularTagResponse(1L, "태그1", 4L)
+        );
+    }
+
+    @Test
+    @DisplayName("기동 시 tag_stat에 없는 태그를 post_tag 집계로 채운 뒤 읽어 들인다")
+    void load_seedsMissingTagsBeforeReading() {
+        // given
+        List<TagStat> stats = List.of(stat(1L, 3L));
+        given(tagStatRepository.findAll()).willReturn(stats);
+
+        // when
+        tagPopularityService.load();
+
+        // then
+        InOrder inOrder = inOrder(jdbcTemplate, tagStatRepository);
+        inOrder.verify(jdbcTemplate).update(contains("FROM post_tag"), any(Object[].class));
+        inOrder.verify(tagStatRepository).findAll();
+        then(transactionManager).should().commit(any());
+    }
+
+    @Test
+    @DisplayName("카탈로그에서 사라진 태그는 건너뛴다")
+    void getPopular_skipsDeletedTags() {
+        // given
+        List<TagStat> stats = List.of(stat(1L, 5L), stat(2L, 4L));
+        given(tagStatRepository.findAll()).willReturn(stats);
+        given(tagCatalog.contains(1L)).willReturn(false);
+        tagPopularityService.load();
+
+        // when & then
+        assertThat(tagPopularityService.getPopular(new PopularTagsRequest(null)))
+                .containsExactly(new PopularTagResponse(2L, "태그2", 4L));
+    }
+
+    @Test
+    @DisplayName("flush는 누적 증감을 태그 id 순으로 upsert 한 뒤 tag_stat을 다시 읽어 순위를 맞춘다")
+    @SuppressWarnings("unchecked")
+    void flush_upsertsDeltasAndReloads() {
+        // given
+        List<TagStat> loaded = List.of(stat(1L, 1L));
+        List<TagStat> reloaded = List.of(stat(1L, 2L), stat(3L, 1L), stat(7L, 9L));
+        given(tagStatRepository.findAll()).willReturn(loaded).willReturn(reloaded);
+        tagPopularityService.load();
+        tagPopularityService.onPostTagsChanged(new PostTagsChangedEvent(100L, PostTagDiff.added(List.of(3L, 1L))));
+
+        // when
+        tagPopularityService.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).extracting(args -> args[0]).containsExactly(1L, 3L);
+        assertThat(captor.getValue()).extracting(args -> args[1]).containsExactly(1L, 1L);
+        // 다른 노드가 반영한 7번 태그도 다시 읽으면서 순위에 들어온다.
+        assertThat(tagPopularityService.getPopular(new PopularTagsRequest(1)))
+                .containsExactly(new PopularTagResponse(7L, "태그7", 9L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 트랜잭션을 롤백하고 증감을 되돌려 다음 flush에서 다시 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_onFailure_keepsDeltas() {
+        // given
+        given(tagStatRepository.findAll()).willReturn(List.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("lock wait timeout"))
+                .willReturn(new int[]{1});
+        tagPopularityService.onPostTagsChanged(new PostTagsChangedEvent(100L, PostTagDiff.added(List.of(1L))));
+
+        // when
+        tagPopularityService.flush();
+        tagPopularityService.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(args -> args[0]).containsExactly(1L);
+        then(transactionManager).should().rollback(any());
+        then(transactionManager).should().commit(any());
+    }
+
+    @Test
+    @DisplayName("누적 증감이 없으면 upsert 하지 않는다")
+    void flush_withoutDeltas_skipsUpsert() {
+        // when
+        tagPopularityService.flush();
+
+        // then
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+
+    private TagStat stat(Long tagId, long postCount) {
+        TagStat stat = mock(TagStat.class);
+        given(stat.getTagId()).willReturn(tagId);
+        given(stat.getPostCount()).willReturn(postCount);
+        return stat;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sungho.trendboard.application.tag;
+
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.domain.TagStat;
+import com.sungho.trendboard.infra.repository.PostRepository;
+import com.sungho.trendboard.infra.repository.TagRepository;
+import com.sungho.trendboard.infra.repository.TagStatRepository;
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class TagStatSeedTest extends MySqlContainerSupport {
+
+    @Autowired
+    private TagPopularityService tagPopularityService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagStatRepository tagStatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tag_stat");
+        postRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기동 시 tag_stat에 없는 태그는 기존 post_tag를 집계해 채우고 이미 있는 행은 그대로 둔다")
+    void load_seedsMissingTagsFromPostTag() {
+        // given
+        List<Tag> tags = tagRepository.saveAll(List.of(Tag.create("시드A"), Tag.create("시드B")));
+        Tag tagA = tags.get(0);
+        Tag tagB = tags.get(1);
+        savePost(tagA, tagB);
+        savePost(tagA);
+        jdbcTemplate.update("INSERT INTO tag_stat (tag_id, post_count, updated_at) VALUES (?, 7, NOW(6))", tagA.getId());
+
+        // when
+        tagPopularityService.load();
+
+        // then
+        assertThat(tagStatRepository.findAll())
+                .extracting(TagStat::getTagId, TagStat::getPostCount)
+                .containsExactlyInAnyOrder(tuple(tagA.getId(), 7L), tuple(tagB.getId(), 1L));
+    }
+
+    private void savePost(Tag... tags) {
+        Post post = Post.builder()
+                .memberId(1L)
+                .title("제목")
+                .content("내용")
+                .category(PostCategory.FOOD)
+                .build();
+        for (Tag tag : tags) {
+            post.addPostTag(tag);
+        }
+        postRepository.save(post);
+    }
+}
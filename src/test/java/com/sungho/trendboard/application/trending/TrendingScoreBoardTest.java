@@ -0,0 +1,188 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.application.trending.TrendingScoreBoard.TrendingEntry;
+import com.sungho.trendboard.domain.PostCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingScoreBoardTest {
+
+    private static final long HALF_LIFE = Duration.ofHours(6).toMillis();
+    private static final long T0 = 1_800_000_000_000L;
+
+    @Test
+    @DisplayName("점수는 반감기마다 절반으로 줄고, 최근 이벤트가 같은 가중치의 과거 이벤트보다 높다")
+    void top_decaysScoresByHalfLife() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+        board.add(1L, PostCategory.FOOD, 4, T0);
+        board.add(2L, PostCategory.FOOD, 4, T0 + HALF_LIFE);
+
+        // when
+        List<TrendingEntry> top = board.top(null, 10, T0 + HALF_LIFE);
+
+        // then
+        assertThat(top).extracting(TrendingEntry::postId).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("반감기가 여러 번 지난 뒤의 좋아요 취소는 그 좋아요가 더한 만큼만 빼서 작성 점수는 남는다")
+    void addLike_unlikeAfterHalfLives_subtractsOriginalContribution() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+        board.add(1L, PostCategory.FOOD, 3, T0);
+        board.add(2L, PostCategory.FOOD, 3, T0);
+        board.addLike(1L, PostCategory.FOOD, 1, T0);
+
+        // when: 3 반감기 뒤에 T0의 좋아요를 취소
+        board.addLike(1L, PostCategory.FOOD, -1, T0);
+
+        // then
+        long now = T0 + 3 * HALF_LIFE;
+        List<TrendingEntry> top = board.top(null, 10, now);
+        assertThat(top).extracting(TrendingEntry::postId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(top).extracting(TrendingEntry::score).allSatisfy(score -> assertThat(score).isCloseTo(3.0 / 8, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("시각을 모르는 좋아요를 나중 시각으로 취소해도 좋아요 몫까지만 빠지고 작성 점수는 남는다")
+    void addLike_unlikeBeyondLikeScore_keepsPostScore() {
+        // given: 재시작 후 적재처럼 좋아요를 작성 시각으로 넣었다
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+        board.add(1L, PostCategory.FOOD, 3, T0);
+        board.addLike(1L, PostCategory.FOOD, 1, T0);
+
+        // when
+        board.addLike(1L, PostCategory.FOOD, -1, T0 + 3 * HALF_LIFE);
+
+        // then
+        assertThat(board.top(null, 10, T0).get(0).score()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("카테고리별/전체 순위를 K개로 유지하고 더 높은 점수가 들어오면 최하위를 밀어낸다")
+    void add_keepsBoundedTopKPerCategoryAndGlobal() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 2, T0);
+        board.add(1L, PostCategory.FOOD, 1, T0);
+        board.add(2L, PostCategory.FOOD, 2, T0);
+        board.add(3L, PostCategory.TECH, 5, T0);
+
+        // when
+        board.add(4L, PostCategory.FOOD, 3, T0);
+
+        // then
+        assertThat(board.top(PostCategory.FOOD, 10, T0)).extracting(TrendingEntry::postId).containsExactly(4L, 2L);
+        assertThat(board.top(PostCategory.TECH, 10, T0)).extracting(TrendingEntry::postId).containsExactly(3L);
+        assertThat(board.top(null, 10, T0)).extracting(TrendingEntry::postId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Top-K 밖 게시글도 점수를 누적해 두었다가 순위권에 들어오면 반영한다")
+    void add_promotesTrackedPostOutsideTopK() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 1, T0);
+        board.add(1L, PostCategory.FOOD, 3, T0);
+        board.add(2L, PostCategory.FOOD, 2, T0);
+
+        // when
+        board.add(2L, PostCategory.FOOD, 2, T0);
+
+        // then
+        assertThat(board.top(PostCategory.FOOD, 10, T0)).extracting(TrendingEntry::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("순위권 게시글 점수가 내려가면 밖에 있던 더 높은 게시글로 다시 채운다")
+    void add_negativeWeight_refillsFromTrackedPosts() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 1, T0);
+        board.add(1L, PostCategory.FOOD, 3, T0);
+        board.add(2L, PostCategory.FOOD, 2, T0);
+
+        // when
+        board.add(1L, PostCategory.FOOD, -2, T0);
+
+        // then
+        assertThat(board.top(PostCategory.FOOD, 10, T0)).extracting(TrendingEntry::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("추적하지 않던 게시글의 좋아요 취소는 무시한다")
+    void add_negativeWeightForUntrackedPost_isIgnored() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+
+        // when
+        board.add(1L, PostCategory.FOOD, -1, T0);
+
+        // then
+        assertThat(board.trackedCount()).isZero();
+        assertThat(board.top(null, 10, T0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리가 바뀌면 이전 카테고리 순위에서 빠지고 새 카테고리 순위에 들어간다")
+    void changeCategory_movesPostBetweenBoards() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+        board.add(1L, PostCategory.FOOD, 3, T0);
+
+        // when
+        board.changeCategory(1L, PostCategory.TECH);
+
+        // then
+        assertThat(board.top(PostCategory.FOOD, 10, T0)).isEmpty();
+        assertThat(board.top(PostCategory.TECH, 10, T0)).extracting(TrendingEntry::category)
+                .containsExactly(PostCategory.TECH);
+        assertThat(board.top(null, 10, T0)).extracting(TrendingEntry::category).containsExactly(PostCategory.TECH);
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 순위와 현재 점수는 그대로다")
+    void rescale_preservesRankingAndScores() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 10, T0);
+        long now = T0 + 40 * HALF_LIFE;
+        board.add(1L, PostCategory.FOOD, 1, now);
+        board.add(2L, PostCategory.FOOD, 2, now - HALF_LIFE);
+        List<TrendingEntry> before = board.top(null, 10, now);
+
+        // when
+        boolean rescaled = board.rescale(now);
+
+        // then
+        assertThat(rescaled).isTrue();
+        List<TrendingEntry> after = board.top(null, 10, now);
+        assertThat(after).extracting(TrendingEntry::postId).containsExactlyElementsOf(
+                before.stream().map(TrendingEntry::postId).toList());
+        for (int i = 0; i < after.size(); i++) {
+            assertThat(after.get(i).score()).isCloseTo(before.get(i).score(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("감쇠해 기준 점수 아래로 떨어졌고 순위권 밖인 게시글만 추적에서 뺀다")
+    void prune_removesOnlyLowScoringPostsOutsideTopK() {
+        // given
+        TrendingScoreBoard board = new TrendingScoreBoard(HALF_LIFE, 1, T0);
+        board.add(1L, PostCategory.FOOD, 1, T0);
+        board.add(2L, PostCategory.FOOD, 0.5, T0);
+        board.add(3L, PostCategory.TECH, 0.5, T0 + 10 * HALF_LIFE);
+
+        // when
+        int removed = board.prune(0.01, T0 + 10 * HALF_LIFE);
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(board.trackedCount()).isEqualTo(2);
+    }
+}
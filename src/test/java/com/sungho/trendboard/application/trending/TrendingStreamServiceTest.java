@@ -0,0 +1,227 @@
+package com.sungho.trendboard.application.trending;
+
+import com.sungho.trendboard.application.trending.dto.TrendingDeltaResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingPostsRequest;
+import com.sungho.trendboard.application.trending.dto.TrendingRankResponse;
+import com.sungho.trendboard.application.trending.dto.TrendingSnapshotResponse;
+import com.sungho.trendboard.domain.PostCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TrendingStreamServiceTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+    private static final long T0 = 1_800_000_000_000L;
+
+    private final TrendingService trendingService = mock(TrendingService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManualExecutor sender = new ManualExecutor();
+    private final AtomicLong clock = new AtomicLong(T0);
+    private final AtomicReference<List<TrendingPostResponse>> ranking = new AtomicReference<>(List.of());
+    private final Queue<RecordingEmitter> emitters = new ArrayDeque<>();
+
+    private TrendingStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        given(trendingService.getTrending(any(TrendingPostsRequest.class))).willAnswer(invocation -> ranking.get());
+        service = new TrendingStreamService(trendingService, meterRegistry, 20, HALF_LIFE, sender,
+                () -> {
+                    RecordingEmitter emitter = new RecordingEmitter();
+                    emitters.add(emitter);
+                    return emitter;
+                }, clock::get);
+    }
+
+    @Test
+    @DisplayName("구독하면 첫 이벤트로 현재 순위 전체를 받는다")
+    void subscribe_sendsSnapshotFirst() {
+        // given
+        ranking.set(List.of(post(1L, 3.0), post(2L, 1.0)));
+
+        // when
+        RecordingEmitter emitter = subscribe(PostCategory.TECH);
+        sender.runAll();
+
+        // then
+        assertThat(emitter.events).singleElement().isInstanceOf(TrendingSnapshotResponse.class);
+        TrendingSnapshotResponse snapshot = (TrendingSnapshotResponse) emitter.events.get(0);
+        assertThat(snapshot.category()).isEqualTo(PostCategory.TECH);
+        assertThat(snapshot.ranks()).containsExactly(
+                new TrendingRankResponse(1L, 1, 3.0),
+                new TrendingRankResponse(2L, 2, 1.0));
+        assertThat(meterRegistry.get("trending.stream.events").tag("type", "snapshot").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("tick 사이에 점수가 여러 번 바뀌어도 tick마다 변경분 하나만 보낸다")
+    void tick_coalescesChangesWithinTick() {
+        // given
+        ranking.set(List.of(post(1L, 3.0), post(2L, 1.0), post(3L, 0.5)));
+        RecordingEmitter emitter = subscribe(null);
+        sender.runAll();
+
+        // when: 같은 tick 안에서 2번 게시글 점수가 500번 바뀐다
+        for (int i = 1; i <= 500; i++) {
+            ranking.set(List.of(post(2L, 3.0 + i), post(1L, 3.0), post(3L, 0.5)));
+        }
+        service.tick();
+        sender.runAll();
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+        TrendingDeltaResponse delta = (TrendingDeltaResponse) emitter.events.get(1);
+        assertThat(delta.fromSequence()).isEqualTo(((TrendingSnapshotResponse) emitter.events.get(0)).sequence());
+        assertThat(delta.changed()).extracting(TrendingRankResponse::postId).containsExactly(2L, 1L);
+        assertThat(delta.changed().get(0).score()).isEqualTo(503.0);
+        assertThat(delta.removed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바뀐 것이 없으면 tick에서 아무것도 보내지 않는다")
+    void tick_sendsNothingWhenUnchanged() {
+        // given
+        ranking.set(List.of(post(1L, 3.0)));
+        RecordingEmitter emitter = subscribe(null);
+        sender.runAll();
+
+        // when
+        service.tick();
+        sender.runAll();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자는 중간 변경분을 버리고 밀린 게 풀리면 최신 전체 순위를 한 번 받는다")
+    void tick_slowSubscriberDropsIntermediateDeltas() {
+        // given
+        ranking.set(List.of(post(1L, 1.0)));
+        RecordingEmitter emitter = subscribe(null);
+        sender.runAll();
+
+        // when: sender가 밀려 있는 동안 세 번 바뀐다
+        for (int i = 2; i <= 4; i++) {
+            ranking.set(List.of(post((long) i, i), post(1L, 1.0)));
+            clock.addAndGet(1_000);
+            service.tick();
+        }
+        sender.runAll();
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+        TrendingSnapshotResponse resync = (TrendingSnapshotResponse) emitter.events.get(1);
+        assertThat(resync.ranks()).extracting(TrendingRankResponse::postId).containsExactly(4L, 1L);
+        assertThat(meterRegistry.get("trending.stream.dropped").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("trending.stream.events").tag("type", "delta").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독은 닫히고 다음 tick에서 연결 수에서 빠진다")
+    void tick_removesFailedSubscribers() {
+        // given
+        ranking.set(List.of(post(1L, 1.0)));
+        RecordingEmitter healthy = subscribe(PostCategory.FOOD);
+        RecordingEmitter broken = subscribe(PostCategory.FOOD);
+        broken.failing = true;
+        sender.runAll();
+        assertThat(meterRegistry.get("trending.stream.connections").gauge().value()).isEqualTo(2.0);
+
+        // when
+        ranking.set(List.of(post(2L, 5.0), post(1L, 1.0)));
+        service.tick();
+        sender.runAll();
+
+        // then
+        assertThat(service.connectionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("trending.stream.connections").gauge().value()).isEqualTo(1.0);
+        assertThat(healthy.events).hasSize(2);
+        assertThat(broken.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시간에 따른 감쇠만 있었다면 변경분이 없고, 순위에서 빠진 게시글은 removed로 알린다")
+    void diff_ignoresUniformDecayAndReportsRemoved() {
+        // given
+        double halfLife = HALF_LIFE.toMillis();
+        TrendingSnapshotResponse previous = new TrendingSnapshotResponse(1L, null, T0, List.of(
+                new TrendingRankResponse(1L, 1, 8.0),
+                new TrendingRankResponse(2L, 2, 4.0)));
+        TrendingSnapshotResponse decayed = new TrendingSnapshotResponse(2L, null, T0 + HALF_LIFE.toMillis(), List.of(
+                new TrendingRankResponse(1L, 1, 4.0),
+                new TrendingRankResponse(2L, 2, 2.0)));
+        TrendingSnapshotResponse replaced = new TrendingSnapshotResponse(3L, null, T0 + HALF_LIFE.toMillis(), List.of(
+                new TrendingRankResponse(1L, 1, 4.0),
+                new TrendingRankResponse(3L, 2, 3.0)));
+
+        // when & then
+        assertThat(TrendingStreamService.diff(previous, decayed, halfLife)).isNull();
+
+        TrendingDeltaResponse delta = TrendingStreamService.diff(previous, replaced, halfLife);
+        assertThat(delta.changed()).containsExactly(new TrendingRankResponse(3L, 2, 3.0));
+        assertThat(delta.removed()).containsExactly(2L);
+    }
+
+    private RecordingEmitter subscribe(PostCategory category) {
+        service.subscribe(category);
+        return emitters.remove();
+    }
+
+    private static TrendingPostResponse post(Long postId, double score) {
+        return new TrendingPostResponse(postId, PostCategory.TECH, score);
+    }
+
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Object> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(data -> data instanceof TrendingSnapshotResponse || data instanceof TrendingDeltaResponse)
+                    .forEach(events::add);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sungho.trendboard.application.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 회원을 여러 번 더해도 순 방문자 수는 한 번만 센다")
+    void add_duplicateMembers_countedOnce() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sketch.add(1L);
+            sketch.add(2L);
+            sketch.add(3L);
+        }
+
+        // then
+        assertThat(sketch.estimate()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("순차적인 회원 id 10만 개의 순 방문자 수를 오차 5% 이내로 추정한다")
+    void estimate_largeCardinality_withinErrorBound() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        int members = 100_000;
+
+        // when
+        for (long memberId = 1; memberId <= members; memberId++) {
+            sketch.add(memberId);
+        }
+
+        // then
+        assertThat((double) sketch.estimate()).isCloseTo(members, within(members * 0.05));
+    }
+
+    @Test
+    @DisplayName("병합한 스케치와 합집합 추정은 겹치는 회원을 한 번만 센다")
+    void merge_countsOverlapOnce() {
+        // given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long memberId = 1; memberId <= 3_000; memberId++) {
+            first.add(memberId);
+        }
+        for (long memberId = 2_001; memberId <= 5_000; memberId++) {
+            second.add(memberId);
+        }
+
+        // when
+        long union = HyperLogLog.estimateUnion(first, second);
+        first.merge(second);
+
+        // then
+        assertThat((double) union).isCloseTo(5_000, within(5_000 * 0.05));
+        assertThat(first.estimate()).isEqualTo(union);
+    }
+
+    @Test
+    @DisplayName("방문자가 적으면 희소 형식으로, 많으면 레지스터 전체로 직렬화하고 그대로 복원한다")
+    void toBytes_roundTripsSparseAndDense() {
+        // given
+        HyperLogLog small = new HyperLogLog();
+        HyperLogLog large = new HyperLogLog();
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            small.add(memberId);
+        }
+        for (long memberId = 1; memberId <= 50_000; memberId++) {
+            large.add(memberId);
+        }
+
+        // when
+        byte[] smallBytes = small.toBytes();
+        byte[] largeBytes = large.toBytes();
+
+        // then
+        assertThat(smallBytes).hasSizeLessThanOrEqualTo(1 + 10 * 3);
+        assertThat(largeBytes).hasSize(1 + HyperLogLog.REGISTER_COUNT);
+        assertThat(HyperLogLog.fromBytes(smallBytes).estimate()).isEqualTo(small.estimate());
+        assertThat(HyperLogLog.fromBytes(largeBytes).estimate()).isEqualTo(large.estimate());
+        assertThat(HyperLogLog.fromBytes(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 직렬화 형식이면 IllegalArgumentException이 발생한다")
+    void fromBytes_unknownFormat_throws() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{7, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
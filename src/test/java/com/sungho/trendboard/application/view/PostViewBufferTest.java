@@ -0,0 +1,129 @@
+package com.sungho.trendboard.application.view;
+
+import com.sungho.trendboard.application.view.PostViewBuffer.ViewDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PostViewBufferTest {
+
+    @Test
+    @DisplayName("한 게시글을 여러 스레드가 동시에 조회해도 flush 중 조회 수가 유실되지 않는다")
+    void record_concurrentOnSinglePost_noLostViewsWhileDraining() throws Exception {
+        // given
+        PostViewBuffer buffer = new PostViewBuffer();
+        int threadCount = 200;
+        int perThread = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong drained = new AtomicLong();
+        HyperLogLog viewers = new HyperLogLog();
+
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                collect(buffer.drain(), drained, viewers);
+            }
+        });
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            long memberId = i;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < perThread; j++) {
+                    buffer.record(1L, memberId);
+                }
+            }));
+        }
+
+        // when
+        drainer.start();
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        running.set(false);
+        drainer.join();
+        collect(buffer.drain(), drained, viewers);
+
+        // then
+        assertThat(drained).hasValue((long) threadCount * perThread);
+        assertThat((double) viewers.estimate()).isCloseTo(threadCount, within(threadCount * 0.05));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비로그인 조회는 조회 수에만 더하고 순 방문자에는 넣지 않는다")
+    void record_anonymousView_countsViewOnly() {
+        // given
+        PostViewBuffer buffer = new PostViewBuffer();
+
+        // when
+        buffer.record(1L, null);
+        buffer.record(1L, 10L);
+        buffer.record(1L, 10L);
+
+        // then
+        assertThat(buffer.pendingViews(1L)).isEqualTo(3L);
+        assertThat(buffer.estimateUniqueViewers(1L, new HyperLogLog())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("미반영 회원과 반영된 스케치를 합쳐 순 방문자를 추정한다")
+    void estimateUniqueViewers_unionsPendingAndPersisted() {
+        // given
+        PostViewBuffer buffer = new PostViewBuffer();
+        HyperLogLog persisted = new HyperLogLog();
+        persisted.add(1L);
+        persisted.add(2L);
+        buffer.record(1L, 2L);
+        buffer.record(1L, 3L);
+
+        // when & then
+        assertThat(buffer.estimateUniqueViewers(1L, persisted)).isEqualTo(3L);
+        assertThat(buffer.estimateUniqueViewers(99L, persisted)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패해 되돌린 집계는 새 조회와 합쳐져 다음 drain에 포함된다")
+    void restore_mergesWithNewViews() {
+        // given
+        PostViewBuffer buffer = new PostViewBuffer();
+        buffer.record(1L, 10L);
+        ViewDelta failed = buffer.drain().get(1L);
+        buffer.record(1L, 20L);
+
+        // when
+        buffer.restore(1L, failed);
+
+        // then
+        ViewDelta delta = buffer.drain().get(1L);
+        assertThat(delta.viewCount()).isEqualTo(2L);
+        assertThat(delta.viewers().estimate()).isEqualTo(2L);
+    }
+
+    private static void collect(Map<Long, ViewDelta> deltas, AtomicLong drained, HyperLogLog viewers) {
+        ViewDelta delta = deltas.get(1L);
+        if (delta != null) {
+            drained.addAndGet(delta.viewCount());
+            viewers.merge(delta.viewers());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
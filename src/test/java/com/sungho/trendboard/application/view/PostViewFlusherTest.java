@@ -0,0 +1,207 @@
+package com.sungho.trendboard.application.view;
+
+import com.sungho.trendboard.application.view.PostViewBuffer.ViewDelta;
+import com.sungho.trendboard.application.view.PostViewStatCache.PersistedViews;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class PostViewFlusherTest {
+
+    private PostViewBuffer buffer;
+    private PostViewStatCache statCache;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private PostViewFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewBuffer();
+        statCache = mock(PostViewStatCache.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        flusher = new PostViewFlusher(buffer, statCache, jdbcTemplate, mock(PlatformTransactionManager.class),
+                meterRegistry, 1);
+    }
+
+    @Test
+    @DisplayName("기존 스케치를 잠가 읽고 병합한 뒤 조회 수 증분과 함께 upsert 하고 캐시를 새 값으로 교체한다")
+    @SuppressWarnings("unchecked")
+    void flush_mergesExistingSketchAndUpserts() throws Exception {
+        // given
+        HyperLogLog existing = new HyperLogLog();
+        existing.add(100L);
+        ResultSet row = mock(ResultSet.class);
+        given(row.getLong("post_id")).willReturn(1L);
+        given(row.getLong("view_count")).willReturn(10L);
+        given(row.getBytes("unique_sketch")).willReturn(existing.toBytes());
+        willAnswer(invocation -> {
+            Long postId = invocation.getArgument(2);
+            if (postId == 1L) {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            }
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        buffer.record(2L, null);
+        buffer.record(1L, 100L);
+        buffer.record(1L, 200L);
+
+        // when
+        flusher.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), captor.capture());
+        Object[] first = captor.getAllValues().get(0).get(0);
+        Object[] second = captor.getAllValues().get(1).get(0);
+        assertThat(first).startsWith(1L, 2L, 2L);
+        assertThat(second).startsWith(2L, 1L, 0L);
+
+        ArgumentCaptor<PersistedViews> cached = ArgumentCaptor.forClass(PersistedViews.class);
+        then(statCache).should().put(eq(1L), cached.capture());
+        assertThat(cached.getValue().viewCount()).isEqualTo(12L);
+        assertThat(cached.getValue().viewers().estimate()).isEqualTo(2L);
+        assertThat(meterRegistry.get("view.flush.size").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("view.flush.views").summary().totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 청크부터의 집계는 버퍼로 되돌린다")
+    void flush_onFailure_restoresUnappliedViews() {
+        // given
+        buffer.record(1L, 10L);
+        buffer.record(2L, 20L);
+        buffer.record(2L, 21L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willReturn(new int[]{1})
+                .willThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        flusher.flush();
+
+        // then
+        Map<Long, ViewDelta> remaining = buffer.drain();
+        assertThat(remaining).containsOnlyKeys(2L);
+        assertThat(remaining.get(2L).viewCount()).isEqualTo(2L);
+        assertThat(remaining.get(2L).viewers().estimate()).isEqualTo(2L);
+        then(statCache).should(never()).put(eq(2L), any());
+        assertThat(meterRegistry.get("view.flush.size").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("교착으로 롤백된 청크는 같은 청크를 다시 실행해 반영한다")
+    void flush_onDeadlock_retriesChunk() {
+        // given
+        buffer.record(1L, 10L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new PessimisticLockingFailureException("Deadlock found when trying to get lock"))
+                .willReturn(new int[]{1});
+
+        // when
+        flusher.flush();
+
+        // then
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), anyList());
+        assertThat(buffer.drain()).isEmpty();
+        then(statCache).should().put(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("교착이 계속되면 재시도 횟수를 넘긴 뒤 집계를 버퍼로 되돌린다")
+    void flush_onRepeatedDeadlock_restoresViews() {
+        // given
+        buffer.record(1L, 10L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new PessimisticLockingFailureException("Deadlock found when trying to get lock"));
+
+        // when
+        flusher.flush();
+
+        // then
+        then(jdbcTemplate).should(times(4)).batchUpdate(anyString(), anyList());
+        assertThat(buffer.drain().get(1L).viewCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작하지 못해도 집계와 미반영 시작 시각을 버퍼로 되돌린다")
+    void flush_onTransactionFailure_restoresViewsAndPendingSince() {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willThrow(new CannotCreateTransactionException("no connection"));
+        flusher = new PostViewFlusher(buffer, statCache, jdbcTemplate, transactionManager, meterRegistry, 1);
+        long beforeRecord = System.nanoTime();
+        buffer.record(1L, 10L);
+        long afterRecord = System.nanoTime();
+
+        // when
+        flusher.flush();
+
+        // then
+        assertThat(buffer.takePendingSinceNanos()).isBetween(beforeRecord, afterRecord);
+        assertThat(buffer.drain().get(1L).viewCount()).isEqualTo(1L);
+        then(statCache).should(never()).put(anyLong(), any());
+        assertThat(meterRegistry.get("view.flush.lag").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장된 스케치가 손상돼 있으면 빈 스케치에서 다시 세고 조회 수는 이어서 반영한다")
+    void flush_withCorruptSketch_restartsSketch() throws Exception {
+        // given
+        ResultSet row = mock(ResultSet.class);
+        given(row.getLong("post_id")).willReturn(1L);
+        given(row.getLong("view_count")).willReturn(10L);
+        given(row.getBytes("unique_sketch")).willReturn(new byte[]{1, 2, 3});
+        willAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        buffer.record(1L, 100L);
+
+        // when
+        flusher.flush();
+
+        // then
+        ArgumentCaptor<PersistedViews> cached = ArgumentCaptor.forClass(PersistedViews.class);
+        then(statCache).should().put(eq(1L), cached.capture());
+        assertThat(cached.getValue().viewCount()).isEqualTo(11L);
+        assertThat(cached.getValue().viewers().estimate()).isEqualTo(1L);
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쌓인 조회가 없으면 DB에 접근하지 않는다")
+    void flush_withoutViews_skipsUpsert() {
+        // when
+        flusher.flush();
+
+        // then
+        then(jdbcTemplate).shouldHaveNoInteractions();
+        then(statCache).should(never()).put(anyLong(), any());
+    }
+}
@@ -0,0 +1,57 @@
+package com.sungho.trendboard.application.view;
+
+import com.sungho.trendboard.application.view.PostViewService.ViewStats;
+import com.sungho.trendboard.application.view.PostViewStatCache.PersistedViews;
+import com.sungho.trendboard.domain.MemberRole;
+import com.sungho.trendboard.global.domain.CurrentUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PostViewServiceTest {
+
+    private PostViewBuffer buffer;
+    private PostViewStatCache statCache;
+    private PostViewService postViewService;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewBuffer();
+        statCache = mock(PostViewStatCache.class);
+        postViewService = new PostViewService(buffer, statCache);
+    }
+
+    @Test
+    @DisplayName("DB에 반영된 집계와 아직 반영되지 않은 조회를 합쳐 보여준다")
+    void getStats_combinesPersistedAndPending() {
+        // given
+        HyperLogLog persisted = new HyperLogLog();
+        persisted.add(1L);
+        persisted.add(2L);
+        given(statCache.get(10L)).willReturn(new PersistedViews(40L, persisted));
+
+        postViewService.recordView(10L, new CurrentUser(2L, MemberRole.USER));
+        postViewService.recordView(10L, new CurrentUser(3L, MemberRole.USER));
+        postViewService.recordView(10L, null);
+
+        // when
+        ViewStats stats = postViewService.getStats(10L);
+
+        // then
+        assertThat(stats).isEqualTo(new ViewStats(43L, 3L));
+    }
+
+    @Test
+    @DisplayName("조회 기록이 없는 게시글은 0을 반환한다")
+    void getStats_withoutViews_returnsZero() {
+        // given
+        given(statCache.get(10L)).willReturn(PersistedViews.empty());
+
+        // when & then
+        assertThat(postViewService.getStats(10L)).isEqualTo(new ViewStats(0L, 0L));
+    }
+}
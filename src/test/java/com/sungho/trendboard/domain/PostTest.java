@@ -104,10 +104,12 @@ class PostTest {
         Tag tag = mock(Tag.class);
         given(tag.getId()).willReturn(1L);
 
-        post.addPostTag(tag);
-        post.addPostTag(tag);
+        boolean first = post.addPostTag(tag);
+        boolean second = post.addPostTag(tag);
 
         assertThat(post.getPostTags()).hasSize(1);
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
     }
 
     @Test
@@ -147,6 +149,98 @@ class PostTest {
         assertThat(post.getHashtags()).containsExactly("브런치");
     }
 
+    @Test
+    void replacePostTags_태그가_바뀌면_수정_시각을_갱신한다() {
+        Post post = createPost();
+        post.addPostTag(tag(1L));
+
+        post.replacePostTags(List.of(tag(2L)));
+
+        assertThat(post.getTagIds()).containsExactly(2L);
+        assertThat(post.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void replacePostTags_같은_태그로_교체하면_수정_시각을_건드리지_않는다() {
+        Post post = createPost();
+        post.addPostTag(tag(1L));
+
+        post.replacePostTags(List.of(tag(1L)));
+
+        assertThat(post.getTagIds()).containsExactly(1L);
+        assertThat(post.getUpdatedAt()).isNull();
+    }
+
+    @Test
+    void replacePostTags_추가되고_제거된_태그_id를_반환한다() {
+        Post post = createPost();
+        post.addPostTag(tag(1L));
+        post.addPostTag(tag(2L));
+
+        PostTagDiff diff = post.replacePostTags(List.of(tag(2L), tag(3L)));
+
+        assertThat(diff.addedTagIds()).containsExactly(3L);
+        assertThat(diff.removedTagIds()).containsExactly(1L);
+        assertThat(post.replacePostTags(List.of(tag(2L), tag(3L))).isEmpty()).isTrue();
+    }
+
+    @Test
+    void replaceHashtags_해시태그가_바뀌면_수정_시각을_갱신한다() {
+        Post post = createPost();
+        post.addHashtag("브런치");
+
+        post.replaceHashtags(List.of("카페"));
+
+        assertThat(post.getHashtags()).containsExactly("카페");
+        assertThat(post.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void replacePostTags_그대로_남는_태그_행은_유지하고_바뀐_태그만_추가_제거한다() {
+        Post post = createPost();
+        post.addPostTag(tag(1L));
+        post.addPostTag(tag(2L));
+        PostTag kept = post.getPostTags().get(1);
+
+        post.replacePostTags(List.of(tag(3L), tag(2L), tag(3L)));
+
+        assertThat(post.getTagIds()).containsExactly(2L, 3L);
+        assertThat(post.getPostTags().get(0)).isSameAs(kept);
+        assertThat(post.addPostTag(tag(3L))).isFalse();
+        assertThat(post.addPostTag(tag(1L))).isTrue();
+    }
+
+    @Test
+    void replaceHashtags_그대로_남는_해시태그_행은_유지하고_바뀐_것만_추가_제거한다() {
+        Post post = createPost();
+        post.addHashtag("브런치");
+        post.addHashtag("서울");
+        PostHashtag kept = post.getPostHashtags().get(1);
+
+        post.replaceHashtags(List.of(" 서울 ", "카페", "카페"));
+
+        assertThat(post.getHashtags()).containsExactly("서울", "카페");
+        assertThat(post.getPostHashtags().get(0)).isSameAs(kept);
+    }
+
+    @Test
+    void replaceHashtags_순서만_다르면_수정_시각을_건드리지_않는다() {
+        Post post = createPost();
+        post.addHashtag("브런치");
+        post.addHashtag("서울");
+
+        post.replaceHashtags(List.of("서울", "브런치"));
+
+        assertThat(post.getHashtags()).containsExactly("브런치", "서울");
+        assertThat(post.getUpdatedAt()).isNull();
+    }
+
+    private Tag tag(Long id) {
+        Tag tag = mock(Tag.class);
+        given(tag.getId()).willReturn(id);
+        return tag;
+    }
+
     private Post createPost() {
         return Post.builder()
                 .memberId(1L)
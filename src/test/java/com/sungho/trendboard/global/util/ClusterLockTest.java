@@ -0,0 +1,93 @@
+package com.sungho.trendboard.global.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class ClusterLockTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private Connection connection;
+    private PreparedStatement releaseStatement;
+    private ClusterLock clusterLock;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        connection = mock(Connection.class);
+        given(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+        PreparedStatement acquireStatement = mock(PreparedStatement.class);
+        ResultSet acquired = mock(ResultSet.class);
+        given(connection.prepareStatement("SELECT GET_LOCK(?, 0)")).willReturn(acquireStatement);
+        given(acquireStatement.executeQuery()).willReturn(acquired);
+        given(acquired.next()).willReturn(true);
+        given(acquired.getInt(1)).willReturn(1);
+
+        releaseStatement = mock(PreparedStatement.class);
+        given(connection.prepareStatement("SELECT RELEASE_LOCK(?)")).willReturn(releaseStatement);
+        clusterLock = new ClusterLock(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("잠금 해제에 실패하면 잠금을 쥔 커넥션을 풀에서 폐기하고 작업 결과는 돌려준다")
+    void tryRun_releaseFailure_evictsPooledConnection() throws SQLException {
+        // given
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        given(jdbcTemplate.getDataSource()).willReturn(dataSource);
+        given(releaseStatement.executeQuery()).willThrow(new SQLException("communications link failure"));
+
+        // when
+        assertThat(clusterLock.tryRun("job", () -> "done")).contains("done");
+
+        // then
+        then(dataSource).should().evictConnection(connection);
+    }
+
+    @Test
+    @DisplayName("Hikari 풀이 아니면 잠금 해제에 실패한 커넥션을 abort 해 물리 연결을 끊는다")
+    void tryRun_releaseFailure_abortsConnection() throws SQLException {
+        // given
+        given(jdbcTemplate.getDataSource()).willReturn(mock(DataSource.class));
+        given(releaseStatement.executeQuery()).willThrow(new SQLException("communications link failure"));
+
+        // when
+        clusterLock.tryRun("job", () -> "done");
+
+        // then
+        then(connection).should().abort(any());
+    }
+
+    @Test
+    @DisplayName("잠금을 정상적으로 풀면 커넥션을 그대로 풀에 돌려준다")
+    void tryRun_released_keepsConnection() throws SQLException {
+        // given
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        given(jdbcTemplate.getDataSource()).willReturn(dataSource);
+        given(releaseStatement.executeQuery()).willReturn(mock(ResultSet.class));
+
+        // when
+        clusterLock.tryRun("job", () -> "done");
+
+        // then
+        then(dataSource).should(never()).evictConnection(any());
+        then(connection).should(never()).abort(any());
+    }
+}
@@ -0,0 +1,260 @@
+package com.sungho.trendboard.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 20_000;
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("id에 발급 시각과 머신ID가 41/10/12 비트 배치로 들어간다")
+    void nextId_keepsBitLayout() {
+        // given
+        Snowflake snowflake = new Snowflake(513L);
+        long before = System.currentTimeMillis();
+
+        // when
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(Snowflake.timestampOf(id)).isBetween(before, System.currentTimeMillis());
+        assertThat((id >>> 12) & 1023).isEqualTo(513L);
+        assertThat(id).isGreaterThanOrEqualTo(Snowflake.minIdAt(before));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없고 스레드마다 증가한다")
+    void nextId_isUniqueAndMonotonicAcrossThreads() throws Exception {
+        assertUniqueAndMonotonicPerThread(new Snowflake(1L));
+    }
+
+    @Test
+    @DisplayName("시퀀스 구간을 빌려 발급하는 모드도 중복이 없고 스레드마다 증가한다")
+    void nextId_withLease_isUniqueAndMonotonicPerThread() throws Exception {
+        assertUniqueAndMonotonicPerThread(new Snowflake(1L, 64));
+    }
+
+    @Test
+    @DisplayName("한 스레드에서 밀리초당 시퀀스를 다 쓰면 다음 밀리초로 넘어가며 계속 증가한다")
+    void nextId_rollsOverToNextMillisWhenSequenceExhausted() {
+        // given
+        Snowflake snowflake = new Snowflake(1L);
+        long previous = snowflake.nextId();
+
+        // when & then
+        for (int i = 0; i < 3 * 4096; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("시퀀스를 다 쓰면 여러 번 재우며 기다려도 그 호출을 한 번만 세고 다음 밀리초에 이어서 발급한다")
+    void nextId_countsSequenceExhaustionOncePerCall() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.WAIT, clock);
+        for (int i = 0; i < 4096; i++) {
+            snowflake.nextId();
+        }
+        clock.then(NOW, NOW, NOW, NOW + 1);
+
+        // when
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(Snowflake.timestampOf(id)).isEqualTo(NOW + 1);
+        assertThat(id & 4095).isZero();
+        assertThat(meterRegistry.counter("snowflake.sequence.exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("WAIT 정책은 되감긴 시계가 따라올 때까지 기다린 뒤 마지막 시각 이후로 발급한다")
+    void nextId_waitPolicy_waitsForClockToCatchUp() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.WAIT, clock);
+        long before = snowflake.nextId();
+        clock.then(NOW - 5, NOW + 1);
+
+        // when
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(id).isGreaterThan(before);
+        assertThat(Snowflake.timestampOf(id)).isEqualTo(NOW + 1);
+        assertThat(rollbackCount("waited")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("되감김 지표는 되감김마다 한 번 세고, 시계가 따라잡은 뒤 다시 되감기면 새로 센다")
+    void nextId_countsRollbackOncePerEpisode() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.REFUSE, clock);
+        snowflake.nextId();
+        clock.then(NOW - 1);
+
+        // when: 같은 되감김 안에서 여러 번 거부
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        assertThat(rollbackCount("refused")).isEqualTo(1.0);
+
+        // when: 따라잡은 뒤 다시 되감김
+        clock.then(NOW + 1, NOW);
+        snowflake.nextId();
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(rollbackCount("refused")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("WAIT 정책은 최대 대기 시간보다 크게 되감기면 발급을 거부한다")
+    void nextId_waitPolicy_refusesBeyondMaxWait() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.WAIT, clock);
+        snowflake.nextId();
+        clock.then(NOW - 200);
+
+        // when & then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+        assertThat(rollbackCount("refused")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("LOGICAL 정책은 기다리지 않고 마지막 시각을 이어 쓰며, 시퀀스를 다 쓰면 다음 밀리초를 앞당겨 쓴다")
+    void nextId_logicalPolicy_borrowsTime() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.LOGICAL, clock);
+        long previous = snowflake.nextId();
+        clock.then(NOW - 1_000);
+
+        // when & then
+        for (int i = 0; i < 4096; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(Snowflake.timestampOf(previous)).isEqualTo(NOW + 1);
+        // 4096번 발급해도 되감김 한 번으로 센다.
+        assertThat(rollbackCount("borrowed")).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("snowflake.sequence.exhausted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("REFUSE 정책은 시계가 조금만 되감겨도 발급을 거부하고, 시계가 따라오면 다시 발급한다")
+    void nextId_refusePolicy_refusesUntilClockCatchesUp() {
+        // given
+        ScriptedClock clock = new ScriptedClock(NOW);
+        Snowflake snowflake = snowflake(Snowflake.RollbackPolicy.REFUSE, clock);
+        long before = snowflake.nextId();
+        clock.then(NOW - 1);
+
+        // when & then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+        clock.then(NOW);
+        assertThat(snowflake.nextId()).isGreaterThan(before);
+        assertThat(rollbackCount("refused")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("머신ID나 대여 크기가 범위를 벗어나면 예외를 던진다")
+    void constructor_validatesRanges() {
+        assertThatThrownBy(() -> new Snowflake(1024L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(1L, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(1L, 4097)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Snowflake snowflake(Snowflake.RollbackPolicy policy, LongSupplier clock) {
+        return new Snowflake(1L, 1, policy, Duration.ofMillis(100), clock, meterRegistry);
+    }
+
+    private double rollbackCount(String action) {
+        return meterRegistry.counter("snowflake.clock.rollback", "action", action).count();
+    }
+
+    private void assertUniqueAndMonotonicPerThread(Snowflake snowflake) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tasks.add(() -> {
+                    long[] ids = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = snowflake.nextId();
+                    }
+                    return ids;
+                });
+            }
+
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                    all.add(ids[i]);
+                }
+            }
+            assertThat(all).hasSize(THREADS * IDS_PER_THREAD);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 정해 둔 시각을 차례로 돌려주고, 마지막 시각은 계속 돌려준다.
+     */
+    private static final class ScriptedClock implements LongSupplier {
+
+        private final ArrayDeque<Long> script = new ArrayDeque<>();
+        private long last;
+
+        ScriptedClock(long start) {
+            this.last = start;
+        }
+
+        void then(long... millis) {
+            for (long m : millis) {
+                script.add(m);
+            }
+        }
+
+        @Override
+        public long getAsLong() {
+            if (!script.isEmpty()) {
+                last = script.poll();
+            }
+            return last;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.sungho.trendboard.global.util;
+
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 DB를 공유하는 여러 노드가 동시에 기동하는 상황을 노드마다 하나씩 만든 {@link SnowflakeWorkerLease}로 재현한다.
+ */
+@SpringBootTest(properties = {
+        "app.snowflake.lease-ttl=2h",
+        "app.snowflake.heartbeat-interval=1h"
+})
+class SnowflakeWorkerLeaseConcurrencyTest extends MySqlContainerSupport {
+
+    private static final int NODES = 32;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> claimed = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        // 이 컨텍스트 자신의 임대는 남겨 두고 테스트에서 차지한 id만 지운다.
+        claimed.forEach(id -> jdbcTemplate.update("DELETE FROM snowflake_worker WHERE machine_id = ?", id));
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 기동해도 모두 서로 다른 machine id를 임대받는다")
+    void acquire_concurrentNodesGetDistinctIds() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<OptionalLong>> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            SnowflakeWorkerLease node = newNode();
+            nodes.add(() -> {
+                start.await();
+                return node.acquire();
+            });
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        try {
+            List<Future<OptionalLong>> futures = nodes.stream().map(executor::submit).toList();
+            start.countDown();
+            for (Future<OptionalLong> future : futures) {
+                future.get().ifPresent(claimed::add);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(claimed).hasSize(NODES).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 id는 다른 노드가 다시 가져간다")
+    void acquire_reclaimsExpiredLease() {
+        // given
+        SnowflakeWorkerLease crashed = newNode();
+        long expiredId = crashed.acquire().orElseThrow();
+        claimed.add(expiredId);
+        jdbcTemplate.update("UPDATE snowflake_worker SET leased_until = NOW(6) - INTERVAL 1 SECOND WHERE machine_id = ?",
+                expiredId);
+
+        // when
+        SnowflakeWorkerLease next = newNode();
+        OptionalLong reclaimed = next.acquire();
+
+        // then
+        assertThat(reclaimed).hasValue(expiredId);
+    }
+
+    private SnowflakeWorkerLease newNode() {
+        return new SnowflakeWorkerLease(jdbcTemplate, Duration.ofMinutes(2), Duration.ofSeconds(10), Snowflake::new);
+    }
+}
@@ -0,0 +1,189 @@
+package com.sungho.trendboard.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class SnowflakeWorkerLeaseTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SnowflakeWorkerLease lease;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        lease = new SnowflakeWorkerLease(jdbcTemplate, Duration.ofSeconds(60), Duration.ofSeconds(10), Snowflake::new);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SnowflakeIdGenerator.install(new Snowflake(1L));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 차지한 id는 건너뛰고 다음 빈 id를 임대받아 생성기에 설치한다")
+    void afterSingletonsInstantiated_claimsNextFreeId() {
+        // given
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong()))
+                .willThrow(new DuplicateKeyException("duplicate"));
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(1), anyString(), anyLong())).willReturn(1);
+
+        // when
+        lease.afterSingletonsInstantiated();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(1L);
+        assertThat((SnowflakeIdGenerator.nextId() >>> 12) & 1023).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("차지할 수 있는 id가 하나도 없으면 기동을 실패시키고 id를 발급하지 않는다")
+    void afterSingletonsInstantiated_failsFastWhenNoIdAvailable() {
+        // given
+        SnowflakeIdGenerator.revoke();
+        given(jdbcTemplate.update(startsWith("INSERT"), any(), anyString(), anyLong()))
+                .willThrow(new DuplicateKeyException("duplicate"));
+
+        // when & then
+        assertThatThrownBy(() -> lease.afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("machine id");
+        assertThatThrownBy(SnowflakeIdGenerator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("연장할 때 임대가 다른 노드로 넘어간 것을 알면 발급을 멈추고 다음 heartbeat에서 새 id를 임대받는다")
+    void heartbeat_revokesWhenLeaseLostAndReclaimsLater() {
+        // given
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong())).willReturn(1);
+        lease.afterSingletonsInstantiated();
+        given(jdbcTemplate.update(startsWith("UPDATE snowflake_worker\nSET leased_until"), anyLong(), eq(0L), anyString()))
+                .willReturn(0);
+
+        // when
+        lease.heartbeat();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(-1L);
+        assertThatThrownBy(SnowflakeIdGenerator::nextId).isInstanceOf(IllegalStateException.class);
+
+        // when: 다음 heartbeat
+        lease.heartbeat();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(0L);
+        assertThat(SnowflakeIdGenerator.nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("DB 오류로 연장하지 못해도 임대 기간 안이면 발급을 계속한다")
+    void heartbeat_keepsLeaseOnTransientFailure() {
+        // given
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong())).willReturn(1);
+        lease.afterSingletonsInstantiated();
+        given(jdbcTemplate.update(startsWith("UPDATE snowflake_worker\nSET leased_until"), anyLong(), eq(0L), anyString()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        lease.heartbeat();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(0L);
+        assertThat(SnowflakeIdGenerator.nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("heartbeat가 늦어 발급 기한(연장 시도 시각 + ttl - heartbeat 주기)이 지나면 연장될 때까지 발급하지 않는다")
+    void nextId_stopsWhenHeartbeatIsLate() {
+        // given: 60s 임대, 10s 주기라 마지막 연장 시도 후 50s까지만 발급한다. 그 시도가 51s 전이었다.
+        AtomicLong clock = new AtomicLong(System.nanoTime() - Duration.ofSeconds(51).toNanos());
+        lease = new SnowflakeWorkerLease(jdbcTemplate, Duration.ofSeconds(60), Duration.ofSeconds(10), Snowflake::new,
+                clock::get);
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong())).willReturn(1);
+        lease.afterSingletonsInstantiated();
+
+        // when & then
+        assertThatThrownBy(SnowflakeIdGenerator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("발급 기한");
+
+        // when: 늦게라도 연장에 성공하면
+        clock.set(System.nanoTime());
+        given(jdbcTemplate.update(startsWith("UPDATE snowflake_worker\nSET leased_until"), anyLong(), eq(0L), anyString()))
+                .willReturn(1);
+        lease.heartbeat();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(0L);
+        assertThat(SnowflakeIdGenerator.nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("DB 오류로 발급 기한까지 연장하지 못하면 발급을 멈추고 임대를 놓는다")
+    void heartbeat_revokesWhenIssueDeadlinePassed() {
+        // given
+        AtomicLong clock = new AtomicLong(System.nanoTime());
+        lease = new SnowflakeWorkerLease(jdbcTemplate, Duration.ofSeconds(60), Duration.ofSeconds(10), Snowflake::new,
+                clock::get);
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong())).willReturn(1);
+        lease.afterSingletonsInstantiated();
+        given(jdbcTemplate.update(startsWith("UPDATE snowflake_worker\nSET leased_until"), anyLong(), eq(0L), anyString()))
+                .willThrow(new QueryTimeoutException("timeout"));
+        clock.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // when
+        lease.heartbeat();
+
+        // then
+        assertThat(lease.machineId()).isEqualTo(-1L);
+        assertThatThrownBy(SnowflakeIdGenerator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 아직 만료 상태일 때만 가져온다")
+    void acquire_takesOverExpiredLease() throws Exception {
+        // given
+        given(jdbcTemplate.update(startsWith("INSERT"), eq(0), anyString(), anyLong()))
+                .willThrow(new DuplicateKeyException("duplicate"));
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getInt("machine_id")).willReturn(0);
+        given(rs.getBoolean("expired")).willReturn(true);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        given(jdbcTemplate.update(startsWith("UPDATE snowflake_worker\nSET owner"), anyString(), anyLong(), eq(0)))
+                .willReturn(1);
+
+        // when & then
+        assertThat(lease.acquire()).hasValue(0L);
+    }
+
+    @Test
+    @DisplayName("임대 기간은 heartbeat 주기의 2배 이상이어야 한다")
+    void constructor_rejectsTooShortTtl() {
+        assertThatThrownBy(() -> new SnowflakeWorkerLease(jdbcTemplate, Duration.ofSeconds(15), Duration.ofSeconds(10), Snowflake::new))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
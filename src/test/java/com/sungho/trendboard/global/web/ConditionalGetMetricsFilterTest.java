@@ -0,0 +1,78 @@
+package com.sungho.trendboard.global.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetMetricsFilterTest {
+
+    private static final String ETAG = "\"p1-1-0\"";
+    private static final byte[] BODY = "{\"id\":1,\"title\":\"제목\"}".getBytes(StandardCharsets.UTF_8);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConditionalGetMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConditionalGetMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("304 응답은 같은 ETag로 마지막에 보낸 본문 크기만큼 절약량을 기록한다")
+    void notModified_recordsRatioAndBytesSaved() throws Exception {
+        // given: 최초 200 응답으로 본문 크기를 기억한다.
+        filter.doFilter(get(null), new MockHttpServletResponse(), (request, response) -> {
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, ETAG);
+            response.getOutputStream().write(BODY);
+        });
+
+        // when
+        filter.doFilter(get(ETAG), new MockHttpServletResponse(), (request, response) -> {
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, ETAG);
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        });
+        filter.doFilter(get("\"old\""), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(counter("not_modified")).isEqualTo(1.0);
+        assertThat(counter("full")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.conditional.bytes.saved").counter().count()).isEqualTo(BODY.length);
+    }
+
+    @Test
+    @DisplayName("GET이 아닌 요청은 기록하지 않는다")
+    void nonGet_isIgnored() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/posts/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(counter("full")).isZero();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("http.conditional.requests").tag("result", result).counter().count();
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,135 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 쿼리가 100만 건에서도 인덱스만으로 필터/정렬되는지 EXPLAIN으로 검증한다.
+ * 실행 계획은 데이터 분포와 통계에 따라 바뀌므로 실제 규모의 데이터를 넣고 ANALYZE 후 확인한다.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostFeedQueryPlanTest extends MySqlContainerSupport {
+
+    private static final int ROW_COUNT = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void insertPosts() {
+        // 세션 변수(cte_max_recursion_depth)가 유지되도록 한 커넥션에서 실행한다.
+        jdbcTemplate.execute((Statement statement) -> {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + ROW_COUNT);
+            statement.execute("""
+                    INSERT INTO post (id, member_id, title, content, category, like_count, deleted_at, created_at, updated_at)
+                    WITH RECURSIVE seq (n) AS (
+                        SELECT 1
+                        UNION ALL
+                        SELECT n + 1 FROM seq WHERE n < %d
+                    )
+                    SELECT n,
+                           1 + (n %% 100),
+                           CONCAT('title-', n),
+                           'content',
+                           ELT(1 + (n %% 7), 'FOOD', 'BEAUTY', 'FASHION', 'TECH', 'TRAVEL', 'LIFESTYLE', 'ETC'),
+                           0,
+                           IF(n %% 50 = 0, NOW(6), NULL),
+                           NOW(6),
+                           NOW(6)
+                    FROM seq
+                    """.formatted(ROW_COUNT));
+            statement.execute("ANALYZE TABLE post");
+            return null;
+        });
+    }
+
+    @AfterAll
+    void truncatePosts() {
+        jdbcTemplate.execute((Statement statement) -> {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("TRUNCATE TABLE post");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("카테고리 피드 첫 페이지는 복합 인덱스만으로 정렬된다")
+    void categoryFeed_firstPage_usesCompositeIndexWithoutFilesort() {
+        List<Map<String, Object>> plan = explain("""
+                SELECT * FROM post
+                WHERE category = 'TECH' AND deleted_at IS NULL
+                ORDER BY id DESC
+                LIMIT 20
+                """);
+
+        assertIndexOnlyOrdering(plan, "idx_post_category_deleted_at_id");
+    }
+
+    @Test
+    @DisplayName("카테고리 피드 깊은 커서도 복합 인덱스 범위 스캔으로 처리된다")
+    void categoryFeed_deepCursor_usesCompositeIndexWithoutFilesort() {
+        List<Map<String, Object>> plan = explain("""
+                SELECT * FROM post
+                WHERE category = 'TECH' AND deleted_at IS NULL AND id < 10000
+                ORDER BY id DESC
+                LIMIT 20
+                """);
+
+        assertIndexOnlyOrdering(plan, "idx_post_category_deleted_at_id");
+    }
+
+    @Test
+    @DisplayName("전체 피드 커서 조회는 (deleted_at, id) 인덱스로 정렬된다")
+    void latestFeed_deepCursor_usesFeedIndexWithoutFilesort() {
+        List<Map<String, Object>> plan = explain("""
+                SELECT * FROM post
+                WHERE deleted_at IS NULL AND id < 10000
+                ORDER BY id DESC
+                LIMIT 20
+                """);
+
+        assertThat(plan).hasSize(1);
+        assertThat(plan.get(0).get("type")).isNotEqualTo("ALL");
+        assertThat(String.valueOf(plan.get(0).get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    @Test
+    @DisplayName("회원 타임라인 커서 조회는 (member_id, deleted_at, id) 인덱스로 정렬된다")
+    void memberTimeline_deepCursor_usesMemberIndexWithoutFilesort() {
+        List<Map<String, Object>> plan = explain("""
+                SELECT * FROM post
+                WHERE member_id = 7 AND deleted_at IS NULL AND id < 10000
+                ORDER BY id DESC
+                LIMIT 20
+                """);
+
+        assertIndexOnlyOrdering(plan, "idx_post_member_id_deleted_at_id");
+    }
+
+    private List<Map<String, Object>> explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql);
+    }
+
+    private void assertIndexOnlyOrdering(List<Map<String, Object>> plan, String expectedKey) {
+        assertThat(plan).hasSize(1);
+        Map<String, Object> row = plan.get(0);
+        assertThat(row.get("key")).isEqualTo(expectedKey);
+        assertThat(row.get("type")).isNotEqualTo("ALL");
+        assertThat(String.valueOf(row.get("Extra"))).doesNotContain("Using filesort");
+    }
+}
@@ -0,0 +1,113 @@
+package com.sungho.trendboard.infra.repository;
+
+import com.sungho.trendboard.domain.Post;
+import com.sungho.trendboard.domain.PostCategory;
+import com.sungho.trendboard.domain.Tag;
+import com.sungho.trendboard.infra.repository.dto.PostCardRow;
+import com.sungho.trendboard.support.MySqlContainerSupport;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostQueryRepositoryTest extends MySqlContainerSupport {
+
+    @Autowired
+    private PostQueryRepository postQueryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("카드 조회는 Post 엔티티를 영속성 컨텍스트에 올리지 않고 content는 요약만 가져온다")
+    void findLatestCards_projectsWithoutManagedEntities() {
+        // given
+        Post saved = postRepository.save(post("x".repeat(500), PostCategory.FOOD));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PostCardRow> rows = postQueryRepository.findLatestCards(null, null, 20);
+
+        // then
+        assertThat(rows).extracting(PostCardRow::id).containsExactly(saved.getId());
+        assertThat(rows.get(0).excerpt()).hasSize(PostQueryRepository.EXCERPT_LENGTH);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리와 커서 조건으로 최신순 카드를 조회한다")
+    void findLatestCards_withCategoryAndCursor() {
+        // given
+        Post food1 = postRepository.save(post("내용", PostCategory.FOOD));
+        postRepository.save(post("내용", PostCategory.TECH));
+        Post food2 = postRepository.save(post("내용", PostCategory.FOOD));
+        entityManager.flush();
+
+        // when
+        List<PostCardRow> all = postQueryRepository.findLatestCards(PostCategory.FOOD, null, 20);
+        List<PostCardRow> afterCursor = postQueryRepository.findLatestCards(PostCategory.FOOD, food2.getId(), 20);
+
+        // then
+        assertThat(all).extracting(PostCardRow::id).containsExactly(food2.getId(), food1.getId());
+        assertThat(afterCursor).extracting(PostCardRow::id).containsExactly(food1.getId());
+    }
+
+    @Test
+    @DisplayName("페이지 전체의 태그 id와 해시태그를 게시글별로 묶어 반환한다")
+    void findTagIdsAndHashtagsByPostIds_groupsByPost() {
+        // given
+        Tag tag1 = tagRepository.save(Tag.create("맛집"));
+        Tag tag2 = tagRepository.save(Tag.create("서울"));
+        Post withTags = post("내용", PostCategory.FOOD);
+        withTags.addPostTag(tag1);
+        withTags.addPostTag(tag2);
+        withTags.addHashtag("핫플");
+        Post plain = post("내용", PostCategory.FOOD);
+        postRepository.saveAll(List.of(withTags, plain));
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> postIds = List.of(withTags.getId(), plain.getId());
+
+        // when
+        Map<Long, List<Long>> tagIds = postQueryRepository.findTagIdsByPostIds(postIds);
+        Map<Long, List<String>> hashtags = postQueryRepository.findHashtagsByPostIds(postIds);
+
+        // then
+        assertThat(tagIds.get(withTags.getId())).containsExactly(tag1.getId(), tag2.getId());
+        assertThat(tagIds).doesNotContainKey(plain.getId());
+        assertThat(hashtags.get(withTags.getId())).containsExactly("핫플");
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    private int managedEntityCount() {
+        return entityManager.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal()
+                .getNumberOfManagedEntities();
+    }
+
+    private Post post(String content, PostCategory category) {
+        return Post.builder()
+                .memberId(1L)
+                .title("제목")
+                .content(content)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sungho.trendboard.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 실행하는 SQL을 현재 스레드 단위로 기록한다.
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}로 등록해 사용한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    public static int count() {
+        return STATEMENTS.get().size();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}